@@ -0,0 +1,50 @@
+package com.github.jasonnming.results.result.basic;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 包含一个以{@code double[]}保存的{@link List}类型数据的结果，不含分页信息。
+ * <p>
+ * 数据不以装箱对象保存，{@link #getData()}返回的是按需装箱的只读视图，可以通过{@link #getDouble(int)}、{@link #toDoubleArray()}直接读取基本类型的数据。
+ * 序列化（包括JSON）时与元素类型为{@link Double}的{@link ListResult}一致。
+ *
+ * @apiNote 通过此接口获取结果码（{@link #getResultCode()}）所得到的结果码类型是{@link ResultCode}，
+ *          如需指定具体结果码类型的请使用{@link com.github.jasonnming.results.result.generic.DoubleListResult}接口。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface DoubleListResult
+        extends ListResult<Double>
+{
+    /**
+     * 获取数据个数。
+     *
+     * @return 数据个数，不含数据时为{@code 0}
+     */
+    int size();
+
+    /**
+     * 获取指定位置的数据。
+     *
+     * @param index 数据的位置
+     *
+     * @return 指定位置的数据
+     *
+     * @throws IndexOutOfBoundsException 如果{@code index}超出范围（包括不含数据时），则抛出此异常
+     */
+    double getDouble(int index);
+
+    /**
+     * 获取全部数据的副本。
+     *
+     * @return 全部数据的副本，不含数据时返回{@code null}
+     */
+    @Nullable
+    double[] toDoubleArray();
+}
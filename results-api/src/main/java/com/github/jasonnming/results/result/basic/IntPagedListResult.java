@@ -0,0 +1,21 @@
+package com.github.jasonnming.results.result.basic;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+
+/**
+ * 包含一个以{@code int[]}保存的{@link List}类型数据的结果，包含分页信息。
+ *
+ * @apiNote 通过此接口获取结果码（{@link #getResultCode()}）所得到的结果码类型是{@link ResultCode}，
+ *          如需指定具体结果码类型的请使用{@link com.github.jasonnming.results.result.generic.IntPagedListResult}接口。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface IntPagedListResult
+        extends IntListResult, PagedListResult<Integer>
+{
+}
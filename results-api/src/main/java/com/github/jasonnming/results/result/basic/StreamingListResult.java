@@ -0,0 +1,74 @@
+package com.github.jasonnming.results.result.basic;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+
+/**
+ * 数据延迟求值的{@link ListResult}，数据在读取时才从数据源中逐个取出，通常由序列化器通过{@link #iterator()}或{@link #stream()}直接写出，
+ * 不会整体缓存在堆中。数据源只能读取一次，带分页信息时同时实现{@link PagedListResult}。
+ * <p>
+ * {@link #getData()}读取剩余的全部数据并返回满足{@link List}约定的列表，此后{@link #iterator()}及{@link #stream()}遍历该列表；
+ * 已通过{@link #iterator()}或{@link #stream()}开始读取数据源后不能再调用{@link #getData()}。
+ * 数据读取完毕或读取失败后关闭数据源，未被读取时（如序列化前出错或被丢弃）需要通过{@link #close()}关闭。
+ * <p>
+ * Java序列化及{@code results-codec}的编码都不预先读取全部数据，而是逐个读取并分块写出。但{@link java.io.ObjectOutputStream}在{@code reset()}前仍引用已写出的对象，
+ * 编码的结果也保存在内存中，需要限制内存占用时应使用{@code results-jackson}的{@code ResultStreamWriter}直接写到输出。
+ *
+ * @param <TElement> 数据的具体类型
+ *
+ * @apiNote 通过此接口获取结果码（{@link #getResultCode()}）所得到的结果码类型是{@link ResultCode}，
+ *          如需指定具体结果码类型的请使用{@link com.github.jasonnming.results.result.generic.StreamingListResult}接口。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface StreamingListResult<TElement>
+        extends ListResult<TElement>, AutoCloseable
+{
+    /**
+     * 读取剩余的全部数据。
+     *
+     * @return 全部数据，重复调用返回同一列表
+     *
+     * @throws IllegalStateException 如果已经通过{@link #iterator()}或{@link #stream()}读取了数据源，或数据源已关闭，则抛出此异常
+     */
+    @Override
+    List<TElement> getData();
+
+    /**
+     * 逐个读取数据。
+     *
+     * @return 数据的迭代器，读取完毕或读取失败后关闭数据源
+     *
+     * @throws IllegalStateException 如果数据源已被读取或已关闭，则抛出此异常
+     */
+    Iterator<TElement> iterator();
+
+    /**
+     * 以{@link Stream}逐个读取数据。
+     *
+     * @return 数据的{@link Stream}，读取完毕、读取失败或{@link Stream#close()}后关闭数据源
+     *
+     * @throws IllegalStateException 如果数据源已被读取或已关闭，则抛出此异常
+     */
+    Stream<TElement> stream();
+
+    /**
+     * 数据个数的提示值，供序列化器等预先分配空间，不保证准确。
+     *
+     * @return 数据源带有{@link java.util.Spliterator#SIZED}特征时为其准确的个数，否则为构建时提供的提示值，未知时为{@code -1}；
+     *         已通过{@link #getData()}读取全部数据后为列表的长度
+     */
+    long sizeHint();
+
+    /**
+     * 关闭数据源，重复调用无效。
+     */
+    @Override
+    void close();
+}
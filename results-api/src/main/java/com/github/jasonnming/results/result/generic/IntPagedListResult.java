@@ -0,0 +1,24 @@
+package com.github.jasonnming.results.result.generic;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+
+/**
+ * 包含一个以{@code int[]}保存的{@link List}类型数据的结果，包含分页信息。
+ *
+ * @param <TResultCode> 返回结果码的具体类型
+ *
+ * @apiNote 此类型相对于 {@link com.github.jasonnming.results.result.basic.IntPagedListResult} 更进一步细化了 {@link #getResultCode()} 的返回类型到 {@link TResultCode}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface IntPagedListResult<TResultCode extends ResultCode>
+        extends PagedListResult<TResultCode, Integer>, IntListResult<TResultCode>, com.github.jasonnming.results.result.basic.IntPagedListResult
+{
+}
@@ -0,0 +1,23 @@
+package com.github.jasonnming.results.result.generic;
+
+import org.apiguardian.api.API;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+
+/**
+ * 数据延迟求值的{@link ListResult}。
+ *
+ * @param <TResultCode> 返回结果码的具体类型
+ * @param <TElement>    数据的具体类型
+ *
+ * @apiNote 此类型相对于 {@link com.github.jasonnming.results.result.basic.StreamingListResult} 更进一步细化了 {@link #getResultCode()} 的返回类型到 {@link TResultCode}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface StreamingListResult<TResultCode extends ResultCode, TElement>
+        extends ListResult<TResultCode, TElement>, com.github.jasonnming.results.result.basic.StreamingListResult<TElement>
+{
+}
@@ -0,0 +1,489 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 以开放寻址（线性探测）的数组保存数据的只读{@link Map}，不为每个键值对创建节点，适用于构建后只读取的结果数据。
+ * <p>
+ * key及value都不能为{@code null}，构建时逐个放入数据，此后不可修改。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class CompactMaps
+{
+    /**
+     * 元素个数的上限，此时{@link OfObject}的数组长度为{@code 2^30}，再多将超出数组长度的上限。
+     */
+    static final int MAX_SIZE = 1 << 28;
+
+    /**
+     * 反序列化时按流中的元素个数预先分配的容量上限，超出部分在读取时扩容，以免不可信的个数导致分配过大的数组。
+     */
+    private static final int MAX_INITIAL_SIZE = 1024;
+
+    private CompactMaps() { }
+
+    /**
+     * 计算容纳{@code expectedSize}个元素且负载因子不超过{@code 0.5}的表容量（{@code 2}的幂），以免线性探测时出现聚集。
+     *
+     * @throws IllegalArgumentException 如果{@code expectedSize}超出{@link #MAX_SIZE}，则抛出此异常。
+     */
+    static int tableSize(final int expectedSize)
+    {
+        if (expectedSize > MAX_SIZE)
+        {
+            throw new IllegalArgumentException("Too many entries [" + expectedSize + "], at most " + MAX_SIZE + ".");
+        }
+        final int minimum = Math.max(2, expectedSize * 2);
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    /**
+     * 读取并检查流中的元素个数。
+     */
+    private static int readSize(final ObjectInputStream in) throws IOException
+    {
+        final int size = in.readInt();
+        if (size < 0 || size > MAX_SIZE)
+        {
+            throw new InvalidObjectException("Illegal size [" + size + "].");
+        }
+        return size;
+    }
+
+    /**
+     * 与{@link java.util.HashMap}相同的扰动函数，将高位混入低位，顺序分配的ID等常见key可均匀分布而不会聚集。
+     */
+    private static int mix(final int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 任意类型key的只读Map，key及value交替保存在同一个数组中。
+     */
+    static final class OfObject<TKey, TValue> extends AbstractMap<TKey, TValue> implements Serializable
+    {
+        private static final long serialVersionUID = 0x3b1f5e0c7a2d9846L;
+
+        private transient Object[] table;
+
+        private transient int size;
+
+        OfObject(final int expectedSize)
+        {
+            this.table = new Object[tableSize(expectedSize) * 2];
+        }
+
+        /**
+         * 放入键值对，仅在构建时使用。
+         *
+         * @return 已存在的value，不存在时为{@code null}（此时放入成功）。
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        TValue add(final TKey key, final TValue value)
+        {
+            Objects.requireNonNull(key);
+            Objects.requireNonNull(value);
+            // Presized tables never grow, only those read from untrusted streams do.
+            if (this.size >= this.table.length >> 2)
+            {
+                this.grow();
+            }
+            final Object[] table = this.table;
+            final int mask = (table.length >> 1) - 1;
+            for (int i = mix(key.hashCode()) & mask; ; i = (i + 1) & mask)
+            {
+                final Object k = table[i << 1];
+                if (k == null)
+                {
+                    table[i << 1] = key;
+                    table[(i << 1) + 1] = value;
+                    this.size++;
+                    return null;
+                }
+                if (k.equals(key))
+                {
+                    return (TValue)table[(i << 1) + 1];
+                }
+            }
+        }
+
+        /**
+         * 将表容量加倍并重新放入全部键值对，保持负载因子不超过{@code 0.5}。
+         */
+        @SuppressWarnings("unchecked")
+        private void grow()
+        {
+            final Object[] table = this.table;
+            this.table = new Object[tableSize(this.size + 1) * 2];
+            this.size = 0;
+            for (int i = 0; i < table.length; i += 2)
+            {
+                if (table[i] != null)
+                {
+                    this.add((TKey)table[i], (TValue)table[i + 1]);
+                }
+            }
+        }
+
+        private int indexOf(@Nullable final Object key)
+        {
+            if (key == null)
+            {
+                return -1;
+            }
+            final Object[] table = this.table;
+            final int mask = (table.length >> 1) - 1;
+            for (int i = mix(key.hashCode()) & mask; ; i = (i + 1) & mask)
+            {
+                final Object k = table[i << 1];
+                if (k == null)
+                {
+                    return -1;
+                }
+                if (k.equals(key))
+                {
+                    return i << 1;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TValue get(final Object key)
+        {
+            final int index = this.indexOf(key);
+            return index >= 0 ? (TValue)this.table[index + 1] : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key)
+        {
+            return this.indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.size;
+        }
+
+        @Override
+        public Set<Entry<TKey, TValue>> entrySet()
+        {
+            return new AbstractSet<Entry<TKey, TValue>>()
+            {
+                @Override
+                public Iterator<Entry<TKey, TValue>> iterator()
+                {
+                    return new TableIterator<Entry<TKey, TValue>>(OfObject.this.table.length >> 1)
+                    {
+                        @Override
+                        boolean present(final int index)
+                        {
+                            return OfObject.this.table[index << 1] != null;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        Entry<TKey, TValue> entry(final int index)
+                        {
+                            return new SimpleImmutableEntry<>((TKey)OfObject.this.table[index << 1], (TValue)OfObject.this.table[(index << 1) + 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return OfObject.this.size;
+                }
+            };
+        }
+
+        private void writeObject(final ObjectOutputStream out) throws IOException
+        {
+            out.defaultWriteObject();
+            out.writeInt(this.size);
+            for (final Entry<TKey, TValue> entry : this.entrySet())
+            {
+                out.writeObject(entry.getKey());
+                out.writeObject(entry.getValue());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+            final int size = readSize(in);
+            // The hash codes of keys might differ between JVMs, so the table is always rebuilt,
+            // and grows as entries are read rather than trusting the size in the stream.
+            this.table = new Object[tableSize(Math.min(size, MAX_INITIAL_SIZE)) * 2];
+            for (int i = 0; i < size; i++)
+            {
+                final Object key = in.readObject();
+                final Object value = in.readObject();
+                if (key == null || value == null)
+                {
+                    throw new InvalidObjectException("Null key or value.");
+                }
+                if (this.add((TKey)key, (TValue)value) != null)
+                {
+                    throw new InvalidObjectException("Duplicate key [" + key + "].");
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code long}类型key的只读Map，key不会被装箱保存，但通过{@link Map}的方法查找及遍历时仍以{@link Long}传递。
+     */
+    static final class OfLong<TValue> extends AbstractMap<Long, TValue> implements Serializable
+    {
+        private static final long serialVersionUID = 0x5d0a7c4e2b918f63L;
+
+        private long[] keys;
+
+        /**
+         * 为{@code null}表示此位置为空。
+         */
+        private Object[] values;
+
+        private int size;
+
+        OfLong(final int expectedSize)
+        {
+            final int tableSize = tableSize(expectedSize);
+            this.keys = new long[tableSize];
+            this.values = new Object[tableSize];
+        }
+
+        private static int hash(final long key)
+        {
+            return mix((int)(key ^ (key >>> 32)));
+        }
+
+        /**
+         * 放入键值对，仅在构建时使用。
+         *
+         * @return 已存在的value，不存在时为{@code null}（此时放入成功）。
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        TValue add(final long key, final TValue value)
+        {
+            Objects.requireNonNull(value);
+            // Presized tables never grow, but an unguarded probe would spin forever once the table is full.
+            if (this.size >= this.keys.length >> 1)
+            {
+                this.grow();
+            }
+            final int mask = this.keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask)
+            {
+                final Object v = this.values[i];
+                if (v == null)
+                {
+                    this.keys[i] = key;
+                    this.values[i] = value;
+                    this.size++;
+                    return null;
+                }
+                if (this.keys[i] == key)
+                {
+                    return (TValue)v;
+                }
+            }
+        }
+
+        /**
+         * 将表容量加倍并重新放入全部键值对，保持负载因子不超过{@code 0.5}。
+         */
+        @SuppressWarnings("unchecked")
+        private void grow()
+        {
+            final long[] keys = this.keys;
+            final Object[] values = this.values;
+            final int tableSize = tableSize(this.size + 1);
+            this.keys = new long[tableSize];
+            this.values = new Object[tableSize];
+            this.size = 0;
+            for (int i = 0; i < keys.length; i++)
+            {
+                if (values[i] != null)
+                {
+                    this.add(keys[i], (TValue)values[i]);
+                }
+            }
+        }
+
+        /**
+         * 以{@code long}类型的key查找value，不会装箱。
+         *
+         * @param key key。
+         *
+         * @return 对应的value，不存在时为{@code null}。
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        TValue get(final long key)
+        {
+            final int mask = this.keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask)
+            {
+                final Object v = this.values[i];
+                if (v == null || this.keys[i] == key)
+                {
+                    return (TValue)v;
+                }
+            }
+        }
+
+        @Override
+        public TValue get(final Object key)
+        {
+            return (key instanceof Long) ? this.get(((Long)key).longValue()) : null;
+        }
+
+        /**
+         * 以默认格式读取后检查表的结构，不合法的表（如没有空位置）会使查找无法结束。
+         */
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+            final int length = this.keys != null ? this.keys.length : 0;
+            if (length < 2 || Integer.bitCount(length) != 1 || this.values == null || this.values.length != length
+                || this.size < 0 || this.size > length >> 1)
+            {
+                throw new InvalidObjectException("Illegal table.");
+            }
+
+            int count = 0;
+            final int mask = length - 1;
+            for (int i = 0; i < length; i++)
+            {
+                if (this.values[i] == null)
+                {
+                    continue;
+                }
+                count++;
+                // Every key must be the first one found from its hash slot, which also rules out duplicate keys.
+                int j = hash(this.keys[i]) & mask;
+                while (j != i && this.values[j] != null && this.keys[j] != this.keys[i])
+                {
+                    j = (j + 1) & mask;
+                }
+                if (j != i)
+                {
+                    throw new InvalidObjectException("Illegal table.");
+                }
+            }
+            if (count != this.size)
+            {
+                throw new InvalidObjectException("Illegal table.");
+            }
+        }
+
+        @Override
+        public boolean containsKey(final Object key)
+        {
+            return this.get(key) != null;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.size;
+        }
+
+        @Override
+        public Set<Entry<Long, TValue>> entrySet()
+        {
+            return new AbstractSet<Entry<Long, TValue>>()
+            {
+                @Override
+                public Iterator<Entry<Long, TValue>> iterator()
+                {
+                    return new TableIterator<Entry<Long, TValue>>(OfLong.this.keys.length)
+                    {
+                        @Override
+                        boolean present(final int index)
+                        {
+                            return OfLong.this.values[index] != null;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        Entry<Long, TValue> entry(final int index)
+                        {
+                            return new SimpleImmutableEntry<>(OfLong.this.keys[index], (TValue)OfLong.this.values[index]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return OfLong.this.size;
+                }
+            };
+        }
+    }
+
+    /**
+     * 按位置遍历开放寻址表中非空位置的迭代器。
+     */
+    private abstract static class TableIterator<TEntry> implements Iterator<TEntry>
+    {
+        private final int length;
+
+        private int next;
+
+        TableIterator(final int length)
+        {
+            this.length = length;
+        }
+
+        abstract boolean present(int index);
+
+        abstract TEntry entry(int index);
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.next < this.length && !this.present(this.next))
+            {
+                this.next++;
+            }
+            return this.next < this.length;
+        }
+
+        @Override
+        public TEntry next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.entry(this.next++);
+        }
+    }
+}
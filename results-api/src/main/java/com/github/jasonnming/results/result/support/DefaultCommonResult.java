@@ -1,5 +1,6 @@
 package com.github.jasonnming.results.result.support;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 import org.jetbrains.annotations.NotNull;
@@ -11,6 +12,8 @@ import com.github.jasonnming.results.result.generic.CommonResult;
 
 /**
  * 只有代码和消息的结果对象。
+ * <p>
+ * 此包中的结果类型以{@link SerializationProxy}紧凑地序列化。
  *
  * @author MiNG
  * @version 1.0.0
@@ -95,4 +98,12 @@ class DefaultCommonResult<TResultCode extends ResultCode>
     {
         return this.debugMessage;
     }
+
+    /**
+     * 此包中的结果类型以{@link SerializationProxy}序列化。
+     */
+    Object writeReplace() throws ObjectStreamException
+    {
+        return SerializationProxy.replace(this);
+    }
 }
@@ -0,0 +1,54 @@
+package com.github.jasonnming.results.result.support;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.DoublePagedListResult;
+
+/**
+ * 以{@code double[]}保存数据且带有分页信息的列表结果，序列化时以{@link SerializationProxy}写出{@code double}数据，反序列化后仍为此类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultDoublePagedListResult<TResultCode extends ResultCode>
+        extends DefaultPagedListResult<TResultCode, Double>
+        implements DoublePagedListResult<TResultCode>
+{
+    private static final long serialVersionUID = 0x5b021883a85f68b6L;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和{@code data}构建结果对象，分页信息的含义见{@link DefaultPagedListResult}。
+     *
+     * @param resultCode   结果编码
+     * @param message      自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param debugMessage 自定义调试消息
+     * @param data         结果返回的数据，不会被复制
+     */
+    DefaultDoublePagedListResult(final TResultCode resultCode, final String message, final String debugMessage, @Nullable final double[] data, final int present,
+                                 final long page, final long pageSize, final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        super(resultCode, message, debugMessage, data != null ? new PrimitiveArrayLists.OfDouble(data) : null,
+                present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    @Override
+    public int size()
+    {
+        return PrimitiveArrayLists.size(this.getData());
+    }
+
+    @Override
+    public double getDouble(final int index)
+    {
+        return PrimitiveArrayLists.getDouble(this.getData(), index);
+    }
+
+    @Nullable
+    @Override
+    public double[] toDoubleArray()
+    {
+        return PrimitiveArrayLists.toDoubleArray(this.getData());
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jasonnming.results.result.support;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.IntListResult;
+
+/**
+ * 以{@code int[]}保存数据的列表结果，序列化时以{@link SerializationProxy}写出{@code int}数据，反序列化后仍为此类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultIntListResult<TResultCode extends ResultCode>
+        extends DefaultListResult<TResultCode, Integer>
+        implements IntListResult<TResultCode>
+{
+    private static final long serialVersionUID = 0x3c0f7c375c8cc1abL;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和{@code data}构建结果对象
+     *
+     * @param resultCode   结果编码
+     * @param message      自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param debugMessage 自定义调试消息
+     * @param data         结果返回的数据，不会被复制
+     */
+    DefaultIntListResult(final TResultCode resultCode, final String message, final String debugMessage, @Nullable final int[] data)
+    {
+        super(resultCode, message, debugMessage, data != null ? new PrimitiveArrayLists.OfInt(data) : null);
+    }
+
+    @Override
+    public int size()
+    {
+        return PrimitiveArrayLists.size(this.getData());
+    }
+
+    @Override
+    public int getInt(final int index)
+    {
+        return PrimitiveArrayLists.getInt(this.getData(), index);
+    }
+
+    @Nullable
+    @Override
+    public int[] toIntArray()
+    {
+        return PrimitiveArrayLists.toIntArray(this.getData());
+    }
+}
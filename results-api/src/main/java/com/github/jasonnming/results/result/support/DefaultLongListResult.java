@@ -0,0 +1,52 @@
+package com.github.jasonnming.results.result.support;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.LongListResult;
+
+/**
+ * 以{@code long[]}保存数据的列表结果，序列化时以{@link SerializationProxy}写出{@code long}数据，反序列化后仍为此类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultLongListResult<TResultCode extends ResultCode>
+        extends DefaultListResult<TResultCode, Long>
+        implements LongListResult<TResultCode>
+{
+    private static final long serialVersionUID = 0x1d02b16a6abd685aL;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和{@code data}构建结果对象
+     *
+     * @param resultCode   结果编码
+     * @param message      自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param debugMessage 自定义调试消息
+     * @param data         结果返回的数据，不会被复制
+     */
+    DefaultLongListResult(final TResultCode resultCode, final String message, final String debugMessage, @Nullable final long[] data)
+    {
+        super(resultCode, message, debugMessage, data != null ? new PrimitiveArrayLists.OfLong(data) : null);
+    }
+
+    @Override
+    public int size()
+    {
+        return PrimitiveArrayLists.size(this.getData());
+    }
+
+    @Override
+    public long getLong(final int index)
+    {
+        return PrimitiveArrayLists.getLong(this.getData(), index);
+    }
+
+    @Nullable
+    @Override
+    public long[] toLongArray()
+    {
+        return PrimitiveArrayLists.toLongArray(this.getData());
+    }
+}
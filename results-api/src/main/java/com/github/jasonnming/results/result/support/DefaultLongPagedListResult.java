@@ -0,0 +1,54 @@
+package com.github.jasonnming.results.result.support;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.LongPagedListResult;
+
+/**
+ * 以{@code long[]}保存数据且带有分页信息的列表结果，序列化时以{@link SerializationProxy}写出{@code long}数据，反序列化后仍为此类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultLongPagedListResult<TResultCode extends ResultCode>
+        extends DefaultPagedListResult<TResultCode, Long>
+        implements LongPagedListResult<TResultCode>
+{
+    private static final long serialVersionUID = 0x00bfcf73725ed09dL;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和{@code data}构建结果对象，分页信息的含义见{@link DefaultPagedListResult}。
+     *
+     * @param resultCode   结果编码
+     * @param message      自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param debugMessage 自定义调试消息
+     * @param data         结果返回的数据，不会被复制
+     */
+    DefaultLongPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, @Nullable final long[] data, final int present,
+                               final long page, final long pageSize, final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        super(resultCode, message, debugMessage, data != null ? new PrimitiveArrayLists.OfLong(data) : null,
+                present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    @Override
+    public int size()
+    {
+        return PrimitiveArrayLists.size(this.getData());
+    }
+
+    @Override
+    public long getLong(final int index)
+    {
+        return PrimitiveArrayLists.getLong(this.getData(), index);
+    }
+
+    @Nullable
+    @Override
+    public long[] toLongArray()
+    {
+        return PrimitiveArrayLists.toLongArray(this.getData());
+    }
+}
@@ -1,5 +1,10 @@
 package com.github.jasonnming.results.result.support;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
+import java.lang.reflect.Field;
 import java.util.List;
 
 import org.jetbrains.annotations.Nullable;
@@ -9,6 +14,13 @@ import com.github.jasonnming.results.result.generic.PagedListResult;
 
 /**
  * 内容为{@link List}且带有分页信息结果。
+ * <p>
+ * 分页信息以基本类型保存，是否存在由{@link #present}中的标记位记录，以免每个结果额外持有多个装箱对象。
+ * 因此{@code getXxxOrNull()}在每次调用时装箱（{@link Long#valueOf(long)}缓存的小数值除外），
+ * 库内部（序列化代理、编解码器等）只通过{@code hasXxx()}及{@code getXxx()}读取，不产生分配。
+ * <p>
+ * 结果对象只通过{@link SerializationProxy}序列化，所有字段都是{@code final}的。
+ * 为兼容尚未升级的一端，仍然可以读取此前以装箱类型的字段写出的默认格式，此时由{@link LegacyFields}设置分页信息。
  *
  * @author MiNG
  * @version 1.0.0
@@ -20,27 +32,72 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
 {
     private static final long serialVersionUID = 0xf84bf86aa2bde32L;
 
-    private final Long page;
+    /**
+     * 存在{@link #page}的标记位。
+     */
+    static final int HAS_PAGE = 1;
 
-    private final Long pageSize;
+    /**
+     * 存在{@link #pageSize}的标记位。
+     */
+    static final int HAS_PAGE_SIZE = 1 << 1;
 
-    private final Boolean hasNextPage;
+    /**
+     * 存在{@link #hasNextPage()}的标记位。
+     */
+    static final int PREDICTABLE = 1 << 2;
 
-    private final Long totalPage;
+    /**
+     * 存在{@link #totalPage}的标记位。
+     */
+    static final int HAS_TOTAL_PAGE = 1 << 3;
 
-    private final Long totalSize;
+    /**
+     * 存在{@link #totalSize}的标记位。
+     */
+    static final int HAS_TOTAL_SIZE = 1 << 4;
+
+    /**
+     * 存在下一页，仅在{@link #PREDICTABLE}时有意义。
+     */
+    private static final int NEXT_PAGE = 1 << 5;
+
+    /**
+     * 此前以默认格式序列化时的字段，只用于读取。
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("page", Long.class),
+            new ObjectStreamField("pageSize", Long.class),
+            new ObjectStreamField("hasNextPage", Boolean.class),
+            new ObjectStreamField("totalPage", Long.class),
+            new ObjectStreamField("totalSize", Long.class),
+    };
+
+    private final long page;
+
+    private final long pageSize;
+
+    private final long totalPage;
+
+    private final long totalSize;
+
+    /**
+     * 已存在的分页信息的标记位。
+     */
+    private final byte present;
 
     /**
      * 仅为反序列化使用。
      */
     DefaultPagedListResult()
     {
-        this.page = null;
-        this.pageSize = null;
-        this.hasNextPage = null;
-        this.totalPage = null;
-        this.totalSize = null;
+        this.page = 0;
+        this.pageSize = 0;
+        this.totalPage = 0;
+        this.totalSize = 0;
+        this.present = 0;
     }
+
     /**
      * 使用{@link ResultCode}构建结果对象
      *
@@ -48,12 +105,7 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
      */
     DefaultPagedListResult(final TResultCode resultCode)
     {
-        super(resultCode);
-        this.page = null;
-        this.pageSize = null;
-        this.hasNextPage = null;
-        this.totalPage = null;
-        this.totalSize = null;
+        this(resultCode, null, null);
     }
 
     /**
@@ -64,12 +116,7 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
      */
     DefaultPagedListResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        super(resultCode, message, debugMessage);
-        this.page = null;
-        this.pageSize = null;
-        this.hasNextPage = null;
-        this.totalPage = null;
-        this.totalSize = null;
+        this(resultCode, message, debugMessage, null, 0, 0, 0, false, 0, 0);
     }
 
     /**
@@ -86,19 +133,62 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
      */
     DefaultPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final List<TElement> data,
                            final Long page, final Long pageSize, final Boolean hasNextPage, final Long totalPage, final Long totalSize)
+    {
+        this(resultCode, message, debugMessage, data, present(page, pageSize, hasNextPage, totalPage, totalSize),
+                page != null ? page : 0, pageSize != null ? pageSize : 0, hasNextPage != null && hasNextPage,
+                totalPage != null ? totalPage : 0, totalSize != null ? totalSize : 0);
+    }
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和{@code data}构建结果对象，分页信息以基本类型传入，避免装箱。
+     *
+     * @param resultCode  结果编码
+     * @param message     自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param data        结果返回的列表
+     * @param present     已存在的分页信息，为{@link #HAS_PAGE}、{@link #HAS_PAGE_SIZE}、{@link #PREDICTABLE}、{@link #HAS_TOTAL_PAGE}及{@link #HAS_TOTAL_SIZE}的组合，
+     *                    不存在的分页信息对应的参数将被忽略
+     * @param page        当前页数，从1开始，非负
+     * @param pageSize    每页记录条数
+     * @param hasNextPage 是否存在下一页
+     * @param totalPage   总页数，从1开始，非负
+     * @param totalSize   总记录数
+     */
+    DefaultPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final List<TElement> data, final int present,
+                           final long page, final long pageSize, final boolean hasNextPage, final long totalPage, final long totalSize)
     {
         super(resultCode, message, debugMessage, data);
-        this.page = page;
-        this.pageSize = pageSize;
-        this.hasNextPage = hasNextPage;
-        this.totalPage = totalPage;
-        this.totalSize = totalSize;
+        this.page = (present & HAS_PAGE) != 0 ? page : 0;
+        this.pageSize = (present & HAS_PAGE_SIZE) != 0 ? pageSize : 0;
+        this.totalPage = (present & HAS_TOTAL_PAGE) != 0 ? totalPage : 0;
+        this.totalSize = (present & HAS_TOTAL_SIZE) != 0 ? totalSize : 0;
+        this.present = flags(present, hasNextPage);
+    }
+
+    private static byte flags(final int present, final boolean hasNextPage)
+    {
+        return (byte)((present & (HAS_PAGE | HAS_PAGE_SIZE | PREDICTABLE | HAS_TOTAL_PAGE | HAS_TOTAL_SIZE))
+                      | ((present & PREDICTABLE) != 0 && hasNextPage ? NEXT_PAGE : 0));
+    }
+
+    private static int present(@Nullable final Long page, @Nullable final Long pageSize, @Nullable final Boolean hasNextPage,
+                               @Nullable final Long totalPage, @Nullable final Long totalSize)
+    {
+        return (page != null ? HAS_PAGE : 0)
+               | (pageSize != null ? HAS_PAGE_SIZE : 0)
+               | (hasNextPage != null ? PREDICTABLE : 0)
+               | (totalPage != null ? HAS_TOTAL_PAGE : 0)
+               | (totalSize != null ? HAS_TOTAL_SIZE : 0);
+    }
+
+    private boolean isPresent(final int flag)
+    {
+        return (this.present & flag) != 0;
     }
 
     @Override
     public boolean hasPage()
     {
-        return this.page != null;
+        return this.isPresent(HAS_PAGE);
     }
 
     @Override
@@ -115,13 +205,13 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
     @Override
     public Long getPageOrNull()
     {
-        return this.page;
+        return this.hasPage() ? this.page : null;
     }
 
     @Override
     public boolean hasPageSize()
     {
-        return this.pageSize != null;
+        return this.isPresent(HAS_PAGE_SIZE);
     }
 
     @Override
@@ -138,13 +228,13 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
     @Override
     public Long getPageSizeOrNull()
     {
-        return this.pageSize;
+        return this.hasPageSize() ? this.pageSize : null;
     }
 
     @Override
     public boolean isPredictable()
     {
-        return this.hasNextPage != null;
+        return this.isPresent(PREDICTABLE);
     }
 
     @Override
@@ -154,19 +244,19 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
         {
             throw new IllegalStateException("nextPage is unpredictable.");
         }
-        return this.hasNextPage;
+        return this.isPresent(NEXT_PAGE);
     }
 
     @Override
     public boolean hasTotalPage()
     {
-        return this.totalPage != null;
+        return this.isPresent(HAS_TOTAL_PAGE);
     }
 
     @Override
     public long getTotalPage()
     {
-        if (!this.hasPageSize())
+        if (!this.hasTotalPage())
         {
             throw new IllegalStateException("totalPage not exist.");
         }
@@ -177,13 +267,13 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
     @Override
     public Long getTotalPageOrNull()
     {
-        return this.totalPage;
+        return this.hasTotalPage() ? this.totalPage : null;
     }
 
     @Override
     public boolean hasTotalSize()
     {
-        return this.totalSize != null;
+        return this.isPresent(HAS_TOTAL_SIZE);
     }
 
     @Override
@@ -200,6 +290,70 @@ class DefaultPagedListResult<TResultCode extends ResultCode, TElement>
     @Override
     public Long getTotalSizeOrNull()
     {
-        return this.totalSize;
+        return this.hasTotalSize() ? this.totalSize : null;
+    }
+
+    /**
+     * 结果对象只通过{@link SerializationProxy}序列化，此处只读取尚未升级的一端以默认格式写出的结果。
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final Long page = (Long)fields.get("page", null);
+        final Long pageSize = (Long)fields.get("pageSize", null);
+        final Boolean hasNextPage = (Boolean)fields.get("hasNextPage", null);
+        final Long totalPage = (Long)fields.get("totalPage", null);
+        final Long totalSize = (Long)fields.get("totalSize", null);
+        LegacyFields.set(this, flags(present(page, pageSize, hasNextPage, totalPage, totalSize), hasNextPage != null && hasNextPage),
+                page != null ? page : 0, pageSize != null ? pageSize : 0, totalPage != null ? totalPage : 0, totalSize != null ? totalSize : 0);
+    }
+
+    /**
+     * 读取默认格式时设置{@code final}的分页字段（与{@link ObjectInputStream}设置默认字段的方式相同），只在首次读取默认格式时初始化。
+     */
+    private static final class LegacyFields
+    {
+        private static final Field PAGE = field("page");
+
+        private static final Field PAGE_SIZE = field("pageSize");
+
+        private static final Field TOTAL_PAGE = field("totalPage");
+
+        private static final Field TOTAL_SIZE = field("totalSize");
+
+        private static final Field PRESENT = field("present");
+
+        private LegacyFields() { }
+
+        private static Field field(final String name)
+        {
+            try
+            {
+                final Field field = DefaultPagedListResult.class.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (final NoSuchFieldException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static void set(final DefaultPagedListResult<?, ?> result, final byte present,
+                        final long page, final long pageSize, final long totalPage, final long totalSize) throws InvalidObjectException
+        {
+            try
+            {
+                PAGE.setLong(result, page);
+                PAGE_SIZE.setLong(result, pageSize);
+                TOTAL_PAGE.setLong(result, totalPage);
+                TOTAL_SIZE.setLong(result, totalSize);
+                PRESENT.setByte(result, present);
+            } catch (final IllegalAccessException e)
+            {
+                final InvalidObjectException exception = new InvalidObjectException("Cannot restore paging properties.");
+                exception.initCause(e);
+                throw exception;
+            }
+        }
     }
 }
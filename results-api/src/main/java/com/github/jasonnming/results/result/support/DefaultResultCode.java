@@ -68,6 +68,28 @@ class DefaultResultCode implements ResultCode, WithMessage, Serializable
         return this.code == null ? 0 : this.code.hashCode();
     }
 
+    private Object writeReplace()
+    {
+        return new SerializationProxy(SerializationProxy.RESULT_CODE, this);
+    }
+
+    /**
+     * 反序列化时，如果存在代码及消息都相同的规范化实例（如{@code ResultCodes}中的常量），则替换为该实例。
+     *
+     * @return 规范化实例或{@code this}。
+     */
+    Object readResolve()
+    {
+        final ResultCode canonical = ResultCodeRegistry.get(this.code);
+        if (canonical instanceof WithMessage
+            && Objects.equals(this.message, ((WithMessage)canonical).getMessage())
+            && Objects.equals(this.debugMessage, ((WithMessage)canonical).getDebugMessage()))
+        {
+            return canonical;
+        }
+        return this;
+    }
+
     @Override
     public String getCode()
     {
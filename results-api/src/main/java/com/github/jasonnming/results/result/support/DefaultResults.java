@@ -0,0 +1,132 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.CommonResult;
+
+/**
+ * 供{@code results-codec}、{@code results-jackson}等模块反序列化时直接构建结果对象，不经过{@code Results}的构建器，以免额外的复制及校验。
+ * <p>
+ * 分页信息的{@code present}参数与{@link DefaultPagedListResult}中的标记位一致，也是{@code results-codec}编码格式的一部分。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+public final class DefaultResults
+{
+    public static final int HAS_PAGE = DefaultPagedListResult.HAS_PAGE;
+
+    public static final int HAS_PAGE_SIZE = DefaultPagedListResult.HAS_PAGE_SIZE;
+
+    public static final int PREDICTABLE = DefaultPagedListResult.PREDICTABLE;
+
+    public static final int HAS_TOTAL_PAGE = DefaultPagedListResult.HAS_TOTAL_PAGE;
+
+    public static final int HAS_TOTAL_SIZE = DefaultPagedListResult.HAS_TOTAL_SIZE;
+
+    private static final Set<Class<?>> TYPES = new HashSet<>(Arrays.asList(
+            DefaultCommonResult.class, DefaultSingleResult.class, DefaultListResult.class, DefaultPagedListResult.class,
+            DefaultSetResult.class, DefaultMapResult.class,
+            DefaultIntListResult.class, DefaultLongListResult.class, DefaultDoubleListResult.class,
+            DefaultIntPagedListResult.class, DefaultLongPagedListResult.class, DefaultDoublePagedListResult.class,
+            DefaultStreamingListResult.class, DefaultStreamingPagedListResult.class));
+
+    private DefaultResults() { }
+
+    /**
+     * 判断{@code type}是否为此处构建的结果类型，而非自定义的实现或子类。
+     *
+     * @param type 结果对象的类型。
+     *
+     * @return {@code type}是否为此处构建的结果类型。
+     */
+    public static boolean isDefault(final Class<?> type)
+    {
+        return TYPES.contains(type);
+    }
+
+    public static CommonResult<ResultCode> common(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage)
+    {
+        return new DefaultCommonResult<>(code, message, debugMessage);
+    }
+
+    public static <T> CommonResult<ResultCode> single(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                      @Nullable final T data)
+    {
+        return new DefaultSingleResult<>(code, message, debugMessage, data);
+    }
+
+    public static <T> CommonResult<ResultCode> list(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                    @Nullable final List<T> data)
+    {
+        return new DefaultListResult<>(code, message, debugMessage, data);
+    }
+
+    public static <T> CommonResult<ResultCode> pagedList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                         @Nullable final List<T> data, final int present, final long page, final long pageSize,
+                                                         final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        return new DefaultPagedListResult<>(code, message, debugMessage, data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    public static <T> CommonResult<ResultCode> set(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                   @Nullable final Set<T> data)
+    {
+        return new DefaultSetResult<>(code, message, debugMessage, data);
+    }
+
+    public static <K, V> CommonResult<ResultCode> map(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                      @Nullable final Map<K, V> data)
+    {
+        return new DefaultMapResult<>(code, message, debugMessage, data);
+    }
+
+    public static CommonResult<ResultCode> intList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                   @Nullable final int[] data)
+    {
+        return new DefaultIntListResult<>(code, message, debugMessage, data);
+    }
+
+    public static CommonResult<ResultCode> longList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                    @Nullable final long[] data)
+    {
+        return new DefaultLongListResult<>(code, message, debugMessage, data);
+    }
+
+    public static CommonResult<ResultCode> doubleList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                      @Nullable final double[] data)
+    {
+        return new DefaultDoubleListResult<>(code, message, debugMessage, data);
+    }
+
+    public static CommonResult<ResultCode> intPagedList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                        @Nullable final int[] data, final int present, final long page, final long pageSize,
+                                                        final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        return new DefaultIntPagedListResult<>(code, message, debugMessage, data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    public static CommonResult<ResultCode> longPagedList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                         @Nullable final long[] data, final int present, final long page, final long pageSize,
+                                                         final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        return new DefaultLongPagedListResult<>(code, message, debugMessage, data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    public static CommonResult<ResultCode> doublePagedList(final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                                           @Nullable final double[] data, final int present, final long page, final long pageSize,
+                                                           final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        return new DefaultDoublePagedListResult<>(code, message, debugMessage, data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+}
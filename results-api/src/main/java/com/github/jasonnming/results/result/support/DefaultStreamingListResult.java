@@ -0,0 +1,68 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.StreamingListResult;
+
+/**
+ * 数据延迟求值的列表结果，序列化时从数据源逐个读取并分块写出，不需要预先读取全部数据，反序列化为{@link DefaultListResult}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultStreamingListResult<TResultCode extends ResultCode, TElement>
+        extends DefaultListResult<TResultCode, TElement>
+        implements StreamingListResult<TResultCode, TElement>
+{
+    private static final long serialVersionUID = 0x2f6b0d93c4a1e857L;
+
+    private final transient StreamingData<TElement> source;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息和数据源构建结果对象
+     *
+     * @param resultCode   结果编码
+     * @param message      自定义消息，为{@code null}时使用{@link ResultCode#getMessage()}作为消息
+     * @param debugMessage 自定义调试消息
+     * @param source       数据源
+     */
+    DefaultStreamingListResult(final TResultCode resultCode, final String message, final String debugMessage, final StreamingData<TElement> source)
+    {
+        super(resultCode, message, debugMessage);
+        this.source = source;
+    }
+
+    @Override
+    public List<TElement> getData()
+    {
+        return this.source.drain();
+    }
+
+    @Override
+    public Iterator<TElement> iterator()
+    {
+        return this.source.iterator();
+    }
+
+    @Override
+    public Stream<TElement> stream()
+    {
+        return this.source.stream();
+    }
+
+    @Override
+    public long sizeHint()
+    {
+        return this.source.sizeHint();
+    }
+
+    @Override
+    public void close()
+    {
+        this.source.close();
+    }
+}
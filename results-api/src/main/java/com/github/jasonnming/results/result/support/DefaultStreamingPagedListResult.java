@@ -0,0 +1,64 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.StreamingListResult;
+
+/**
+ * 数据延迟求值且带有分页信息的列表结果，序列化时从数据源逐个读取并分块写出，不需要预先读取全部数据，反序列化为{@link DefaultPagedListResult}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultStreamingPagedListResult<TResultCode extends ResultCode, TElement>
+        extends DefaultPagedListResult<TResultCode, TElement>
+        implements StreamingListResult<TResultCode, TElement>
+{
+    private static final long serialVersionUID = 0x5a93e1c07d2b4f16L;
+
+    private final transient StreamingData<TElement> source;
+
+    /**
+     * 使用{@link ResultCode}和自定义的消息、数据源及分页信息构建结果对象，分页信息的参数同{@link DefaultPagedListResult}。
+     */
+    DefaultStreamingPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final StreamingData<TElement> source,
+                                    final int present, final long page, final long pageSize, final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        super(resultCode, message, debugMessage, null, present, page, pageSize, hasNextPage, totalPage, totalSize);
+        this.source = source;
+    }
+
+    @Override
+    public List<TElement> getData()
+    {
+        return this.source.drain();
+    }
+
+    @Override
+    public Iterator<TElement> iterator()
+    {
+        return this.source.iterator();
+    }
+
+    @Override
+    public Stream<TElement> stream()
+    {
+        return this.source.stream();
+    }
+
+    @Override
+    public long sizeHint()
+    {
+        return this.source.sizeHint();
+    }
+
+    @Override
+    public void close()
+    {
+        this.source.close();
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 以基本类型数组保存数据的只读{@link List}视图，元素在读取时才装箱。
+ * <p>
+ * 同时提供{@code Default*ListResult}读取其视图的方法，视图（即结果的数据）可以为{@code null}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class PrimitiveArrayLists
+{
+    private PrimitiveArrayLists() { }
+
+    static int size(@Nullable final List<?> data)
+    {
+        return data != null ? data.size() : 0;
+    }
+
+    static int getInt(@Nullable final List<Integer> data, final int index)
+    {
+        return ((OfInt)nonNull(data, index)).getInt(index);
+    }
+
+    static long getLong(@Nullable final List<Long> data, final int index)
+    {
+        return ((OfLong)nonNull(data, index)).getLong(index);
+    }
+
+    static double getDouble(@Nullable final List<Double> data, final int index)
+    {
+        return ((OfDouble)nonNull(data, index)).getDouble(index);
+    }
+
+    @Nullable
+    static int[] toIntArray(@Nullable final List<Integer> data)
+    {
+        return data != null ? ((OfInt)data).toIntArray() : null;
+    }
+
+    @Nullable
+    static long[] toLongArray(@Nullable final List<Long> data)
+    {
+        return data != null ? ((OfLong)data).toLongArray() : null;
+    }
+
+    @Nullable
+    static double[] toDoubleArray(@Nullable final List<Double> data)
+    {
+        return data != null ? ((OfDouble)data).toDoubleArray() : null;
+    }
+
+    private static List<?> nonNull(@Nullable final List<?> data, final int index)
+    {
+        if (data == null)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+        }
+        return data;
+    }
+
+    /**
+     * {@code int[]}的只读视图。
+     */
+    static final class OfInt extends AbstractList<Integer> implements RandomAccess
+    {
+        private final int[] array;
+
+        OfInt(final int[] array)
+        {
+            this.array = array;
+        }
+
+        @Override
+        public Integer get(final int index)
+        {
+            return this.array[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.array.length;
+        }
+
+        int getInt(final int index)
+        {
+            return this.array[index];
+        }
+
+        int[] toIntArray()
+        {
+            return this.array.clone();
+        }
+    }
+
+    /**
+     * {@code long[]}的只读视图。
+     */
+    static final class OfLong extends AbstractList<Long> implements RandomAccess
+    {
+        private final long[] array;
+
+        OfLong(final long[] array)
+        {
+            this.array = array;
+        }
+
+        @Override
+        public Long get(final int index)
+        {
+            return this.array[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.array.length;
+        }
+
+        long getLong(final int index)
+        {
+            return this.array[index];
+        }
+
+        long[] toLongArray()
+        {
+            return this.array.clone();
+        }
+    }
+
+    /**
+     * {@code double[]}的只读视图。
+     */
+    static final class OfDouble extends AbstractList<Double> implements RandomAccess
+    {
+        private final double[] array;
+
+        OfDouble(final double[] array)
+        {
+            this.array = array;
+        }
+
+        @Override
+        public Double get(final int index)
+        {
+            return this.array[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.array.length;
+        }
+
+        double getDouble(final int index)
+        {
+            return this.array[index];
+        }
+
+        double[] toDoubleArray()
+        {
+            return this.array.clone();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+
+/**
+ * 规范化的{@link ResultCode}注册表，同一结果码字符串总是返回同一实例，因此查找时无需分配对象，并且可以直接使用{@code ==}比较。
+ * <p>
+ * 结果码可能来自不可信的远程调用方，因此自动规范化的结果码数量受{@link #MAX_INTERNED_SIZE}限制，
+ * 超出限制后未注册的结果码将不再被缓存，每次都会创建新的实例（与规范化之前的行为一致）。
+ * 通过{@link #register(ResultCode)}显式注册的结果码不受此限制。解码远程数据时应使用{@link #lookup(String)}，不会改变注册表。
+ * <p>
+ * 预定义的结果码（即{@code ResultCodes}中的常量）在此类初始化时注册。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class ResultCodeRegistry
+{
+    /**
+     * 自动规范化结果码数量上限的系统属性名。
+     */
+    static final String MAX_INTERNED_SIZE_PROPERTY = "results.code.registry.maxSize";
+
+    /**
+     * 自动规范化结果码的数量上限，通过系统属性{@value #MAX_INTERNED_SIZE_PROPERTY}设置，默认为{@code 1024}。
+     */
+    static final int MAX_INTERNED_SIZE = Integer.getInteger(MAX_INTERNED_SIZE_PROPERTY, 1024);
+
+    private static final ConcurrentHashMap<String, ResultCode> CODES = new ConcurrentHashMap<>();
+
+    // The predefined result codes are registered here rather than by `ResultCodes`, so that the deserialized ones are
+    // canonicalized even if `ResultCodes` is not loaded yet or not on the classpath at all.
+
+    static final ResultCode SUCCESS = register(new DefaultResultCode("SUCCESS", "操作成功"));
+
+    static final ResultCode SYSTEM_ERROR = register(new DefaultResultCode("SYSTEM_ERROR", "系统错误"));
+
+    static final ResultCode REMOTE_ERROR = register(new DefaultResultCode("REMOTE_ERROR", "远程错误"));
+
+    static final ResultCode ILLEGAL_ARGUMENT = register(new DefaultResultCode("ILLEGAL_ARGUMENT", "非法参数"));
+
+    static final ResultCode DATA_NOT_EXIST = register(new DefaultResultCode("DATA_NOT_EXIST", "数据不存在"));
+
+    private ResultCodeRegistry() { }
+
+    /**
+     * 注册规范化的结果码实例，已存在相同结果码时将被覆盖。
+     *
+     * @param resultCode 结果码对象。
+     *
+     * @return {@code resultCode}。
+     */
+    static <TResultCode extends ResultCode> TResultCode register(final TResultCode resultCode)
+    {
+        CODES.put(resultCode.getCode(), resultCode);
+        return resultCode;
+    }
+
+    /**
+     * 获取{@code code}对应的已存在的规范化实例，不会创建新的实例。
+     *
+     * @param code 结果码字符串。
+     *
+     * @return {@code code}对应的结果码对象，不存在时返回{@code null}。
+     */
+    @Nullable
+    static ResultCode get(@Nullable final String code)
+    {
+        return code != null ? CODES.get(code) : null;
+    }
+
+    /**
+     * 获取{@code code}对应的已存在的规范化实例，不存在时返回新的不含消息的{@link DefaultResultCode}，但不会将其缓存。
+     *
+     * @param code 结果码字符串。
+     *
+     * @return {@code code}对应的结果码对象。
+     */
+    static ResultCode lookup(@Nullable final String code)
+    {
+        final ResultCode resultCode = get(code);
+        return resultCode != null ? resultCode : new DefaultResultCode(code);
+    }
+
+    /**
+     * 获取{@code code}对应的规范化实例，不存在且未超出上限时创建并缓存一个不含消息的{@link DefaultResultCode}。
+     *
+     * @param code 结果码字符串。
+     *
+     * @return {@code code}对应的结果码对象。
+     */
+    static ResultCode of(@Nullable final String code)
+    {
+        return of(code, MAX_INTERNED_SIZE);
+    }
+
+    /**
+     * 同{@link #of(String)}，但使用指定的数量上限。
+     *
+     * @param code            结果码字符串。
+     * @param maxInternedSize 自动规范化结果码的数量上限。
+     *
+     * @return {@code code}对应的结果码对象。
+     */
+    static ResultCode of(@Nullable final String code, final int maxInternedSize)
+    {
+        if (code == null)
+        {
+            // ConcurrentHashMap cannot hold null key.
+            return new DefaultResultCode(null);
+        }
+
+        final ResultCode resultCode = CODES.get(code);
+        if (resultCode != null)
+        {
+            return resultCode;
+        }
+
+        // The size is estimated, the limit may be slightly exceeded under contention, which is acceptable.
+        if (CODES.size() >= maxInternedSize)
+        {
+            return new DefaultResultCode(code);
+        }
+        return CODES.computeIfAbsent(code, DefaultResultCode::new);
+    }
+}
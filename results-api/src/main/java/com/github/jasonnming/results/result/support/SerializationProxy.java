@@ -0,0 +1,574 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.StreamingListResult;
+
+/**
+ * 结果对象及{@link DefaultResultCode}的序列化代理（serialization proxy）。
+ * <p>
+ * 结果对象通过{@code writeReplace}替换为此类，只写出1字节的类型和各个字段的值，不再写出{@link DefaultCommonResult}继承链上各个类的描述及字段名，
+ * 分页信息以基本类型写出，列表的元素直接写出而不写出列表本身，以基本类型数组保存的列表以基本类型写出；
+ * 反序列化时由{@link #readResolve()}还原为原来的结果类型。
+ * <p>
+ * 延迟求值的列表结果不会预先读取全部数据以得到元素个数，而是从数据源逐个读取并分块写出，每块先写出元素个数，以空块结束；
+ * 反序列化时还原为对应的普通列表结果。
+ * <p>
+ * 此前以默认格式序列化的结果对象仍然可以反序列化。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class SerializationProxy implements Externalizable
+{
+    private static final long serialVersionUID = 0x61d7c4e0b3f2a958L;
+
+    static final byte RESULT_CODE = 1;
+
+    static final byte COMMON = 2;
+
+    static final byte SINGLE = 3;
+
+    static final byte LIST = 4;
+
+    static final byte PAGED_LIST = 5;
+
+    static final byte SET = 6;
+
+    static final byte MAP = 7;
+
+    static final byte INT_LIST = 8;
+
+    static final byte LONG_LIST = 9;
+
+    static final byte DOUBLE_LIST = 10;
+
+    static final byte INT_PAGED_LIST = 11;
+
+    static final byte LONG_PAGED_LIST = 12;
+
+    static final byte DOUBLE_PAGED_LIST = 13;
+
+    static final byte STREAMING_LIST = 14;
+
+    static final byte STREAMING_PAGED_LIST = 15;
+
+    /**
+     * 延迟求值的数据每块的元素个数上限。
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * 分页标记位中表示存在下一页的位，与{@link DefaultPagedListResult}的内部标记位一致。
+     */
+    private static final int NEXT_PAGE = 1 << 5;
+
+    private byte type;
+
+    /**
+     * 写出时为被代理的对象，读取后为还原的对象。
+     */
+    private Object object;
+
+    /**
+     * 仅供反序列化使用。
+     */
+    public SerializationProxy()
+    {
+    }
+
+    SerializationProxy(final byte type, final Object object)
+    {
+        this.type = type;
+        this.object = object;
+    }
+
+    /**
+     * 获取{@code result}的序列化代理，仅代理此包中的结果类型，其它子类（如自定义结果）保持默认的序列化格式。
+     *
+     * @param result 结果对象。
+     *
+     * @return 序列化代理或{@code result}本身。
+     */
+    static Object replace(final DefaultCommonResult<?> result)
+    {
+        final Class<?> type = result.getClass();
+        if (type == DefaultCommonResult.class)
+        {
+            return new SerializationProxy(COMMON, result);
+        }
+        if (type == DefaultSingleResult.class)
+        {
+            return new SerializationProxy(SINGLE, result);
+        }
+        if (type == DefaultListResult.class)
+        {
+            return new SerializationProxy(LIST, result);
+        }
+        if (type == DefaultPagedListResult.class)
+        {
+            return new SerializationProxy(PAGED_LIST, result);
+        }
+        if (type == DefaultSetResult.class)
+        {
+            return new SerializationProxy(SET, result);
+        }
+        if (type == DefaultMapResult.class)
+        {
+            return new SerializationProxy(MAP, result);
+        }
+        if (type == DefaultIntListResult.class)
+        {
+            return new SerializationProxy(INT_LIST, result);
+        }
+        if (type == DefaultLongListResult.class)
+        {
+            return new SerializationProxy(LONG_LIST, result);
+        }
+        if (type == DefaultDoubleListResult.class)
+        {
+            return new SerializationProxy(DOUBLE_LIST, result);
+        }
+        if (type == DefaultIntPagedListResult.class)
+        {
+            return new SerializationProxy(INT_PAGED_LIST, result);
+        }
+        if (type == DefaultLongPagedListResult.class)
+        {
+            return new SerializationProxy(LONG_PAGED_LIST, result);
+        }
+        if (type == DefaultDoublePagedListResult.class)
+        {
+            return new SerializationProxy(DOUBLE_PAGED_LIST, result);
+        }
+        if (type == DefaultStreamingListResult.class)
+        {
+            return new SerializationProxy(STREAMING_LIST, result);
+        }
+        if (type == DefaultStreamingPagedListResult.class)
+        {
+            return new SerializationProxy(STREAMING_PAGED_LIST, result);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeExternal(final ObjectOutput out) throws IOException
+    {
+        out.writeByte(this.type);
+        if (this.type == RESULT_CODE)
+        {
+            final DefaultResultCode code = (DefaultResultCode)this.object;
+            out.writeObject(code.getCode());
+            out.writeObject(code.getMessage());
+            out.writeObject(code.getDebugMessage());
+            return;
+        }
+
+        // The resolved messages are written, as the default serialized form does.
+        final DefaultCommonResult<?> result = (DefaultCommonResult<?>)this.object;
+        out.writeObject(result.getResultCode());
+        out.writeObject(result.getMessage());
+        out.writeObject(result.getDebugMessage());
+        switch (this.type)
+        {
+            case COMMON:
+                break;
+            case SINGLE:
+                out.writeObject(((DefaultSingleResult<?, ?>)result).getData());
+                break;
+            case LIST:
+                writeList(((DefaultListResult<?, ?>)result).getData(), out);
+                break;
+            case PAGED_LIST:
+                writePaging((DefaultPagedListResult<?, ?>)result, out);
+                writeList(((DefaultPagedListResult<?, ?>)result).getData(), out);
+                break;
+            case SET:
+                // Keep the set and map types, whose ordering and comparators are part of the data.
+                out.writeObject(((DefaultSetResult<?, ?>)result).getData());
+                break;
+            case MAP:
+                out.writeObject(((DefaultMapResult<?, ?, ?>)result).getData());
+                break;
+            case INT_PAGED_LIST:
+                writePaging((DefaultPagedListResult<?, ?>)result, out);
+                // fall through
+            case INT_LIST:
+                writeInts(((DefaultListResult<?, Integer>)result).getData(), out);
+                break;
+            case LONG_PAGED_LIST:
+                writePaging((DefaultPagedListResult<?, ?>)result, out);
+                // fall through
+            case LONG_LIST:
+                writeLongs(((DefaultListResult<?, Long>)result).getData(), out);
+                break;
+            case DOUBLE_PAGED_LIST:
+                writePaging((DefaultPagedListResult<?, ?>)result, out);
+                // fall through
+            case DOUBLE_LIST:
+                writeDoubles(((DefaultListResult<?, Double>)result).getData(), out);
+                break;
+            case STREAMING_PAGED_LIST:
+                writePaging((DefaultPagedListResult<?, ?>)result, out);
+                // fall through
+            case STREAMING_LIST:
+                writeChunks((StreamingListResult<?>)result, out);
+                break;
+            default:
+                throw new InvalidObjectException("Unknown type [" + this.type + "].");
+        }
+    }
+
+    private static void writeList(final List<?> data, final ObjectOutput out) throws IOException
+    {
+        if (data == null)
+        {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(data.size());
+        for (final Object element : data)
+        {
+            out.writeObject(element);
+        }
+    }
+
+    /**
+     * 从数据源逐个读取并分块写出，每块先写出元素个数，以空块结束。写出失败时关闭数据源。
+     */
+    private static void writeChunks(final StreamingListResult<?> result, final ObjectOutput out) throws IOException
+    {
+        final Object[] chunk = new Object[CHUNK_SIZE];
+        try
+        {
+            final Iterator<?> iterator = result.iterator();
+            int count;
+            do
+            {
+                count = 0;
+                while (count < chunk.length && iterator.hasNext())
+                {
+                    chunk[count++] = iterator.next();
+                }
+                out.writeInt(count);
+                for (int i = 0; i < count; i++)
+                {
+                    out.writeObject(chunk[i]);
+                }
+            } while (count > 0);
+        } catch (final IOException | RuntimeException e)
+        {
+            try
+            {
+                result.close();
+            } catch (final RuntimeException suppressed)
+            {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private static void writeInts(final List<Integer> data, final ObjectOutput out) throws IOException
+    {
+        final int size = data != null ? data.size() : -1;
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+        {
+            out.writeInt(PrimitiveArrayLists.getInt(data, i));
+        }
+    }
+
+    private static void writeLongs(final List<Long> data, final ObjectOutput out) throws IOException
+    {
+        final int size = data != null ? data.size() : -1;
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+        {
+            out.writeLong(PrimitiveArrayLists.getLong(data, i));
+        }
+    }
+
+    private static void writeDoubles(final List<Double> data, final ObjectOutput out) throws IOException
+    {
+        final int size = data != null ? data.size() : -1;
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+        {
+            out.writeDouble(PrimitiveArrayLists.getDouble(data, i));
+        }
+    }
+
+    private static void writePaging(final DefaultPagedListResult<?, ?> result, final ObjectOutput out) throws IOException
+    {
+        final boolean predictable = result.isPredictable();
+        out.writeByte((result.hasPage() ? DefaultPagedListResult.HAS_PAGE : 0)
+                      | (result.hasPageSize() ? DefaultPagedListResult.HAS_PAGE_SIZE : 0)
+                      | (predictable ? DefaultPagedListResult.PREDICTABLE : 0)
+                      | (predictable && result.hasNextPage() ? NEXT_PAGE : 0)
+                      | (result.hasTotalPage() ? DefaultPagedListResult.HAS_TOTAL_PAGE : 0)
+                      | (result.hasTotalSize() ? DefaultPagedListResult.HAS_TOTAL_SIZE : 0));
+        if (result.hasPage())
+        {
+            out.writeLong(result.getPage());
+        }
+        if (result.hasPageSize())
+        {
+            out.writeLong(result.getPageSize());
+        }
+        if (result.hasTotalPage())
+        {
+            out.writeLong(result.getTotalPage());
+        }
+        if (result.hasTotalSize())
+        {
+            out.writeLong(result.getTotalSize());
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.type = in.readByte();
+        if (this.type == RESULT_CODE)
+        {
+            this.object = new DefaultResultCode(readString(in), readString(in), readString(in));
+            return;
+        }
+
+        final ResultCode code = readResultCode(in);
+        final String message = readString(in);
+        final String debugMessage = readString(in);
+        switch (this.type)
+        {
+            case COMMON:
+                this.object = new DefaultCommonResult<>(code, message, debugMessage);
+                break;
+            case SINGLE:
+                this.object = new DefaultSingleResult<>(code, message, debugMessage, in.readObject());
+                break;
+            case LIST:
+                this.object = new DefaultListResult<>(code, message, debugMessage, readList(in));
+                break;
+            case PAGED_LIST:
+            {
+                final Paging paging = new Paging(in);
+                this.object = new DefaultPagedListResult<>(code, message, debugMessage, readList(in),
+                        paging.present, paging.page, paging.pageSize, paging.hasNextPage, paging.totalPage, paging.totalSize);
+                break;
+            }
+            case SET:
+                this.object = new DefaultSetResult<>(code, message, debugMessage, (Set<?>)in.readObject());
+                break;
+            case MAP:
+                this.object = new DefaultMapResult<>(code, message, debugMessage, (Map<?, ?>)in.readObject());
+                break;
+            case INT_LIST:
+                this.object = new DefaultIntListResult<>(code, message, debugMessage, readInts(in));
+                break;
+            case LONG_LIST:
+                this.object = new DefaultLongListResult<>(code, message, debugMessage, readLongs(in));
+                break;
+            case DOUBLE_LIST:
+                this.object = new DefaultDoubleListResult<>(code, message, debugMessage, readDoubles(in));
+                break;
+            case INT_PAGED_LIST:
+            {
+                final Paging paging = new Paging(in);
+                this.object = new DefaultIntPagedListResult<>(code, message, debugMessage, readInts(in),
+                        paging.present, paging.page, paging.pageSize, paging.hasNextPage, paging.totalPage, paging.totalSize);
+                break;
+            }
+            case LONG_PAGED_LIST:
+            {
+                final Paging paging = new Paging(in);
+                this.object = new DefaultLongPagedListResult<>(code, message, debugMessage, readLongs(in),
+                        paging.present, paging.page, paging.pageSize, paging.hasNextPage, paging.totalPage, paging.totalSize);
+                break;
+            }
+            case DOUBLE_PAGED_LIST:
+            {
+                final Paging paging = new Paging(in);
+                this.object = new DefaultDoublePagedListResult<>(code, message, debugMessage, readDoubles(in),
+                        paging.present, paging.page, paging.pageSize, paging.hasNextPage, paging.totalPage, paging.totalSize);
+                break;
+            }
+            case STREAMING_LIST:
+                this.object = new DefaultListResult<>(code, message, debugMessage, readChunks(in));
+                break;
+            case STREAMING_PAGED_LIST:
+            {
+                final Paging paging = new Paging(in);
+                this.object = new DefaultPagedListResult<>(code, message, debugMessage, readChunks(in),
+                        paging.present, paging.page, paging.pageSize, paging.hasNextPage, paging.totalPage, paging.totalSize);
+                break;
+            }
+            default:
+                throw new StreamCorruptedException("Unknown type [" + this.type + "].");
+        }
+    }
+
+    private static String readString(final ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        final Object value = in.readObject();
+        if (value != null && !(value instanceof String))
+        {
+            throw new InvalidObjectException("String expected but found [" + value.getClass().getName() + "].");
+        }
+        return (String)value;
+    }
+
+    private static ResultCode readResultCode(final ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        final Object value = in.readObject();
+        if (!(value instanceof ResultCode))
+        {
+            throw new InvalidObjectException("\"resultCode\" cannot be null.");
+        }
+        return (ResultCode)value;
+    }
+
+    private static List<Object> readList(final ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        final int size = in.readInt();
+        if (size < 0)
+        {
+            return null;
+        }
+        // The size is untrusted, let the list grow if it is too large.
+        final List<Object> data = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++)
+        {
+            data.add(in.readObject());
+        }
+        return data;
+    }
+
+    /**
+     * 读取{@link #writeChunks(StreamingListResult, ObjectOutput)}分块写出的数据。
+     */
+    private static List<Object> readChunks(final ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        final List<Object> data = new ArrayList<>();
+        for (int size = in.readInt(); size != 0; size = in.readInt())
+        {
+            if (size < 0 || size > CHUNK_SIZE)
+            {
+                throw new StreamCorruptedException("Illegal chunk size [" + size + "].");
+            }
+            for (int i = 0; i < size; i++)
+            {
+                data.add(in.readObject());
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 数组的长度是不可信的，超出{@code 1024}时随读取逐步扩容。
+     */
+    private static int[] readInts(final ObjectInput in) throws IOException
+    {
+        final int size = in.readInt();
+        if (size < 0)
+        {
+            return null;
+        }
+        int[] data = new int[Math.min(size, 1024)];
+        for (int i = 0; i < size; i++)
+        {
+            if (i == data.length)
+            {
+                data = Arrays.copyOf(data, (int)Math.min(size, data.length * 2L));
+            }
+            data[i] = in.readInt();
+        }
+        return data;
+    }
+
+    private static long[] readLongs(final ObjectInput in) throws IOException
+    {
+        final int size = in.readInt();
+        if (size < 0)
+        {
+            return null;
+        }
+        long[] data = new long[Math.min(size, 1024)];
+        for (int i = 0; i < size; i++)
+        {
+            if (i == data.length)
+            {
+                data = Arrays.copyOf(data, (int)Math.min(size, data.length * 2L));
+            }
+            data[i] = in.readLong();
+        }
+        return data;
+    }
+
+    private static double[] readDoubles(final ObjectInput in) throws IOException
+    {
+        final int size = in.readInt();
+        if (size < 0)
+        {
+            return null;
+        }
+        double[] data = new double[Math.min(size, 1024)];
+        for (int i = 0; i < size; i++)
+        {
+            if (i == data.length)
+            {
+                data = Arrays.copyOf(data, (int)Math.min(size, data.length * 2L));
+            }
+            data[i] = in.readDouble();
+        }
+        return data;
+    }
+
+    private Object readResolve()
+    {
+        return this.object instanceof DefaultResultCode ? ((DefaultResultCode)this.object).readResolve() : this.object;
+    }
+
+    /**
+     * {@link #writePaging(DefaultPagedListResult, ObjectOutput)}写出的分页信息。
+     */
+    private static final class Paging
+    {
+        final int present;
+
+        final long page;
+
+        final long pageSize;
+
+        final boolean hasNextPage;
+
+        final long totalPage;
+
+        final long totalSize;
+
+        Paging(final ObjectInput in) throws IOException
+        {
+            this.present = in.readByte();
+            this.page = (this.present & DefaultPagedListResult.HAS_PAGE) != 0 ? in.readLong() : 0;
+            this.pageSize = (this.present & DefaultPagedListResult.HAS_PAGE_SIZE) != 0 ? in.readLong() : 0;
+            this.hasNextPage = (this.present & NEXT_PAGE) != 0;
+            this.totalPage = (this.present & DefaultPagedListResult.HAS_TOTAL_PAGE) != 0 ? in.readLong() : 0;
+            this.totalSize = (this.present & DefaultPagedListResult.HAS_TOTAL_SIZE) != 0 ? in.readLong() : 0;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link com.github.jasonnming.results.result.basic.StreamingListResult}的数据源，数据只能读取一次。
+ * <p>
+ * 数据可以通过{@link #iterator()}或{@link #stream()}逐个读取，也可以通过{@link #drain()}一次读取为{@link ArrayList}，此后的读取都基于该列表。
+ * 数据读取完毕或读取时抛出异常后关闭数据源；未被读取时需要通过{@link #close()}关闭。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class StreamingData<TElement>
+        implements AutoCloseable
+{
+    /**
+     * {@link #drain()}按提示值预先分配的容量上限，提示值不一定准确，不能完全信任。
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    /**
+     * 数据个数的提示值，为{@code -1}表示未知。
+     */
+    private final long sizeHint;
+
+    @Nullable
+    private Spliterator<TElement> source;
+
+    @Nullable
+    private AutoCloseable closeable;
+
+    /**
+     * {@link #drain()}读取的全部数据。
+     */
+    @Nullable
+    private List<TElement> drained;
+
+    /**
+     * @param source    数据源。
+     * @param sizeHint  数据个数的提示值，小于{@code 0}表示未知，数据源带有{@link Spliterator#SIZED}特征时忽略。
+     * @param closeable 数据读取完毕后需要关闭的资源（如{@link Stream}），可以为{@code null}。
+     */
+    StreamingData(final Spliterator<TElement> source, final long sizeHint, @Nullable final AutoCloseable closeable)
+    {
+        final long exactSize = source.getExactSizeIfKnown();
+        this.sizeHint = exactSize >= 0 ? exactSize : Math.max(sizeHint, -1);
+        this.source = source;
+        this.closeable = closeable;
+    }
+
+    /**
+     * 取出数据源，已读取为列表时返回列表的{@link Spliterator}。
+     */
+    private synchronized Spliterator<TElement> take()
+    {
+        if (this.drained != null)
+        {
+            return this.drained.spliterator();
+        }
+        final Spliterator<TElement> source = this.source;
+        if (source == null)
+        {
+            throw new IllegalStateException("Streaming data has already been consumed or closed.");
+        }
+        this.source = null;
+        return source;
+    }
+
+    Iterator<TElement> iterator()
+    {
+        return new Itr(Spliterators.iterator(this.take()));
+    }
+
+    Stream<TElement> stream()
+    {
+        final Spliterator<TElement> source = this.take();
+        final Spliterator<TElement> spliterator = Spliterators.spliteratorUnknownSize(new Itr(Spliterators.iterator(source)),
+                source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE));
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * 数据个数的提示值，已读取为列表时为列表的长度。
+     */
+    synchronized long sizeHint()
+    {
+        return this.drained != null ? this.drained.size() : this.sizeHint;
+    }
+
+    /**
+     * 读取剩余的全部数据，重复调用返回同一列表。
+     */
+    synchronized List<TElement> drain()
+    {
+        if (this.drained == null)
+        {
+            final Iterator<TElement> iterator = this.iterator();
+            final List<TElement> list = new ArrayList<>((int)Math.min(MAX_INITIAL_CAPACITY, Math.max(this.sizeHint, 0)));
+            iterator.forEachRemaining(list::add);
+            this.drained = list;
+        }
+        return this.drained;
+    }
+
+    /**
+     * 关闭数据源，此后只能读取已读取为列表的数据，重复调用无效。
+     */
+    @Override
+    public void close()
+    {
+        final AutoCloseable closeable;
+        synchronized (this)
+        {
+            closeable = this.closeable;
+            this.closeable = null;
+            this.source = null;
+        }
+        if (closeable != null)
+        {
+            try
+            {
+                closeable.close();
+            } catch (final RuntimeException e)
+            {
+                throw e;
+            } catch (final Exception e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 读取数据时抛出异常则关闭数据源，关闭时的异常作为被抑制的异常附加。
+     */
+    private RuntimeException closeOnFailure(final RuntimeException e)
+    {
+        try
+        {
+            this.close();
+        } catch (final RuntimeException suppressed)
+        {
+            e.addSuppressed(suppressed);
+        }
+        return e;
+    }
+
+    /**
+     * 只读的迭代器，数据读取完毕或读取失败后关闭数据源。
+     */
+    private final class Itr
+            implements Iterator<TElement>
+    {
+        private final Iterator<TElement> delegate;
+
+        private Itr(final Iterator<TElement> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            final boolean hasNext;
+            try
+            {
+                hasNext = this.delegate.hasNext();
+            } catch (final RuntimeException e)
+            {
+                throw StreamingData.this.closeOnFailure(e);
+            }
+            if (!hasNext)
+            {
+                StreamingData.this.close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public TElement next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            try
+            {
+                return this.delegate.next();
+            } catch (final RuntimeException e)
+            {
+                throw StreamingData.this.closeOnFailure(e);
+            }
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super TElement> action)
+        {
+            while (this.hasNext())
+            {
+                action.accept(this.next());
+            }
+        }
+    }
+}
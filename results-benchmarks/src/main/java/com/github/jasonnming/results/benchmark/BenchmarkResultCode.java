@@ -0,0 +1,58 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.support.ResultCodeResolver;
+
+/**
+ * 基准测试使用的结果码。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+public enum BenchmarkResultCode implements ResultCode, WithMessage
+{
+    SUCCESS("成功"),
+
+    SYSTEM_ERROR("系统错误"),
+
+    DATA_NOT_EXIST("数据不存在"),
+
+    /* End Enum */;
+
+    /**
+     * 以{@link #getCode() 代码}查找结果码的解释器，与常见的业务实现一致。
+     */
+    public static final ResultCodeResolver RESOLVER = (resultCodeType, code) -> Holder.CODES.get(code);
+
+    private final String message;
+
+    BenchmarkResultCode(final String message)
+    {
+        this.message = message;
+    }
+
+    @Override
+    public String getCode()
+    {
+        return this.name();
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return this.message;
+    }
+
+    private static final class Holder
+    {
+        static final Map<String, BenchmarkResultCode> CODES = Arrays.stream(values())
+                .collect(Collectors.toMap(BenchmarkResultCode::getCode, Function.identity()));
+    }
+}
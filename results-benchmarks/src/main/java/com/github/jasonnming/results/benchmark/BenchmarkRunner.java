@@ -0,0 +1,35 @@
+package com.github.jasonnming.results.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认附加{@link GCProfiler}，以便同时输出{@code ns/op}及{@code gc.alloc.rate.norm}（即每次操作分配的字节数）。
+ * <p>
+ * 使用方式：
+ * <pre>{@code
+ * mvn -pl results-benchmarks -am package -DskipTests
+ * java -jar results-benchmarks/target/benchmarks.jar [JMH options] [benchmark regexp]
+ * }</pre>
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+public final class BenchmarkRunner
+{
+    private BenchmarkRunner() { }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException
+    {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.exception.BusinessException;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.support.MethodReturnWrapper;
+
+/**
+ * {@link BusinessException}作为控制流抛出并被{@link MethodReturnWrapper}包装为结果的吞吐量，
+ * 对比默认（捕获调用栈）、通过构造器关闭调用栈、通过系统属性全局关闭调用栈及使用共享实例（{@link BusinessException#cached(ResultCode)}）四种方式。
+ * <p>
+ * 异常在{@link #depth}层调用栈深处抛出，以体现调用栈深度对捕获成本的影响。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessExceptionBenchmark
+{
+    /**
+     * 抛出异常时的调用栈深度。
+     */
+    @Param({"10", "100"})
+    public int depth;
+
+    private MethodReturnWrapper wrapper;
+
+    @Setup
+    public void setup() throws NoSuchMethodException
+    {
+        final Method method = SampleService.class.getMethod("query");
+        this.wrapper = MethodReturnWrapper.forMethod(method);
+    }
+
+    /**
+     * 默认方式，捕获完整的调用栈。
+     */
+    @Benchmark
+    public CommonResult stackTrace()
+    {
+        return this.wrapper.wrapInvocation(() -> throwAt(this.depth, false));
+    }
+
+    /**
+     * 通过构造器关闭调用栈捕获。
+     */
+    @Benchmark
+    public CommonResult stackless()
+    {
+        return this.wrapper.wrapInvocation(() -> throwAt(this.depth, true));
+    }
+
+    /**
+     * 通过系统属性全局关闭调用栈捕获。
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dresults.exception.stackless=true")
+    public CommonResult globallyStackless()
+    {
+        return this.wrapper.wrapInvocation(() -> throwAt(this.depth, false));
+    }
+
+    /**
+     * 抛出共享的异常实例，不分配异常对象。
+     */
+    @Benchmark
+    public CommonResult cached()
+    {
+        return this.wrapper.wrapInvocation(() -> throwCachedAt(this.depth));
+    }
+
+    private static Object throwCachedAt(final int depth)
+    {
+        if (depth > 0)
+        {
+            return throwCachedAt(depth - 1);
+        }
+        throw BusinessException.cached(BenchmarkResultCode.DATA_NOT_EXIST);
+    }
+
+    private static Object throwAt(final int depth, final boolean stackless)
+    {
+        if (depth > 0)
+        {
+            return throwAt(depth - 1, stackless);
+        }
+        throw stackless ? new StacklessException(BenchmarkResultCode.DATA_NOT_EXIST) : new BusinessException(BenchmarkResultCode.DATA_NOT_EXIST);
+    }
+
+    /**
+     * 关闭调用栈捕获的业务异常。
+     */
+    private static final class StacklessException extends BusinessException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private StacklessException(final ResultCode resultCode)
+        {
+            super(resultCode, null, null, null, false);
+        }
+    }
+
+    /**
+     * 被包装的示例服务，仅用于提供方法声明。
+     */
+    public interface SampleService
+    {
+        com.github.jasonnming.results.result.basic.SingleResult<Object> query();
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import com.github.jasonnming.results.jackson.ResultsModule;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * 结果对象的JSON序列化及反序列化的基准测试，比较Jackson的Bean序列化与{@link ResultsModule}的流式序列化器。
+ * <p>
+ * Bean反序列化无法构建结果接口（需要mix-in或自定义的反序列化器），因此反序列化只测试{@link ResultsModule}。
+ * 分页结果使用完整的分页信息，否则Bean序列化会因分页信息不存在而抛出异常。JSON的字节数由{@link PayloadCounters}报告。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark
+{
+    /**
+     * 结果类型：{@code COMMON}为只有结果码的结果，{@code PAGED_LIST}为含有20个短字符串元素的分页结果。
+     */
+    @Param({"COMMON", "PAGED_LIST"})
+    public String kind;
+
+    private CommonResult result;
+
+    private ObjectWriter beanWriter;
+
+    private ObjectWriter moduleWriter;
+
+    private ObjectReader moduleReader;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final ObjectMapper beanMapper = new ObjectMapper();
+        final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new ResultsModule());
+        final JavaType type;
+        if ("COMMON".equals(this.kind))
+        {
+            this.result = Results.commonResult(ResultCodes.SUCCESS);
+            type = moduleMapper.constructType(CommonResult.class);
+        } else
+        {
+            final List<String> data = IntStream.range(0, 20).mapToObj(x -> "item-" + x).collect(Collectors.toCollection(ArrayList::new));
+            this.result = Results.builder(ResultCodes.SUCCESS)
+                    .data(data)
+                    .page(3, 20)
+                    .totalSize(1000)
+                    .build();
+            type = moduleMapper.getTypeFactory().constructParametricType(PagedListResult.class, String.class);
+        }
+        this.beanWriter = beanMapper.writerFor(type);
+        this.moduleWriter = moduleMapper.writerFor(type);
+        this.moduleReader = moduleMapper.readerFor(type);
+        this.serialized = this.moduleWriter.writeValueAsBytes(this.result);
+    }
+
+    @Benchmark
+    public byte[] serializeBean(final PayloadCounters counters) throws IOException
+    {
+        final byte[] bytes = this.beanWriter.writeValueAsBytes(this.result);
+        counters.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] serializeModule(final PayloadCounters counters) throws IOException
+    {
+        final byte[] bytes = this.moduleWriter.writeValueAsBytes(this.result);
+        counters.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserializeModule(final PayloadCounters counters) throws IOException
+    {
+        counters.bytes = this.serialized.length;
+        return this.moduleReader.readValue(this.serialized);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * {@code CollectionResultBuilder.toMapResult(...)}顺序及并行转换的基准测试。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapResultBenchmark
+{
+    /**
+     * 集合数据的元素个数。
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Collection<Integer> data;
+
+    @Setup
+    public void setup()
+    {
+        this.data = IntStream.range(0, this.size).boxed().collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark
+    public MapResult<BenchmarkResultCode, Integer, Integer> sequential()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.data)
+                .toMapResult(x -> x)
+                .build();
+    }
+
+    @Benchmark
+    public MapResult<BenchmarkResultCode, Integer, Integer> parallel()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.data)
+                .parallel(0)
+                .toMapResult(x -> x)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.result.builder.MapResultLayout;
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * 不同{@link MapResultLayout}的构建及按ID查找的基准测试。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapResultLayoutBenchmark
+{
+    /**
+     * Map的布局。
+     */
+    @Param({"HASH", "SORTED", "COMPACT", "LONG_KEYED"})
+    public MapResultLayout layout;
+
+    /**
+     * 数据的元素个数。
+     */
+    @Param({"10000"})
+    public int size;
+
+    private Collection<Long> ids;
+
+    private Long[] lookups;
+
+    private Map<Long, ? extends Long> map;
+
+    @Setup
+    public void setup()
+    {
+        // Sparse IDs, similar to database keys.
+        this.ids = LongStream.range(0, this.size).map(x -> x * 7919 + 1_000_000_000L).boxed().collect(Collectors.toCollection(ArrayList::new));
+        this.map = this.build().getData();
+
+        // Clients look up IDs in an arbitrary order.
+        final List<Long> lookups = new ArrayList<>(this.ids);
+        Collections.shuffle(lookups, new Random(42));
+        this.lookups = lookups.toArray(new Long[0]);
+    }
+
+    @Benchmark
+    public MapResult<BenchmarkResultCode, Long, Long> build()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.ids)
+                .layout(this.layout)
+                .toMapResult(x -> x)
+                .build();
+    }
+
+    /**
+     * 按随机顺序逐个查找全部ID。
+     */
+    @Benchmark
+    public long get()
+    {
+        final Map<Long, ? extends Long> map = this.map;
+        long sum = 0;
+        for (final Long id : this.lookups)
+        {
+            sum += map.get(id);
+        }
+        return sum;
+    }
+}
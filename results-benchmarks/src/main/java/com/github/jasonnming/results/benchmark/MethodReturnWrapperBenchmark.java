@@ -0,0 +1,123 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.exception.BusinessException;
+import com.github.jasonnming.results.internal.functions.FuncX;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.SingleResult;
+import com.github.jasonnming.results.result.support.MethodReturnWrapper;
+
+/**
+ * {@link MethodReturnWrapper#wrapReturn}及{@link MethodReturnWrapper#wrapInvocation}的基准测试，
+ * 分别覆盖正常返回、{@link BusinessException}及其它异常三种执行结果。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodReturnWrapperBenchmark
+{
+    /**
+     * 被包装方法的返回值声明，对应{@link SampleService}中的同名方法。
+     */
+    @Param({"genericList", "genericSingle", "basicList", "object"})
+    public String methodName;
+
+    /**
+     * 被包装方法的执行结果。
+     */
+    @Param({"success", "business", "error"})
+    public String outcome;
+
+    private MethodReturnWrapper wrapper;
+
+    private FuncX<Object, RuntimeException> invocation;
+
+    private Throwable exception;
+
+    private final List<String> data = Arrays.asList("foo", "bar", "baz");
+
+    @Setup
+    public void setup() throws NoSuchMethodException
+    {
+        final Method method = SampleService.class.getMethod(this.methodName);
+        this.wrapper = MethodReturnWrapper.create(method, BenchmarkResultCode.RESOLVER);
+
+        switch (this.outcome)
+        {
+            case "success":
+                this.exception = null;
+                this.invocation = () -> this.data;
+                break;
+            case "business":
+                this.exception = new BusinessException(BenchmarkResultCode.DATA_NOT_EXIST);
+                this.invocation = () -> {
+                    throw new BusinessException(BenchmarkResultCode.DATA_NOT_EXIST);
+                };
+                break;
+            case "error":
+                this.exception = new IllegalStateException("foo");
+                this.invocation = () -> {
+                    throw new IllegalStateException("foo");
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown outcome: " + this.outcome);
+        }
+    }
+
+    /**
+     * 仅测量包装过程，异常对象预先创建。
+     */
+    @Benchmark
+    public CommonResult wrapReturn()
+    {
+        return this.wrapper.wrapReturn(this.exception == null ? this.data : null, this.exception);
+    }
+
+    /**
+     * 测量包含异常创建及抛出在内的完整调用过程。
+     */
+    @Benchmark
+    public CommonResult wrapInvocation()
+    {
+        return this.wrapper.wrapInvocation(this.invocation);
+    }
+
+    /**
+     * 被包装的示例服务，仅用于提供方法声明。
+     */
+    public interface SampleService
+    {
+        ListResult<BenchmarkResultCode, String> genericList();
+
+        SingleResult<BenchmarkResultCode, List<String>> genericSingle();
+
+        com.github.jasonnming.results.result.basic.ListResult<String> basicList();
+
+        Object object();
+    }
+}
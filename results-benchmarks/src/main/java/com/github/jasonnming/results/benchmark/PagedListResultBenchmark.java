@@ -0,0 +1,88 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * {@link PagedListResult}的构建及分页信息读取的基准测试。
+ * <p>
+ * {@link #page}及{@link #totalSize}分别取{@link Long#valueOf(long)}缓存范围内外的值，以体现装箱对分配的影响。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagedListResultBenchmark
+{
+    /**
+     * 当前页码。
+     */
+    @Param({"1", "5000"})
+    public long page;
+
+    /**
+     * 记录总数。
+     */
+    @Param({"100", "1000000"})
+    public long totalSize;
+
+    private final long pageSize = 20;
+
+    private List<Integer> list;
+
+    private PagedListResult<BenchmarkResultCode, Integer> result;
+
+    @Setup
+    public void setup()
+    {
+        this.list = IntStream.range(0, (int)this.pageSize).boxed().collect(Collectors.toCollection(ArrayList::new));
+        this.result = this.build();
+    }
+
+    /**
+     * 构建带有页码、每页数量及记录总数的结果（总页数及是否存在下一页由此推断）。
+     */
+    @Benchmark
+    public PagedListResult<BenchmarkResultCode, Integer> build()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.list)
+                .page(this.page, this.pageSize)
+                .totalSize(this.totalSize)
+                .build();
+    }
+
+    /**
+     * 读取全部分页信息。
+     */
+    @Benchmark
+    public long read()
+    {
+        final PagedListResult<BenchmarkResultCode, Integer> result = this.result;
+        return result.getPage() + result.getPageSize() + result.getTotalPage() + result.getTotalSize() + (result.hasNextPage() ? 1 : 0);
+    }
+}
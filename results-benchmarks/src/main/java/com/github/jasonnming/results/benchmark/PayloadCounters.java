@@ -0,0 +1,22 @@
+package com.github.jasonnming.results.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 以JMH辅助计数器报告基准方法读写的负载字节数，与耗时一同出现在基准测试的结果中（如{@code serialize:bytes}）。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class PayloadCounters
+{
+    /**
+     * 最近一次调用读写的负载字节数。
+     */
+    public long bytes;
+}
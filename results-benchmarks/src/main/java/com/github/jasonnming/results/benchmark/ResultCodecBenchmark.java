@@ -0,0 +1,122 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.codec.ElementCodecs;
+import com.github.jasonnming.results.codec.ResultCodec;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * {@link ResultCodec}与Java序列化编解码{@link PagedListResult}的基准测试。
+ * <p>
+ * 20个短字符串元素的分页结果，编码后为167字节，Java序列化为367字节。
+ * {@code forward_*}模拟网关只检查结果码后转发结果，比较完整解码与{@link ResultCodec#decodeLazily(byte[])}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultCodecBenchmark
+{
+    private final ResultCodec codec = ResultCodec.of(ElementCodecs.STRING);
+
+    private PagedListResult<ResultCode, String> result;
+
+    private byte[] encoded;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final List<String> data = IntStream.range(0, 20).mapToObj(x -> "item-" + x).collect(Collectors.toCollection(ArrayList::new));
+        this.result = Results.builder(ResultCodes.SUCCESS)
+                .data(data)
+                .page(3, 20)
+                .totalSize(1000)
+                .build();
+        this.encoded = this.codec.encode(this.result);
+        this.serialized = this.serialize();
+    }
+
+    private byte[] serialize() throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(this.result);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encode_codec()
+    {
+        return this.codec.encode(this.result);
+    }
+
+    @Benchmark
+    public byte[] encode_serialization() throws IOException
+    {
+        return this.serialize();
+    }
+
+    @Benchmark
+    public CommonResult decode_codec()
+    {
+        return this.codec.decode(this.encoded);
+    }
+
+    @Benchmark
+    public Object decode_serialization() throws IOException, ClassNotFoundException
+    {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(this.serialized)))
+        {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] forward_decode()
+    {
+        final CommonResult result = this.codec.decode(this.encoded);
+        return result.getResultCode() == ResultCodes.SUCCESS ? this.codec.encode(result) : null;
+    }
+
+    @Benchmark
+    public byte[] forward_decodeLazily()
+    {
+        final CommonResult result = this.codec.decodeLazily(this.encoded);
+        return result.getResultCode() == ResultCodes.SUCCESS ? this.codec.encode(result) : null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.jasonnming.results.jackson.ResultStreamWriter;
+import com.github.jasonnming.results.jackson.ResultsModule;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * 写出大型分页结果的基准测试，比较先构建完整的{@link List}及JSON字节数组后写出，与{@link ResultStreamWriter}从元素生成器直接写出。
+ * <p>
+ * 元素为按需生成的短字符串，输出被丢弃；两者的差异主要体现在每次调用分配的字节数上。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultStreamWriterBenchmark
+{
+    private static final OutputStream DISCARD = new OutputStream()
+    {
+        @Override
+        public void write(final int b)
+        {
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len)
+        {
+        }
+    };
+
+    @Param({"1000", "200000"})
+    public int size;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ResultsModule());
+
+    private final ResultStreamWriter writer = new ResultStreamWriter(this.mapper);
+
+    private CommonResult envelope;
+
+    @Setup
+    public void setup()
+    {
+        this.envelope = Results.commonResult(ResultCodes.SUCCESS);
+    }
+
+    private IntStream elements()
+    {
+        return IntStream.range(0, this.size);
+    }
+
+    @Benchmark
+    public void buffered() throws IOException
+    {
+        final List<String> data = this.elements().mapToObj(x -> "item-" + x).collect(Collectors.toCollection(ArrayList::new));
+        final CommonResult result = Results.builder(ResultCodes.SUCCESS)
+                .data(data)
+                .page(1, this.size)
+                .totalSize(data.size())
+                .build();
+        DISCARD.write(this.mapper.writeValueAsBytes(result));
+    }
+
+    @Benchmark
+    public void streaming() throws IOException
+    {
+        this.writer.write(DISCARD, this.envelope, this.elements().mapToObj(x -> "item-" + x).iterator(),
+                count -> Results.builder(ResultCodes.SUCCESS).data(new ArrayList<String>(0)).page(1, this.size).totalSize(count).build());
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.page.Page;
+import com.github.jasonnming.results.page.Pages;
+import com.github.jasonnming.results.result.generic.CommonResult;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.generic.SingleResult;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * {@code Results.builder(...)}构建链的基准测试，覆盖{@code ListResultBuilderImpl}及{@code PagedListResultBuilderImpl}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultsBuilderBenchmark
+{
+    /**
+     * 列表数据的元素个数。
+     */
+    @Param({"10", "1000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private final Page page = Pages.page(1, 20);
+
+    @Setup
+    public void setup()
+    {
+        this.list = IntStream.range(0, this.size).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark
+    public CommonResult<BenchmarkResultCode> commonResult()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .message("foo")
+                .build();
+    }
+
+    @Benchmark
+    public SingleResult<BenchmarkResultCode, Object> singleResult()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .buildSingleResult(this.page);
+    }
+
+    @Benchmark
+    public ListResult<BenchmarkResultCode, Integer> listResult()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.list)
+                .build();
+    }
+
+    @Benchmark
+    public ListResult<BenchmarkResultCode, Integer> listResult_fromCollection()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .buildListResult((Collection<Integer>)this.list);
+    }
+
+    @Benchmark
+    public PagedListResult<BenchmarkResultCode, Integer> pagedListResult()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.list)
+                .page(this.page)
+                .totalSize(this.size * 10L)
+                .build();
+    }
+
+    @Benchmark
+    public PagedListResult<BenchmarkResultCode, Integer> pagedListResult_hasNextPage()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data(this.list)
+                .page(1, 20)
+                .hasNextPage(true)
+                .build();
+    }
+
+    @Benchmark
+    public MapResult<BenchmarkResultCode, Integer, Integer> mapResult_fromCollection()
+    {
+        return Results.builder(BenchmarkResultCode.SUCCESS)
+                .data((Collection<Integer>)this.list)
+                .toMapResult(x -> x)
+                .build();
+    }
+}
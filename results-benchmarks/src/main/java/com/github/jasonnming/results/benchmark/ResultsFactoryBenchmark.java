@@ -0,0 +1,97 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.generic.SetResult;
+import com.github.jasonnming.results.result.generic.SingleResult;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * {@code Results.of(Class, ResultCode, ...)}的基准测试，覆盖按结果类型分派的各个分支。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultsFactoryBenchmark
+{
+    /**
+     * 期望创建的结果类型，按{@code Results.of}中的判断顺序由浅至深排列。
+     */
+    @Param({"SingleResult", "PagedListResult", "ListResult", "SetResult", "MapResult", "CommonResult"})
+    public String resultTypeName;
+
+    private Class<? extends CommonResult> resultType;
+
+    private final List<String> data = Arrays.asList("foo", "bar", "baz");
+
+    @Setup
+    public void setup()
+    {
+        switch (this.resultTypeName)
+        {
+            case "SingleResult":
+                this.resultType = SingleResult.class;
+                break;
+            case "PagedListResult":
+                this.resultType = PagedListResult.class;
+                break;
+            case "ListResult":
+                this.resultType = ListResult.class;
+                break;
+            case "SetResult":
+                this.resultType = SetResult.class;
+                break;
+            case "MapResult":
+                this.resultType = MapResult.class;
+                break;
+            case "CommonResult":
+                this.resultType = com.github.jasonnming.results.result.generic.CommonResult.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown result type: " + this.resultTypeName);
+        }
+    }
+
+    @Benchmark
+    public CommonResult of()
+    {
+        return Results.of(this.resultType, BenchmarkResultCode.SUCCESS);
+    }
+
+    @Benchmark
+    public CommonResult of_message_debugMessage()
+    {
+        return Results.of(this.resultType, BenchmarkResultCode.SYSTEM_ERROR, "foo", "bar");
+    }
+
+    @Benchmark
+    public CommonResult of_inferred_data()
+    {
+        return Results.of(BenchmarkResultCode.SUCCESS, this.data);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.jasonnming.results.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * 结果对象的Java序列化及反序列化的基准测试，与以Java序列化作为传输格式的RPC调用一致，每次调用使用新的对象流。
+ * <p>
+ * 序列化后的字节数由{@link PayloadCounters}报告。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark
+{
+    /**
+     * 结果类型：{@code COMMON}为只有结果码的结果，{@code PAGED_LIST}为含有20个短字符串元素的分页结果。
+     */
+    @Param({"COMMON", "PAGED_LIST"})
+    public String kind;
+
+    private CommonResult result;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        if ("COMMON".equals(this.kind))
+        {
+            this.result = Results.commonResult(ResultCodes.SUCCESS);
+        } else
+        {
+            final List<String> data = IntStream.range(0, 20).mapToObj(x -> "item-" + x).collect(Collectors.toCollection(ArrayList::new));
+            this.result = Results.builder(ResultCodes.SUCCESS)
+                    .data(data)
+                    .page(3, 20)
+                    .totalSize(1000)
+                    .build();
+        }
+        this.serialized = this.serialize(new PayloadCounters());
+    }
+
+    @Benchmark
+    public byte[] serialize(final PayloadCounters counters) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(this.result);
+        }
+        counters.bytes = bytes.size();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object deserialize(final PayloadCounters counters) throws IOException, ClassNotFoundException
+    {
+        counters.bytes = this.serialized.length;
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(this.serialized)))
+        {
+            return in.readObject();
+        }
+    }
+}
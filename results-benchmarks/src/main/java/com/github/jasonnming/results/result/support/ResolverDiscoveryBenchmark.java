@@ -0,0 +1,177 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+
+/**
+ * {@link ResultCodeResolver}启动时发现的基准测试，在包含{@link #classCount}个合成类的classpath上，
+ * 对比读取编译期生成的{@code META-INF/services}索引与通过spring-core扫描整个classpath的耗时。
+ * <p>
+ * 每次调用都使用新的类加载器，以免类加载及资源缓存影响结果。
+ * 由于需要访问包级私有的{@link Extensions}，此基准测试位于{@code results-support}的同名包中。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolverDiscoveryBenchmark
+{
+    private static final String RESOLVER_CLASS_NAME = "synthetic/SyntheticResultCodeResolver";
+
+    /**
+     * 合成的classpath中类的数量。
+     */
+    @Param("50000")
+    public int classCount;
+
+    /**
+     * 带有索引的合成classpath。
+     */
+    private Path indexed;
+
+    /**
+     * 不带索引的合成classpath。
+     */
+    private Path unindexed;
+
+    private URLClassLoader indexedClassLoader;
+
+    private URLClassLoader unindexedClassLoader;
+
+    @Setup(Level.Trial)
+    public void generateClasspath() throws IOException
+    {
+        this.unindexed = generateClasses(Files.createTempDirectory("results-unindexed"), this.classCount);
+        this.indexed = generateClasses(Files.createTempDirectory("results-indexed"), this.classCount);
+
+        final Path index = this.indexed.resolve("META-INF/services/" + ResultCodeResolver.class.getName());
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList(RESOLVER_CLASS_NAME.replace('/', '.')), StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasspath() throws IOException
+    {
+        delete(this.indexed);
+        delete(this.unindexed);
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoaders() throws IOException
+    {
+        this.indexedClassLoader = new URLClassLoader(new URL[] {this.indexed.toUri().toURL()}, getClass().getClassLoader());
+        this.unindexedClassLoader = new URLClassLoader(new URL[] {this.unindexed.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoaders() throws IOException
+    {
+        this.indexedClassLoader.close();
+        this.unindexedClassLoader.close();
+    }
+
+    /**
+     * 读取编译期生成的索引（默认方式）。
+     */
+    @Benchmark
+    public ResultCodeResolver index()
+    {
+        return requireFound(Extensions.loadResultCodeResolver(this.indexedClassLoader, false));
+    }
+
+    /**
+     * 索引中不存在时回退到扫描整个classpath（需通过系统属性启用）。
+     */
+    @Benchmark
+    public ResultCodeResolver scan()
+    {
+        return requireFound(Extensions.loadResultCodeResolver(this.unindexedClassLoader, true));
+    }
+
+    private static ResultCodeResolver requireFound(final ResultCodeResolver resultCodeResolver)
+    {
+        if (resultCodeResolver == null)
+        {
+            throw new IllegalStateException("ResultCodeResolver was not found.");
+        }
+        return resultCodeResolver;
+    }
+
+    // region: Synthetic classpath
+
+    private static Path generateClasses(final Path root, final int classCount) throws IOException
+    {
+        for (int i = 0; i < classCount; i++)
+        {
+            // 1000 classes per package.
+            writeClass(root, "synthetic/p" + i / 1000 + "/C" + i);
+        }
+        writeClass(root, RESOLVER_CLASS_NAME, ResultCodeResolver.class.getName().replace('.', '/'));
+        return root;
+    }
+
+    private static void writeClass(final Path root, final String internalName, final String... interfaces) throws IOException
+    {
+        final ClassWriter classWriter = new ClassWriter(0);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", interfaces);
+
+        final MethodVisitor constructor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+
+        classWriter.visitEnd();
+
+        final Path file = root.resolve(internalName + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, classWriter.toByteArray());
+    }
+
+    private static void delete(final Path root) throws IOException
+    {
+        if (root == null)
+        {
+            return;
+        }
+        try (final Stream<Path> paths = Files.walk(root))
+        {
+            paths.sorted(Comparator.reverseOrder()).forEach(x -> x.toFile().delete());
+        }
+    }
+
+    // endregion: Synthetic classpath
+}
@@ -0,0 +1,36 @@
+package com.github.jasonnming.results.codec;
+
+import org.apiguardian.api.API;
+
+/**
+ * 结果对象中数据元素的编解码器，{@link ResultCodec}通过它编码{@code SingleResult}的数据、集合的元素及Map的key和value。
+ * <p>
+ * {@code null}由{@link ResultCodec}处理，因此{@link #write}不会收到{@code null}，{@link #read}也不应返回{@code null}。
+ * 常用类型的实现见{@link ElementCodecs}。
+ *
+ * @param <T> 元素类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public interface ElementCodec<T>
+{
+    /**
+     * 编码{@code value}。
+     *
+     * @param value 元素，不为{@code null}。
+     * @param out   输出。
+     */
+    void write(T value, ResultOutput out);
+
+    /**
+     * 解码一个元素。
+     *
+     * @param in 输入。
+     *
+     * @return 元素。
+     */
+    T read(ResultInput in);
+}
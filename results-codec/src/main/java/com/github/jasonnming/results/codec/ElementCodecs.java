@@ -0,0 +1,106 @@
+package com.github.jasonnming.results.codec;
+
+import org.apiguardian.api.API;
+
+/**
+ * 常用类型的{@link ElementCodec}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ElementCodecs
+{
+    /**
+     * UTF-8编码的字符串。
+     */
+    public static final ElementCodec<String> STRING = new ElementCodec<String>()
+    {
+        @Override
+        public void write(final String value, final ResultOutput out)
+        {
+            out.writeString(value);
+        }
+
+        @Override
+        public String read(final ResultInput in)
+        {
+            return in.readString();
+        }
+    };
+
+    /**
+     * ZigZag变长编码的{@link Integer}。
+     */
+    public static final ElementCodec<Integer> INT = new ElementCodec<Integer>()
+    {
+        @Override
+        public void write(final Integer value, final ResultOutput out)
+        {
+            out.writeZigZagInt(value);
+        }
+
+        @Override
+        public Integer read(final ResultInput in)
+        {
+            return in.readZigZagInt();
+        }
+    };
+
+    /**
+     * ZigZag变长编码的{@link Long}。
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>()
+    {
+        @Override
+        public void write(final Long value, final ResultOutput out)
+        {
+            out.writeZigZagLong(value);
+        }
+
+        @Override
+        public Long read(final ResultInput in)
+        {
+            return in.readZigZagLong();
+        }
+    };
+
+    /**
+     * 8字节定长编码的{@link Double}。
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>()
+    {
+        @Override
+        public void write(final Double value, final ResultOutput out)
+        {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(final ResultInput in)
+        {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * 单字节编码的{@link Boolean}。
+     */
+    public static final ElementCodec<Boolean> BOOLEAN = new ElementCodec<Boolean>()
+    {
+        @Override
+        public void write(final Boolean value, final ResultOutput out)
+        {
+            out.writeBoolean(value);
+        }
+
+        @Override
+        public Boolean read(final ResultInput in)
+        {
+            return in.readBoolean();
+        }
+    };
+
+    private ElementCodecs() { }
+}
@@ -0,0 +1,245 @@
+package com.github.jasonnming.results.codec;
+
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ResultCodec#decodeLazily(ByteBuffer)}使用的延迟解码的数据，保存编码后的原始字节，在首次访问元素时才解码。
+ * <p>
+ * 这些集合都是只读的，因此原始字节始终与内容一致，再次编码时直接写出原始字节。
+ * 可以在线程间共享，并发的首次访问可能重复解码，但结果相同。进行Java序列化时将解码并替换为{@link ArrayList}、{@link HashSet}或{@link HashMap}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class LazyPayloads
+{
+    private LazyPayloads() { }
+
+    /**
+     * 保存原始字节的数据。
+     */
+    interface Payload
+    {
+        /**
+         * @return 原始字节的只读视图，位置独立于此对象。
+         */
+        ByteBuffer raw();
+
+        /**
+         * @return 是否已经解码。
+         */
+        boolean isDecoded();
+    }
+
+    /**
+     * 原始字节及解码后的数据。
+     */
+    private static final class Lazy<T>
+    {
+        private final ByteBuffer raw;
+
+        private final Function<ResultInput, T> reader;
+
+        @Nullable
+        private volatile T value;
+
+        private Lazy(final ByteBuffer raw, final Function<ResultInput, T> reader)
+        {
+            this.raw = raw;
+            this.reader = reader;
+        }
+
+        private T get()
+        {
+            T value = this.value;
+            if (value == null)
+            {
+                final ResultInput in = new ResultInput(this.raw.duplicate());
+                try
+                {
+                    value = this.reader.apply(in);
+                } catch (BufferUnderflowException | IndexOutOfBoundsException e)
+                {
+                    throw new IllegalArgumentException("Malformed result, unexpected end of input.", e);
+                }
+                if (in.remaining() != 0)
+                {
+                    throw new IllegalArgumentException("Malformed result, [" + in.remaining() + "] trailing bytes.");
+                }
+                this.value = value;
+            }
+            return value;
+        }
+    }
+
+    static final class LazyList
+            extends AbstractList<Object>
+            implements RandomAccess, Payload, Serializable
+    {
+        private static final long serialVersionUID = 0x2b96d4e07c1f358aL;
+
+        private final transient Lazy<List<Object>> lazy;
+
+        LazyList(final ByteBuffer raw, final Function<ResultInput, List<Object>> reader)
+        {
+            this.lazy = new Lazy<>(raw, reader.andThen(Collections::unmodifiableList));
+        }
+
+        @Override
+        public Object get(final int index)
+        {
+            return this.lazy.get().get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.lazy.get().size();
+        }
+
+        @Override
+        public Iterator<Object> iterator()
+        {
+            return this.lazy.get().iterator();
+        }
+
+        @Override
+        public ByteBuffer raw()
+        {
+            return this.lazy.raw.asReadOnlyBuffer();
+        }
+
+        @Override
+        public boolean isDecoded()
+        {
+            return this.lazy.value != null;
+        }
+
+        private Object writeReplace()
+        {
+            return new ArrayList<>(this.lazy.get());
+        }
+    }
+
+    static final class LazySet
+            extends AbstractSet<Object>
+            implements Payload, Serializable
+    {
+        private static final long serialVersionUID = 0x70c85f2ea4139bd6L;
+
+        private final transient Lazy<Set<Object>> lazy;
+
+        LazySet(final ByteBuffer raw, final Function<ResultInput, Set<Object>> reader)
+        {
+            this.lazy = new Lazy<>(raw, reader.andThen(Collections::unmodifiableSet));
+        }
+
+        @Override
+        public int size()
+        {
+            return this.lazy.get().size();
+        }
+
+        @Override
+        public boolean contains(final Object o)
+        {
+            return this.lazy.get().contains(o);
+        }
+
+        @Override
+        public Iterator<Object> iterator()
+        {
+            return this.lazy.get().iterator();
+        }
+
+        @Override
+        public ByteBuffer raw()
+        {
+            return this.lazy.raw.asReadOnlyBuffer();
+        }
+
+        @Override
+        public boolean isDecoded()
+        {
+            return this.lazy.value != null;
+        }
+
+        private Object writeReplace()
+        {
+            return new HashSet<>(this.lazy.get());
+        }
+    }
+
+    static final class LazyMap
+            extends AbstractMap<Object, Object>
+            implements Payload, Serializable
+    {
+        private static final long serialVersionUID = 0x19e3b7a65d08c24fL;
+
+        private final transient Lazy<Map<Object, Object>> lazy;
+
+        LazyMap(final ByteBuffer raw, final Function<ResultInput, Map<Object, Object>> reader)
+        {
+            this.lazy = new Lazy<>(raw, reader.andThen(Collections::unmodifiableMap));
+        }
+
+        @Override
+        public int size()
+        {
+            return this.lazy.get().size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key)
+        {
+            return this.lazy.get().containsKey(key);
+        }
+
+        @Override
+        public Object get(final Object key)
+        {
+            return this.lazy.get().get(key);
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet()
+        {
+            return this.lazy.get().entrySet();
+        }
+
+        @Override
+        public ByteBuffer raw()
+        {
+            return this.lazy.raw.asReadOnlyBuffer();
+        }
+
+        @Override
+        public boolean isDecoded()
+        {
+            return this.lazy.value != null;
+        }
+
+        private Object writeReplace()
+        {
+            return new HashMap<>(this.lazy.get());
+        }
+    }
+}
@@ -0,0 +1,876 @@
+package com.github.jasonnming.results.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.internal.InternalUtils;
+import com.github.jasonnming.results.result.basic.CollectionResult;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.DoubleListResult;
+import com.github.jasonnming.results.result.basic.IntListResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.LongListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SetResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.basic.StreamingListResult;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.support.DefaultResults;
+import com.github.jasonnming.results.result.support.ResultCodes;
+
+/**
+ * {@code results-api}中全部结果类型的紧凑二进制编解码器。
+ * <p>
+ * 编码格式：
+ * <ol>
+ *     <li>格式版本（1字节）。</li>
+ *     <li>头部（1字节）：低3位为结果类型，第3、4位为基本类型列表的元素类型，第5、6、7位分别表示是否存在消息、调试消息及数据。</li>
+ *     <li>结果码字符串，及存在时的消息和调试消息。与{@link ResultCodes}中预定义结果码的默认消息相同的消息不会被写出，其它结果码的消息总是写出，以免解码端未注册该结果码时丢失消息。</li>
+ *     <li>分页结果的分页信息：1字节的标记位，之后依次为存在的当前页数、每页记录条数、总页数及总记录数的ZigZag变长整数。</li>
+ *     <li>数据：对象由{@link ElementCodec}编码；集合及Map先写出元素个数与是否含有{@code null}的变长整数，含有{@code null}时每个元素之前有1字节的存在标记；
+ *     基本类型列表直接写出元素，不经过装箱。延迟求值的列表（{@link StreamingListResult}）不预先读取全部数据，以{@code 1}（即0个元素且含有{@code null}，普通集合不会写出此值）开始，
+ *     之后分块写出，每块的格式与集合相同，以空块（{@code 0}）结束。</li>
+ * </ol>
+ * 解码得到的结果对象与{@link com.github.jasonnming.results.result.support.Results}构建的相同，
+ * 集合类型的数据分别解码为{@link ArrayList}、{@link HashSet}和{@link HashMap}。
+ * <p>
+ * 只需检查结果码或转发结果的场合（如网关）可以使用{@link #decodeLazily(ByteBuffer)}，此时对象列表、Set及Map的数据保留为原始字节，在首次访问元素时才解码，
+ * 再次编码时直接写出原始字节。
+ * <p>
+ * 此类的实例是不可变的，可以在线程间共享。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ResultCodec
+{
+    /**
+     * 编码格式的版本。
+     */
+    static final int FORMAT_VERSION = 1;
+
+    static final int KIND_COMMON = 0;
+
+    static final int KIND_SINGLE = 1;
+
+    static final int KIND_LIST = 2;
+
+    static final int KIND_PAGED_LIST = 3;
+
+    static final int KIND_SET = 4;
+
+    static final int KIND_MAP = 5;
+
+    private static final int KIND_MASK = 0x07;
+
+    static final int PRIMITIVE_NONE = 0;
+
+    static final int PRIMITIVE_INT = 1 << 3;
+
+    static final int PRIMITIVE_LONG = 2 << 3;
+
+    static final int PRIMITIVE_DOUBLE = 3 << 3;
+
+    private static final int PRIMITIVE_MASK = 0x18;
+
+    private static final int HAS_MESSAGE = 1 << 5;
+
+    private static final int HAS_DEBUG_MESSAGE = 1 << 6;
+
+    private static final int HAS_DATA = 1 << 7;
+
+    /**
+     * 分页标记位中表示存在下一页的位，仅在{@link DefaultResults#PREDICTABLE}时有意义。
+     */
+    private static final int NEXT_PAGE = 1 << 5;
+
+    private static final int PAGING_MASK = DefaultResults.HAS_PAGE | DefaultResults.HAS_PAGE_SIZE | DefaultResults.PREDICTABLE
+                                           | DefaultResults.HAS_TOTAL_PAGE | DefaultResults.HAS_TOTAL_SIZE | NEXT_PAGE;
+
+    /**
+     * 各端都一致的预定义结果码，只有这些结果码的默认消息可以省略。
+     */
+    private static final ResultCode[] BUILT_IN_CODES = {
+            ResultCodes.SUCCESS, ResultCodes.SYSTEM_ERROR, ResultCodes.REMOTE_ERROR, ResultCodes.ILLEGAL_ARGUMENT, ResultCodes.DATA_NOT_EXIST
+    };
+
+    /**
+     * 延迟求值的列表分块写出时的起始标记，即0个元素且含有{@code null}的集合头部，普通集合不会写出此值。
+     */
+    private static final int CHUNKED = 1;
+
+    /**
+     * 延迟求值的列表每块的元素个数上限。
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final ResultCodec WITHOUT_ELEMENT_CODEC = new ResultCodec(null, null);
+
+    /**
+     * Map的key的编解码器。
+     */
+    @Nullable
+    private final ElementCodec<Object> keyCodec;
+
+    /**
+     * 单个数据、集合元素及Map的value的编解码器。
+     */
+    @Nullable
+    private final ElementCodec<Object> elementCodec;
+
+    @SuppressWarnings("unchecked")
+    private ResultCodec(@Nullable final ElementCodec<?> keyCodec, @Nullable final ElementCodec<?> elementCodec)
+    {
+        this.keyCodec = (ElementCodec<Object>)keyCodec;
+        this.elementCodec = (ElementCodec<Object>)elementCodec;
+    }
+
+    /**
+     * 获取不含元素编解码器的实例，仅能编解码不含数据的结果及基本类型列表结果。
+     *
+     * @return 编解码器。
+     */
+    public static ResultCodec of()
+    {
+        return WITHOUT_ELEMENT_CODEC;
+    }
+
+    /**
+     * 创建使用{@code elementCodec}编解码数据的实例，不支持Map结果。
+     *
+     * @param elementCodec 单个数据及集合元素的编解码器。
+     *
+     * @return 编解码器。
+     */
+    public static ResultCodec of(final ElementCodec<?> elementCodec)
+    {
+        return new ResultCodec(null, Objects.requireNonNull(elementCodec, "elementCodec"));
+    }
+
+    /**
+     * 创建使用{@code keyCodec}及{@code elementCodec}编解码数据的实例。
+     *
+     * @param keyCodec     Map的key的编解码器。
+     * @param elementCodec 单个数据、集合元素及Map的value的编解码器。
+     *
+     * @return 编解码器。
+     */
+    public static ResultCodec of(final ElementCodec<?> keyCodec, final ElementCodec<?> elementCodec)
+    {
+        return new ResultCodec(Objects.requireNonNull(keyCodec, "keyCodec"), Objects.requireNonNull(elementCodec, "elementCodec"));
+    }
+
+    // region encode
+
+    /**
+     * 编码{@code result}。
+     *
+     * @param result 结果对象。
+     *
+     * @return 编码后的字节。
+     *
+     * @throws IllegalStateException 如果编码{@code result}的数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    public byte[] encode(final CommonResult result)
+    {
+        final ResultOutput out = new ResultOutput();
+        this.encode(result, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 编码{@code result}并写入{@code out}。
+     *
+     * @param result 结果对象。
+     * @param out    输出。
+     *
+     * @throws IllegalStateException 如果编码{@code result}的数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    public void encode(final CommonResult result, final ResultOutput out)
+    {
+        Objects.requireNonNull(result, "result");
+
+        // Streaming data is read from its source while being written, rather than drained by getData().
+        final Object data = result instanceof StreamingListResult ? result
+                            : result instanceof SingleResult ? ((SingleResult<?>)result).getData()
+                            : result instanceof CollectionResult ? ((CollectionResult<?, ?>)result).getData()
+                              : result instanceof MapResult ? ((MapResult<?, ?>)result).getData()
+                                : null;
+        final int kind = kindOf(result);
+        final int primitive = primitiveOf(result);
+
+        final String code = result.getCode();
+        final ResultCode builtIn = builtInOf(code);
+        final String message = result.getMessage();
+        final String debugMessage = result.getDebugMessage();
+        final boolean hasMessage = message != null && (builtIn == null || !message.equals(defaultMessage(builtIn)));
+        final boolean hasDebugMessage = debugMessage != null && (builtIn == null || !debugMessage.equals(defaultDebugMessage(builtIn)));
+
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(kind | primitive | (hasMessage ? HAS_MESSAGE : 0) | (hasDebugMessage ? HAS_DEBUG_MESSAGE : 0) | (data != null ? HAS_DATA : 0));
+        out.writeString(code);
+        if (hasMessage)
+        {
+            out.writeString(message);
+        }
+        if (hasDebugMessage)
+        {
+            out.writeString(debugMessage);
+        }
+        if (kind == KIND_PAGED_LIST)
+        {
+            writePaging((PagedListResult<?>)result, out);
+        }
+        if (data == null)
+        {
+            return;
+        }
+
+        switch (kind)
+        {
+            case KIND_SINGLE:
+                this.writeElement(this.elementCodec, data, out);
+                break;
+            case KIND_LIST:
+            case KIND_PAGED_LIST:
+                if (primitive != PRIMITIVE_NONE)
+                {
+                    writePrimitives(result, primitive, out);
+                    break;
+                }
+                if (data instanceof StreamingListResult)
+                {
+                    this.writeChunks((StreamingListResult<?>)data, out);
+                    break;
+                }
+                // fallthrough
+            case KIND_SET:
+                this.writeCollection((Collection<?>)data, out);
+                break;
+            case KIND_MAP:
+                this.writeMap((Map<?, ?>)data, out);
+                break;
+            default:
+                throw new AssertionError(kind);
+        }
+    }
+
+    private static int kindOf(final CommonResult result)
+    {
+        if (result instanceof PagedListResult)
+        {
+            return KIND_PAGED_LIST;
+        }
+        if (result instanceof ListResult)
+        {
+            return KIND_LIST;
+        }
+        if (result instanceof SetResult)
+        {
+            return KIND_SET;
+        }
+        if (result instanceof MapResult)
+        {
+            return KIND_MAP;
+        }
+        if (result instanceof CollectionResult)
+        {
+            // Other collections are decoded as lists.
+            return KIND_LIST;
+        }
+        if (result instanceof SingleResult)
+        {
+            return KIND_SINGLE;
+        }
+        return KIND_COMMON;
+    }
+
+    private static int primitiveOf(final CommonResult result)
+    {
+        if (result instanceof IntListResult)
+        {
+            return PRIMITIVE_INT;
+        }
+        if (result instanceof LongListResult)
+        {
+            return PRIMITIVE_LONG;
+        }
+        if (result instanceof DoubleListResult)
+        {
+            return PRIMITIVE_DOUBLE;
+        }
+        return PRIMITIVE_NONE;
+    }
+
+    /**
+     * 获取{@code code}对应的预定义结果码（不能被{@link ResultCodes#register(ResultCode)}覆盖）。
+     * 其它结果码在解码端可能未注册或注册了不同的消息，其消息总是写出。
+     */
+    @Nullable
+    private static ResultCode builtInOf(final String code)
+    {
+        final ResultCode resolved = ResultCodes.lookup(code);
+        for (final ResultCode builtIn : BUILT_IN_CODES)
+        {
+            if (resolved == builtIn)
+            {
+                return builtIn;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String defaultMessage(final ResultCode code)
+    {
+        return code instanceof WithMessage ? ((WithMessage)code).getMessage() : null;
+    }
+
+    @Nullable
+    private static String defaultDebugMessage(final ResultCode code)
+    {
+        return code instanceof WithMessage ? ((WithMessage)code).getDebugMessage() : null;
+    }
+
+    private static void writePaging(final PagedListResult<?> result, final ResultOutput out)
+    {
+        final boolean predictable = result.isPredictable();
+        final int present = (result.hasPage() ? DefaultResults.HAS_PAGE : 0)
+                            | (result.hasPageSize() ? DefaultResults.HAS_PAGE_SIZE : 0)
+                            | (predictable ? DefaultResults.PREDICTABLE : 0)
+                            | (predictable && result.hasNextPage() ? NEXT_PAGE : 0)
+                            | (result.hasTotalPage() ? DefaultResults.HAS_TOTAL_PAGE : 0)
+                            | (result.hasTotalSize() ? DefaultResults.HAS_TOTAL_SIZE : 0);
+        out.writeByte(present);
+        if ((present & DefaultResults.HAS_PAGE) != 0)
+        {
+            out.writeZigZagLong(result.getPage());
+        }
+        if ((present & DefaultResults.HAS_PAGE_SIZE) != 0)
+        {
+            out.writeZigZagLong(result.getPageSize());
+        }
+        if ((present & DefaultResults.HAS_TOTAL_PAGE) != 0)
+        {
+            out.writeZigZagLong(result.getTotalPage());
+        }
+        if ((present & DefaultResults.HAS_TOTAL_SIZE) != 0)
+        {
+            out.writeZigZagLong(result.getTotalSize());
+        }
+    }
+
+    private static void writePrimitives(final CommonResult result, final int primitive, final ResultOutput out)
+    {
+        switch (primitive)
+        {
+            case PRIMITIVE_INT:
+            {
+                final IntListResult list = (IntListResult)result;
+                final int size = list.size();
+                out.writeVarInt(size);
+                for (int i = 0; i < size; i++)
+                {
+                    out.writeZigZagInt(list.getInt(i));
+                }
+                break;
+            }
+            case PRIMITIVE_LONG:
+            {
+                final LongListResult list = (LongListResult)result;
+                final int size = list.size();
+                out.writeVarInt(size);
+                for (int i = 0; i < size; i++)
+                {
+                    out.writeZigZagLong(list.getLong(i));
+                }
+                break;
+            }
+            case PRIMITIVE_DOUBLE:
+            {
+                final DoubleListResult list = (DoubleListResult)result;
+                final int size = list.size();
+                out.writeVarInt(size);
+                for (int i = 0; i < size; i++)
+                {
+                    out.writeDouble(list.getDouble(i));
+                }
+                break;
+            }
+            default:
+                throw new AssertionError(primitive);
+        }
+    }
+
+    private void writeElement(@Nullable final ElementCodec<Object> codec, final Object value, final ResultOutput out)
+    {
+        if (codec == null)
+        {
+            throw new IllegalStateException("No element codec for [" + value.getClass().getName() + "].");
+        }
+        codec.write(value, out);
+    }
+
+    private void writeCollection(final Collection<?> data, final ResultOutput out)
+    {
+        if (data instanceof LazyPayloads.Payload)
+        {
+            out.writeBytes(((LazyPayloads.Payload)data).raw());
+            return;
+        }
+        final boolean hasNull = containsNull(data);
+        out.writeVarInt(data.size() << 1 | (hasNull ? 1 : 0));
+        for (final Object element : data)
+        {
+            this.writeNullable(element, hasNull, out);
+        }
+    }
+
+    /**
+     * 从数据源逐个读取并分块写出，以{@link #CHUNKED}开始，以空块结束。写出失败时关闭数据源。
+     */
+    private void writeChunks(final StreamingListResult<?> result, final ResultOutput out)
+    {
+        final Object[] chunk = new Object[CHUNK_SIZE];
+        try
+        {
+            final Iterator<?> iterator = result.iterator();
+            out.writeVarInt(CHUNKED);
+            int count;
+            do
+            {
+                count = 0;
+                boolean hasNull = false;
+                while (count < chunk.length && iterator.hasNext())
+                {
+                    final Object element = iterator.next();
+                    hasNull |= element == null;
+                    chunk[count++] = element;
+                }
+                out.writeVarInt(count << 1 | (hasNull ? 1 : 0));
+                for (int i = 0; i < count; i++)
+                {
+                    this.writeNullable(chunk[i], hasNull, out);
+                }
+            } while (count > 0);
+        } catch (final RuntimeException e)
+        {
+            try
+            {
+                result.close();
+            } catch (final RuntimeException suppressed)
+            {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 写出集合的元素，{@code hasNull}时先写出1字节的存在标记。
+     */
+    private void writeNullable(@Nullable final Object element, final boolean hasNull, final ResultOutput out)
+    {
+        if (hasNull)
+        {
+            out.writeBoolean(element != null);
+            if (element == null)
+            {
+                return;
+            }
+        }
+        this.writeElement(this.elementCodec, element, out);
+    }
+
+    private void writeMap(final Map<?, ?> data, final ResultOutput out)
+    {
+        if (data instanceof LazyPayloads.Payload)
+        {
+            out.writeBytes(((LazyPayloads.Payload)data).raw());
+            return;
+        }
+        boolean hasNull = false;
+        for (final Map.Entry<?, ?> entry : data.entrySet())
+        {
+            if (entry.getKey() == null || entry.getValue() == null)
+            {
+                hasNull = true;
+                break;
+            }
+        }
+        out.writeVarInt(data.size() << 1 | (hasNull ? 1 : 0));
+        for (final Map.Entry<?, ?> entry : data.entrySet())
+        {
+            final Object key = entry.getKey();
+            final Object value = entry.getValue();
+            if (hasNull)
+            {
+                out.writeByte((key != null ? 1 : 0) | (value != null ? 2 : 0));
+            }
+            if (key != null)
+            {
+                this.writeElement(this.keyCodec, key, out);
+            }
+            if (value != null)
+            {
+                this.writeElement(this.elementCodec, value, out);
+            }
+        }
+    }
+
+    private static boolean containsNull(final Collection<?> data)
+    {
+        // Some collections (e.g. TreeSet) throw on contains(null).
+        for (final Object element : data)
+        {
+            if (element == null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // endregion
+
+    // region decode
+
+    /**
+     * 解码{@code bytes}。
+     *
+     * @param bytes 编码后的字节。
+     * @param <R>   结果类型，结果码的类型总是{@link ResultCode}。
+     *
+     * @return 结果对象。
+     *
+     * @throws IllegalArgumentException 如果{@code bytes}不是有效的编码或含有多余的字节，则抛出此异常。
+     * @throws IllegalStateException    如果解码数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    public <R extends CommonResult> R decode(final byte[] bytes)
+    {
+        final ResultInput in = new ResultInput(bytes);
+        final R result = this.decode(in);
+        if (in.remaining() != 0)
+        {
+            throw new IllegalArgumentException("Malformed result, [" + in.remaining() + "] trailing bytes.");
+        }
+        return result;
+    }
+
+    /**
+     * 从{@code in}解码一个结果对象。
+     *
+     * @param in  输入。
+     * @param <R> 结果类型，结果码的类型总是{@link ResultCode}。
+     *
+     * @return 结果对象。
+     *
+     * @throws IllegalArgumentException 如果{@code in}不是有效的编码，则抛出此异常。
+     * @throws IllegalStateException    如果解码数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends CommonResult> R decode(final ResultInput in)
+    {
+        try
+        {
+            return (R)this.read(in, false);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e)
+        {
+            throw new IllegalArgumentException("Malformed result, unexpected end of input.", e);
+        }
+    }
+
+    /**
+     * 解码{@code buffer}中从当前位置到界限的一个结果对象，对象列表、Set及Map的数据保留为原始字节，在首次访问元素时才解码。
+     * <p>
+     * 结果码、消息及分页信息立即解码，单个数据及基本类型列表的数据也立即解码。延迟解码的数据是只读的，
+     * 再次编码时直接写出原始字节而不经过{@link ElementCodec}，因此不含元素编解码器的实例（{@link #of()}）也可以检查并转发任意结果。
+     * <p>
+     * 数据与{@code buffer}共享内容而不复制，因此在结果对象使用期间不能修改{@code buffer}的内容，{@code buffer}的位置不会改变。
+     * 延迟解码的数据中的格式错误在首次访问元素时才抛出{@link IllegalArgumentException}。
+     *
+     * @param buffer 编码后的字节。
+     * @param <R>    结果类型，结果码的类型总是{@link ResultCode}。
+     *
+     * @return 结果对象。
+     *
+     * @throws IllegalArgumentException 如果{@code buffer}不是有效的编码或含有多余的字节，则抛出此异常。
+     * @throws IllegalStateException    如果立即解码的数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends CommonResult> R decodeLazily(final ByteBuffer buffer)
+    {
+        final ResultInput in = new ResultInput(buffer.slice());
+        final R result;
+        try
+        {
+            result = (R)this.read(in, true);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e)
+        {
+            throw new IllegalArgumentException("Malformed result, unexpected end of input.", e);
+        }
+        if (in.remaining() != 0)
+        {
+            throw new IllegalArgumentException("Malformed result, [" + in.remaining() + "] trailing bytes.");
+        }
+        return result;
+    }
+
+    /**
+     * 解码{@code bytes}，对象列表、Set及Map的数据在首次访问元素时才解码，见{@link #decodeLazily(ByteBuffer)}。
+     *
+     * @param bytes 编码后的字节，在结果对象使用期间不能修改。
+     * @param <R>   结果类型，结果码的类型总是{@link ResultCode}。
+     *
+     * @return 结果对象。
+     *
+     * @throws IllegalArgumentException 如果{@code bytes}不是有效的编码或含有多余的字节，则抛出此异常。
+     * @throws IllegalStateException    如果立即解码的数据所需的{@link ElementCodec}不存在，则抛出此异常。
+     */
+    public <R extends CommonResult> R decodeLazily(final byte[] bytes)
+    {
+        return this.decodeLazily(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param lazy 是否延迟解码对象列表、Set及Map的数据，此时将读取剩余的全部字节。
+     */
+    private CommonResult read(final ResultInput in, final boolean lazy)
+    {
+        final int version = in.readByte();
+        if (version != FORMAT_VERSION)
+        {
+            throw new IllegalArgumentException("Unsupported format version [" + version + "].");
+        }
+        final int header = in.readByte() & 0xff;
+        final int kind = header & KIND_MASK;
+        final int primitive = header & PRIMITIVE_MASK;
+        final boolean hasData = (header & HAS_DATA) != 0;
+
+        final ResultCode code = ResultCodes.lookup(in.readString());
+        final String message = (header & HAS_MESSAGE) != 0 ? in.readString() : null;
+        final String debugMessage = (header & HAS_DEBUG_MESSAGE) != 0 ? in.readString() : null;
+
+        if (primitive != PRIMITIVE_NONE && kind != KIND_LIST && kind != KIND_PAGED_LIST)
+        {
+            throw new IllegalArgumentException("Malformed result, unexpected header [" + header + "].");
+        }
+
+        switch (kind)
+        {
+            case KIND_COMMON:
+                if (hasData)
+                {
+                    throw new IllegalArgumentException("Malformed result, unexpected header [" + header + "].");
+                }
+                return DefaultResults.common(code, message, debugMessage);
+            case KIND_SINGLE:
+                return DefaultResults.single(code, message, debugMessage, hasData ? this.readElement(this.elementCodec, in) : null);
+            case KIND_LIST:
+                switch (primitive)
+                {
+                    case PRIMITIVE_INT:
+                        return DefaultResults.intList(code, message, debugMessage, hasData ? readInts(in) : null);
+                    case PRIMITIVE_LONG:
+                        return DefaultResults.longList(code, message, debugMessage, hasData ? readLongs(in) : null);
+                    case PRIMITIVE_DOUBLE:
+                        return DefaultResults.doubleList(code, message, debugMessage, hasData ? readDoubles(in) : null);
+                    default:
+                        return DefaultResults.list(code, message, debugMessage, hasData ? this.readList(in, lazy) : null);
+                }
+            case KIND_PAGED_LIST:
+                return this.readPagedList(in, code, message, debugMessage, primitive, hasData, lazy);
+            case KIND_SET:
+                return DefaultResults.set(code, message, debugMessage, hasData ? this.readSet(in, lazy) : null);
+            case KIND_MAP:
+                return DefaultResults.map(code, message, debugMessage, hasData ? this.readMap(in, lazy) : null);
+            default:
+                throw new IllegalArgumentException("Malformed result, unknown kind [" + kind + "].");
+        }
+    }
+
+    private CommonResult readPagedList(final ResultInput in, final ResultCode code, @Nullable final String message, @Nullable final String debugMessage,
+                                       final int primitive, final boolean hasData, final boolean lazy)
+    {
+        final int present = in.readByte() & 0xff;
+        if ((present & ~PAGING_MASK) != 0)
+        {
+            throw new IllegalArgumentException("Malformed result, unknown paging flags [" + present + "].");
+        }
+        final long page = (present & DefaultResults.HAS_PAGE) != 0 ? in.readZigZagLong() : 0;
+        final long pageSize = (present & DefaultResults.HAS_PAGE_SIZE) != 0 ? in.readZigZagLong() : 0;
+        final boolean hasNextPage = (present & NEXT_PAGE) != 0;
+        final long totalPage = (present & DefaultResults.HAS_TOTAL_PAGE) != 0 ? in.readZigZagLong() : 0;
+        final long totalSize = (present & DefaultResults.HAS_TOTAL_SIZE) != 0 ? in.readZigZagLong() : 0;
+
+        switch (primitive)
+        {
+            case PRIMITIVE_INT:
+                return DefaultResults.intPagedList(code, message, debugMessage, hasData ? readInts(in) : null,
+                        present, page, pageSize, hasNextPage, totalPage, totalSize);
+            case PRIMITIVE_LONG:
+                return DefaultResults.longPagedList(code, message, debugMessage, hasData ? readLongs(in) : null,
+                        present, page, pageSize, hasNextPage, totalPage, totalSize);
+            case PRIMITIVE_DOUBLE:
+                return DefaultResults.doublePagedList(code, message, debugMessage, hasData ? readDoubles(in) : null,
+                        present, page, pageSize, hasNextPage, totalPage, totalSize);
+            default:
+                return DefaultResults.pagedList(code, message, debugMessage, hasData ? this.readList(in, lazy) : null,
+                        present, page, pageSize, hasNextPage, totalPage, totalSize);
+        }
+    }
+
+    /**
+     * 读取元素个数，并按剩余字节数检查其合法性，以免恶意的输入导致分配过大的数组。
+     *
+     * @param minBytesPerElement 每个元素至少占用的字节数。
+     */
+    private static int readSize(final ResultInput in, final int size, final int minBytesPerElement)
+    {
+        if (size < 0 || (long)size * minBytesPerElement > in.remaining())
+        {
+            throw new IllegalArgumentException("Malformed result, illegal size [" + size + "].");
+        }
+        return size;
+    }
+
+    private static int[] readInts(final ResultInput in)
+    {
+        final int[] data = new int[readSize(in, in.readVarInt(), 1)];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = in.readZigZagInt();
+        }
+        return data;
+    }
+
+    private static long[] readLongs(final ResultInput in)
+    {
+        final long[] data = new long[readSize(in, in.readVarInt(), 1)];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = in.readZigZagLong();
+        }
+        return data;
+    }
+
+    private static double[] readDoubles(final ResultInput in)
+    {
+        final double[] data = new double[readSize(in, in.readVarInt(), 8)];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = in.readDouble();
+        }
+        return data;
+    }
+
+    private Object readElement(@Nullable final ElementCodec<Object> codec, final ResultInput in)
+    {
+        if (codec == null)
+        {
+            throw new IllegalStateException("No element codec.");
+        }
+        return codec.read(in);
+    }
+
+    private List<Object> readList(final ResultInput in, final boolean lazy)
+    {
+        return lazy ? new LazyPayloads.LazyList(in.readRemaining(), this::readList) : this.readList(in);
+    }
+
+    private Set<Object> readSet(final ResultInput in, final boolean lazy)
+    {
+        return lazy ? new LazyPayloads.LazySet(in.readRemaining(), this::readSet) : this.readSet(in);
+    }
+
+    private Map<Object, Object> readMap(final ResultInput in, final boolean lazy)
+    {
+        return lazy ? new LazyPayloads.LazyMap(in.readRemaining(), this::readMap) : this.readMap(in);
+    }
+
+    private List<Object> readList(final ResultInput in)
+    {
+        final int header = in.readVarInt();
+        if (header == CHUNKED)
+        {
+            return this.readChunks(in);
+        }
+        final int size = readSize(in, header >>> 1, 1);
+        final boolean hasNull = (header & 1) != 0;
+        final List<Object> data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            data.add(hasNull && !in.readBoolean() ? null : this.readElement(this.elementCodec, in));
+        }
+        return data;
+    }
+
+    /**
+     * 读取{@link #writeChunks(StreamingListResult, ResultOutput)}分块写出的数据。
+     */
+    private List<Object> readChunks(final ResultInput in)
+    {
+        final List<Object> data = new ArrayList<>();
+        for (int header = in.readVarInt(); header != 0; header = in.readVarInt())
+        {
+            final int size = readSize(in, header >>> 1, 1);
+            if (size == 0)
+            {
+                throw new IllegalArgumentException("Malformed result, illegal chunk header [" + header + "].");
+            }
+            final boolean hasNull = (header & 1) != 0;
+            for (int i = 0; i < size; i++)
+            {
+                data.add(hasNull && !in.readBoolean() ? null : this.readElement(this.elementCodec, in));
+            }
+        }
+        return data;
+    }
+
+    private Set<Object> readSet(final ResultInput in)
+    {
+        final int header = in.readVarInt();
+        final int size = readSize(in, header >>> 1, 1);
+        final boolean hasNull = (header & 1) != 0;
+        final Set<Object> data = new HashSet<>(InternalUtils.hashCapacity(size));
+        for (int i = 0; i < size; i++)
+        {
+            data.add(hasNull && !in.readBoolean() ? null : this.readElement(this.elementCodec, in));
+        }
+        return data;
+    }
+
+    private Map<Object, Object> readMap(final ResultInput in)
+    {
+        final int header = in.readVarInt();
+        final int size = readSize(in, header >>> 1, 1);
+        final boolean hasNull = (header & 1) != 0;
+        final Map<Object, Object> data = new HashMap<>(InternalUtils.hashCapacity(size));
+        for (int i = 0; i < size; i++)
+        {
+            final int present = hasNull ? in.readByte() : 3;
+            final Object key = (present & 1) != 0 ? this.readElement(this.keyCodec, in) : null;
+            final Object value = (present & 2) != 0 ? this.readElement(this.elementCodec, in) : null;
+            data.put(key, value);
+        }
+        return data;
+    }
+
+    // endregion
+}
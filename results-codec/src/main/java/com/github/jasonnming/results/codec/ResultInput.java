@@ -0,0 +1,157 @@
+package com.github.jasonnming.results.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ResultCodec}的输入，从{@link ByteBuffer}的当前位置开始读取，与{@link ResultOutput}的编码方法一一对应。
+ * <p>
+ * 读取越界时抛出{@link java.nio.BufferUnderflowException}，此类不是线程安全的。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ResultInput
+{
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer 输入数据，读取将推进其位置。
+     */
+    public ResultInput(final ByteBuffer buffer)
+    {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @param bytes 输入数据。
+     */
+    public ResultInput(final byte[] bytes)
+    {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    public byte readByte()
+    {
+        return this.buffer.get();
+    }
+
+    public void readBytes(final byte[] bytes, final int offset, final int length)
+    {
+        this.buffer.get(bytes, offset, length);
+    }
+
+    public boolean readBoolean()
+    {
+        return this.buffer.get() != 0;
+    }
+
+    public int readVarInt()
+    {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7)
+        {
+            final byte b = this.buffer.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0)
+            {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint.");
+    }
+
+    public long readVarLong()
+    {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7)
+        {
+            final byte b = this.buffer.get();
+            value |= (long)(b & 0x7f) << shift;
+            if (b >= 0)
+            {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint.");
+    }
+
+    public int readZigZagInt()
+    {
+        final int value = this.readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readZigZagLong()
+    {
+        final long value = this.readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readFixedLong()
+    {
+        long value = 0;
+        for (int i = 0; i < 8; i++)
+        {
+            value |= (this.buffer.get() & 0xffL) << (i << 3);
+        }
+        return value;
+    }
+
+    public double readDouble()
+    {
+        return Double.longBitsToDouble(this.readFixedLong());
+    }
+
+    @Nullable
+    public String readString()
+    {
+        final int length = this.readVarInt() - 1;
+        if (length < 0)
+        {
+            return null;
+        }
+        if (length > this.buffer.remaining())
+        {
+            throw new IllegalArgumentException("Malformed string, length [" + length + "] exceeds the remaining input.");
+        }
+
+        final String value;
+        if (this.buffer.hasArray())
+        {
+            value = new String(this.buffer.array(), this.buffer.arrayOffset() + this.buffer.position(), length, StandardCharsets.UTF_8);
+            this.buffer.position(this.buffer.position() + length);
+        } else
+        {
+            final byte[] bytes = new byte[length];
+            this.buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * 读取剩余的全部字节，不复制数据。
+     *
+     * @return 剩余字节的视图，与输入共享数据。
+     */
+    ByteBuffer readRemaining()
+    {
+        final ByteBuffer remaining = this.buffer.slice();
+        this.buffer.position(this.buffer.limit());
+        return remaining;
+    }
+
+    /**
+     * @return 剩余未读取的字节数。
+     */
+    public int remaining()
+    {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.jasonnming.results.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ResultCodec}的输出缓冲区，以可扩容的{@code byte[]}保存编码结果，提供变长整数及字符串的编码方法。
+ * <p>
+ * 此类不是线程安全的，可通过{@link #reset()}重复使用以减少分配。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ResultOutput
+{
+    private byte[] buffer;
+
+    private int position;
+
+    public ResultOutput()
+    {
+        this(64);
+    }
+
+    /**
+     * @param initialCapacity 初始容量。
+     */
+    public ResultOutput(final int initialCapacity)
+    {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    private void ensure(final int extra)
+    {
+        final int required = this.position + extra;
+        if (required > this.buffer.length)
+        {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length << 1));
+        }
+    }
+
+    public void writeByte(final int value)
+    {
+        this.ensure(1);
+        this.buffer[this.position++] = (byte)value;
+    }
+
+    public void writeBytes(final byte[] bytes, final int offset, final int length)
+    {
+        this.ensure(length);
+        System.arraycopy(bytes, offset, this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    /**
+     * 写入{@code bytes}的剩余字节，并推进其位置。
+     */
+    public void writeBytes(final ByteBuffer bytes)
+    {
+        final int length = bytes.remaining();
+        this.ensure(length);
+        bytes.get(this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    public void writeBoolean(final boolean value)
+    {
+        this.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * 以无符号变长整数（每字节7位）写入{@code value}，负数总是占用5个字节。
+     */
+    public void writeVarInt(final int value)
+    {
+        this.ensure(5);
+        int v = value;
+        while ((v & ~0x7f) != 0)
+        {
+            this.buffer[this.position++] = (byte)((v & 0x7f) | 0x80);
+            v >>>= 7;
+        }
+        this.buffer[this.position++] = (byte)v;
+    }
+
+    /**
+     * 以无符号变长整数（每字节7位）写入{@code value}，负数总是占用10个字节。
+     */
+    public void writeVarLong(final long value)
+    {
+        this.ensure(10);
+        long v = value;
+        while ((v & ~0x7fL) != 0)
+        {
+            this.buffer[this.position++] = (byte)((v & 0x7f) | 0x80);
+            v >>>= 7;
+        }
+        this.buffer[this.position++] = (byte)v;
+    }
+
+    /**
+     * 以ZigZag编码的变长整数写入{@code value}，绝对值较小的负数同样只占用较少的字节。
+     */
+    public void writeZigZagInt(final int value)
+    {
+        this.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * 以ZigZag编码的变长整数写入{@code value}，绝对值较小的负数同样只占用较少的字节。
+     */
+    public void writeZigZagLong(final long value)
+    {
+        this.writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 以小端序的8个字节写入{@code value}。
+     */
+    public void writeFixedLong(final long value)
+    {
+        this.ensure(8);
+        for (int i = 0; i < 8; i++)
+        {
+            this.buffer[this.position++] = (byte)(value >>> (i << 3));
+        }
+    }
+
+    public void writeDouble(final double value)
+    {
+        this.writeFixedLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * 写入可以为{@code null}的字符串：先写入UTF-8字节数加{@code 1}的变长整数（{@code 0}表示{@code null}），再写入UTF-8字节。
+     */
+    public void writeString(@Nullable final String value)
+    {
+        if (value == null)
+        {
+            this.writeByte(0);
+            return;
+        }
+
+        final int length = value.length();
+        // Fast path for ASCII strings, which are the majority of codes and messages.
+        this.ensure(5 + length);
+        final int start = this.position;
+        this.writeVarInt(length + 1);
+        final int offset = this.position;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = value.charAt(i);
+            if (c >= 0x80)
+            {
+                this.position = start;
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                this.writeVarInt(bytes.length + 1);
+                this.writeBytes(bytes, 0, bytes.length);
+                return;
+            }
+            this.buffer[offset + i] = (byte)c;
+        }
+        this.position = offset + length;
+    }
+
+    /**
+     * @return 已写入的字节数。
+     */
+    public int size()
+    {
+        return this.position;
+    }
+
+    /**
+     * 清空已写入的数据，保留已分配的缓冲区。
+     */
+    public void reset()
+    {
+        this.position = 0;
+    }
+
+    /**
+     * @return 已写入数据的副本。
+     */
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf(this.buffer, this.position);
+    }
+
+    /**
+     * 将已写入的数据写到{@code out}。
+     */
+    public void writeTo(final OutputStream out) throws IOException
+    {
+        out.write(this.buffer, 0, this.position);
+    }
+}
@@ -0,0 +1,323 @@
+package com.github.jasonnming.results.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.page.Pages;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.DoublePagedListResult;
+import com.github.jasonnming.results.result.basic.IntListResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.LongListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SetResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultCodecTest
+{
+    private static final ResultCodec STRINGS = ResultCodec.of(ElementCodecs.STRING);
+
+    private static <R extends CommonResult> R roundTrip(final ResultCodec codec, final CommonResult result)
+    {
+        final R decoded = codec.decode(codec.encode(result));
+        Assertions.assertEquals(result.getCode(), decoded.getCode());
+        Assertions.assertEquals(result.getMessage(), decoded.getMessage());
+        Assertions.assertEquals(result.getDebugMessage(), decoded.getDebugMessage());
+        return decoded;
+    }
+
+    private static void assertPaging(final PagedListResult<?> expected, final PagedListResult<?> actual)
+    {
+        Assertions.assertEquals(expected.getPageOrNull(), actual.getPageOrNull());
+        Assertions.assertEquals(expected.getPageSizeOrNull(), actual.getPageSizeOrNull());
+        Assertions.assertEquals(expected.isPredictable(), actual.isPredictable());
+        if (expected.isPredictable())
+        {
+            Assertions.assertEquals(expected.hasNextPage(), actual.hasNextPage());
+        }
+        Assertions.assertEquals(expected.getTotalPageOrNull(), actual.getTotalPageOrNull());
+        Assertions.assertEquals(expected.getTotalSizeOrNull(), actual.getTotalSizeOrNull());
+    }
+
+    @Test
+    @DisplayName("Common and single results keep code, messages and data")
+    void test_common()
+    {
+        final CommonResult common = roundTrip(ResultCodec.of(), Results.commonResult(ResultCodes.SUCCESS));
+        Assertions.assertSame(ResultCodes.SUCCESS, common.getResultCode());
+
+        roundTrip(ResultCodec.of(), Results.commonResult(ResultCodes.SYSTEM_ERROR, "foo", "bar"));
+        roundTrip(ResultCodec.of(), Results.commonResult(ResultCodes.of("CUSTOM_ERROR"), "消息"));
+
+        // Result codes read from the wire are not interned.
+        final byte[] unknown = ResultCodec.of().encode(Results.commonResult((ResultCode)() -> "RESULT_CODEC_TEST_UNKNOWN"));
+        Assertions.assertNotSame(ResultCodec.of().decode(unknown).getResultCode(), ResultCodec.of().decode(unknown).getResultCode());
+
+        final SingleResult<String> single = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildSingleResult("数据"));
+        Assertions.assertEquals("数据", single.getData());
+
+        final SingleResult<String> empty = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildSingleResult());
+        Assertions.assertNull(empty.getData());
+    }
+
+    @Test
+    @DisplayName("Default messages are omitted only for built-in result codes")
+    void test_defaultMessage()
+    {
+        final byte[] bytes = ResultCodec.of().encode(Results.commonResult(ResultCodes.SUCCESS));
+        // version + header + code
+        Assertions.assertEquals(2 + 1 + "SUCCESS".length(), bytes.length);
+
+        // The decoding side does not know TestResultCode, its default message must be written.
+        final CommonResult custom = roundTrip(ResultCodec.of(), Results.commonResult(TestResultCode.FAILURE));
+        Assertions.assertEquals("失败", custom.getMessage());
+    }
+
+    @Test
+    @DisplayName("Collections and maps keep their elements including nulls")
+    void test_collections()
+    {
+        final ListResult<String> list = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildListResult(Arrays.asList("a", null, "b")));
+        Assertions.assertEquals(Arrays.asList("a", null, "b"), list.getData());
+
+        final SetResult<String> set = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildSetResult(new HashSet<>(Arrays.asList("a", "b"))));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "b")), set.getData());
+
+        final Map<Long, String> data = new LinkedHashMap<>();
+        data.put(1L, "a");
+        data.put(-2L, null);
+        data.put(null, "c");
+        final MapResult<Long, String> map = roundTrip(ResultCodec.of(ElementCodecs.LONG, ElementCodecs.STRING),
+                Results.builder(ResultCodes.SUCCESS).buildMapResult(data));
+        Assertions.assertEquals(data, map.getData());
+
+        final ListResult<String> none = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildListResult());
+        Assertions.assertNull(none.getData());
+
+        final ListResult<String> emptyList = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).buildListResult(Collections.<String>emptyList()));
+        Assertions.assertEquals(Collections.emptyList(), emptyList.getData());
+    }
+
+    @Test
+    @DisplayName("Streaming data is consumed once and encoded in chunks")
+    void test_streaming()
+    {
+        final ListResult<String> streaming = Results.builder(ResultCodes.SUCCESS).dataStream(Arrays.asList("a", null, "c").iterator(), 10).build();
+        final ListResult<String> list = roundTrip(STRINGS, streaming);
+        Assertions.assertEquals(Arrays.asList("a", null, "c"), list.getData());
+        // The source is read by its iterator rather than drained into a list.
+        Assertions.assertThrows(IllegalStateException.class, streaming::getData);
+
+        final ListResult<String> unknown = roundTrip(STRINGS,
+                Results.builder(ResultCodes.SUCCESS).dataStream(Arrays.asList("a", "b").iterator(), -1).build());
+        Assertions.assertEquals(Arrays.asList("a", "b"), unknown.getData());
+
+        final ListResult<String> unsized = roundTrip(STRINGS,
+                Results.builder(ResultCodes.SUCCESS).dataStream(Stream.of("a", null, "c").filter(x -> !"a".equals(x))).build());
+        Assertions.assertEquals(Arrays.asList(null, "c"), unsized.getData());
+
+        final ListResult<String> empty = roundTrip(STRINGS, Results.builder(ResultCodes.SUCCESS).dataStream(Stream.<String>empty()).build());
+        Assertions.assertEquals(Collections.emptyList(), empty.getData());
+
+        // Across several chunks, only some of which contain null.
+        final List<String> large = IntStream.range(0, 2500).mapToObj(x -> x == 2000 ? null : String.valueOf(x)).collect(Collectors.toList());
+        final byte[] bytes = STRINGS.encode(Results.builder(ResultCodes.SUCCESS).dataStream(large.stream()).page(1, 2500).build());
+        final PagedListResult<String> paged = STRINGS.decode(bytes);
+        Assertions.assertEquals(large, paged.getData());
+        Assertions.assertEquals(2500L, paged.getPageSize());
+        final PagedListResult<String> lazy = STRINGS.decodeLazily(bytes);
+        Assertions.assertEquals(large, lazy.getData());
+        Assertions.assertArrayEquals(bytes, ResultCodec.of().encode(lazy));
+    }
+
+    @Test
+    @DisplayName("Absent paging properties stay absent")
+    void test_paging()
+    {
+        final List<String> data = Arrays.asList("a", "b");
+
+        final PagedListResult<String> full = Results.builder(ResultCodes.SUCCESS).data(data).page(2, 2).totalSize(6).build();
+        final PagedListResult<String> decoded = roundTrip(STRINGS, full);
+        assertPaging(full, decoded);
+        Assertions.assertEquals(data, decoded.getData());
+
+        final PagedListResult<String> partial = Results.builder(ResultCodes.SUCCESS).data(data).page(1, 2).hasNextPage(false).build();
+        assertPaging(partial, roundTrip(STRINGS, partial));
+
+        final PagedListResult<String> none = Results.builder(ResultCodes.SUCCESS).buildPagedListResult();
+        final PagedListResult<String> decodedNone = roundTrip(STRINGS, none);
+        assertPaging(none, decodedNone);
+        Assertions.assertFalse(decodedNone.hasPage());
+    }
+
+    @Test
+    @DisplayName("Primitive list results are decoded without boxing")
+    void test_primitives()
+    {
+        final IntListResult ints = roundTrip(ResultCodec.of(), Results.builder(ResultCodes.SUCCESS).buildIntListResult(1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE));
+        Assertions.assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE}, ints.toIntArray());
+
+        final LongListResult longs = roundTrip(ResultCodec.of(), Results.builder(ResultCodes.SUCCESS).buildLongListResult(Long.MIN_VALUE, 0L));
+        Assertions.assertArrayEquals(new long[]{Long.MIN_VALUE, 0L}, longs.toLongArray());
+
+        final DoublePagedListResult doubles = Results.builder(ResultCodes.SUCCESS).buildDoublePagedListResult(new double[]{0.5, Double.NaN}, Pages.page(1, 2), 3);
+        final DoublePagedListResult decoded = roundTrip(ResultCodec.of(), doubles);
+        Assertions.assertArrayEquals(new double[]{0.5, Double.NaN}, decoded.toDoubleArray());
+        assertPaging(doubles, decoded);
+    }
+
+    @Test
+    @DisplayName("Malformed input is rejected")
+    void test_malformed()
+    {
+        final byte[] bytes = STRINGS.encode(Results.builder(ResultCodes.SUCCESS).buildListResult(Arrays.asList("a", "b")));
+
+        final byte[] version = bytes.clone();
+        version[0] = 2;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> STRINGS.decode(version));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> STRINGS.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> STRINGS.decode(Arrays.copyOf(bytes, bytes.length + 1)));
+        Assertions.assertThrows(IllegalStateException.class, () -> ResultCodec.of().decode(bytes));
+        Assertions.assertThrows(IllegalStateException.class, () -> STRINGS.encode(Results.builder(ResultCodes.SUCCESS).buildMapResult(Collections.singletonMap(1, 1))));
+    }
+
+    @Test
+    @DisplayName("Results can be decoded one by one from a direct buffer")
+    void test_stream()
+    {
+        final ResultOutput out = new ResultOutput();
+        STRINGS.encode(Results.builder(ResultCodes.SUCCESS).buildSingleResult("foo"), out);
+        STRINGS.encode(Results.commonResult(ResultCodes.SYSTEM_ERROR, "bar"), out);
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+        buffer.put(out.toByteArray()).flip();
+        final ResultInput in = new ResultInput(buffer);
+        Assertions.assertEquals("foo", STRINGS.<SingleResult<String>>decode(in).getData());
+        Assertions.assertEquals("bar", STRINGS.decode(in).getMessage());
+        Assertions.assertEquals(0, in.remaining());
+    }
+
+    @Test
+    @DisplayName("Lazily decoded data is decoded on first access and re-encoded unchanged")
+    void test_lazy() throws IOException, ClassNotFoundException
+    {
+        final AtomicInteger reads = new AtomicInteger();
+        final ResultCodec codec = ResultCodec.of(new ElementCodec<String>()
+        {
+            @Override
+            public void write(final String value, final ResultOutput out)
+            {
+                out.writeString(value);
+            }
+
+            @Override
+            public String read(final ResultInput in)
+            {
+                reads.incrementAndGet();
+                return in.readString();
+            }
+        });
+        final PagedListResult<String> result = Results.builder(ResultCodes.SUCCESS).data(Arrays.asList("a", null, "c")).page(2, 3).totalSize(9).build();
+        final byte[] bytes = codec.encode(result);
+
+        final PagedListResult<String> lazy = codec.decodeLazily(bytes);
+        Assertions.assertSame(ResultCodes.SUCCESS, lazy.getResultCode());
+        assertPaging(result, lazy);
+        Assertions.assertNotNull(lazy.getData());
+        Assertions.assertArrayEquals(bytes, codec.encode(lazy));
+        Assertions.assertArrayEquals(bytes, ResultCodec.of().encode(ResultCodec.of().decodeLazily(ByteBuffer.wrap(bytes))));
+        Assertions.assertEquals(0, reads.get());
+
+        Assertions.assertEquals(result.getData(), lazy.getData());
+        Assertions.assertEquals(2, reads.get());
+        Assertions.assertEquals("c", lazy.getData().get(2));
+        Assertions.assertEquals(2, reads.get());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> lazy.getData().add("d"));
+        Assertions.assertArrayEquals(bytes, codec.encode(lazy));
+
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(serialized))
+        {
+            out.writeObject(codec.decodeLazily(STRINGS.encode(Results.builder(ResultCodes.SUCCESS).buildSetResult(new HashSet<>(Arrays.asList("a", "b"))))));
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray())))
+        {
+            Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "b")), ((SetResult<?>)in.readObject()).getData());
+        }
+
+        final Map<Long, String> map = new LinkedHashMap<>();
+        map.put(1L, "a");
+        map.put(null, "b");
+        final ResultCodec longs = ResultCodec.of(ElementCodecs.LONG, ElementCodecs.STRING);
+        final MapResult<Long, String> mapResult = longs.decodeLazily(longs.encode(Results.builder(ResultCodes.SUCCESS).buildMapResult(map)));
+        Assertions.assertEquals(map, mapResult.getData());
+
+        final IntListResult ints = ResultCodec.of().decodeLazily(ResultCodec.of().encode(Results.builder(ResultCodes.SUCCESS).buildIntListResult(1, 2)));
+        Assertions.assertArrayEquals(new int[]{1, 2}, ints.toIntArray());
+
+        final ListResult<String> malformed = STRINGS.decodeLazily(Arrays.copyOf(bytes, bytes.length + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> malformed.getData().size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> STRINGS.decodeLazily(Arrays.copyOf(bytes, 3)));
+    }
+
+    @Test
+    @DisplayName("Encoded results are smaller than Java serialization")
+    void test_size() throws IOException
+    {
+        final List<String> data = IntStream.range(0, 20).mapToObj(Integer::toString).collect(Collectors.toCollection(ArrayList::new));
+        final PagedListResult<String> result = Results.builder(ResultCodes.SUCCESS).data(data).page(1, 20).totalSize(100).build();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(result);
+        }
+        Assertions.assertTrue(STRINGS.encode(result).length * 2 < bytes.size());
+    }
+
+    enum TestResultCode implements ResultCode, WithMessage
+    {
+        FAILURE;
+
+        @Override
+        public String getCode()
+        {
+            return this.name();
+        }
+
+        @Override
+        public String getMessage()
+        {
+            return "失败";
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.github.jasonnming.results.jackson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import com.github.jasonnming.results.result.basic.CollectionResult;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.support.DefaultResults;
+import com.github.jasonnming.results.result.support.ResultCodeResolver;
+import com.github.jasonnming.results.result.support.ResultCodes;
+
+/**
+ * 全部结果接口的反序列化器，按声明的结果接口直接构建{@code results-api}中的默认实现，格式见{@link ResultSerializer}。
+ * <p>
+ * 未知的字段会被忽略；与结果码默认消息相同的消息不会被保存，读取时仍从结果码中获取。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class ResultDeserializer extends StdDeserializer<CommonResult> implements ContextualDeserializer
+{
+    private static final long serialVersionUID = 0x1a7f3c52e96d0b48L;
+
+    private final ResultKind kind;
+
+    /**
+     * 结果码的具体类型，传递给{@link #resolver}。
+     */
+    private final Class<?> resultCodeType;
+
+    /**
+     * 为{@code null}时使用{@link ResultCodes#lookup(String)}。
+     */
+    @Nullable
+    private final ResultCodeResolver resolver;
+
+    /**
+     * 单个数据、集合元素或Map的value的类型，不含此类数据时为{@code null}。
+     */
+    @Nullable
+    private final JavaType contentType;
+
+    /**
+     * Map的key的类型，非Map结果时为{@code null}。
+     */
+    @Nullable
+    private final JavaType keyType;
+
+    @Nullable
+    private final JsonDeserializer<Object> contentDeserializer;
+
+    @Nullable
+    private final KeyDeserializer keyDeserializer;
+
+    ResultDeserializer(final ResultKind kind, final JavaType type, @Nullable final ResultCodeResolver resolver)
+    {
+        super(type);
+        this.kind = kind;
+        this.resolver = resolver;
+
+        final JavaType[] resultCodeType = type.findTypeParameters(com.github.jasonnming.results.result.generic.CommonResult.class);
+        this.resultCodeType = resultCodeType != null && resultCodeType.length > 0 ? resultCodeType[0].getRawClass() : ResultCode.class;
+
+        switch (kind)
+        {
+            case SINGLE:
+                this.contentType = typeParameter(type, SingleResult.class, 0);
+                this.keyType = null;
+                break;
+            case LIST:
+            case PAGED_LIST:
+            case SET:
+                this.contentType = typeParameter(type, CollectionResult.class, 0);
+                this.keyType = null;
+                break;
+            case MAP:
+                this.contentType = typeParameter(type, MapResult.class, 1);
+                this.keyType = typeParameter(type, MapResult.class, 0);
+                break;
+            default:
+                this.contentType = null;
+                this.keyType = null;
+                break;
+        }
+        this.contentDeserializer = null;
+        this.keyDeserializer = null;
+    }
+
+    private ResultDeserializer(final ResultDeserializer base, @Nullable final JsonDeserializer<Object> contentDeserializer,
+                               @Nullable final KeyDeserializer keyDeserializer)
+    {
+        super(base);
+        this.kind = base.kind;
+        this.resultCodeType = base.resultCodeType;
+        this.resolver = base.resolver;
+        this.contentType = base.contentType;
+        this.keyType = base.keyType;
+        this.contentDeserializer = contentDeserializer;
+        this.keyDeserializer = keyDeserializer;
+    }
+
+    private static JavaType typeParameter(final JavaType type, final Class<?> superType, final int index)
+    {
+        final JavaType[] parameters = type.findTypeParameters(superType);
+        return parameters != null && parameters.length > index ? parameters[index] : TypeFactory.unknownType();
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) throws JsonMappingException
+    {
+        final JsonDeserializer<Object> contentDeserializer = this.contentType != null ? ctxt.findContextualValueDeserializer(this.contentType, property) : null;
+        final KeyDeserializer keyDeserializer = this.keyType != null ? ctxt.findKeyDeserializer(this.keyType, property) : null;
+        return contentDeserializer == this.contentDeserializer && keyDeserializer == this.keyDeserializer
+               ? this
+               : new ResultDeserializer(this, contentDeserializer, keyDeserializer);
+    }
+
+    @Override
+    public CommonResult deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        String code = null;
+        boolean hasCode = false;
+        String message = null;
+        Object data = null;
+        int present = 0;
+        long page = 0;
+        long pageSize = 0;
+        boolean hasNextPage = false;
+        long totalPage = 0;
+        long totalSize = 0;
+
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.START_OBJECT)
+        {
+            t = p.nextToken();
+        }
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken())
+        {
+            final String name = p.getCurrentName();
+            t = p.nextToken();
+            if (t == JsonToken.VALUE_NULL)
+            {
+                // Absent as well.
+                if (ResultSerializer.CODE.equals(name))
+                {
+                    hasCode = true;
+                }
+                continue;
+            }
+            switch (name)
+            {
+                case ResultSerializer.CODE:
+                    code = this._parseString(p, ctxt);
+                    hasCode = true;
+                    break;
+                case ResultSerializer.MESSAGE:
+                    message = this._parseString(p, ctxt);
+                    break;
+                case ResultSerializer.DATA:
+                    data = this.readData(p, ctxt);
+                    break;
+                case ResultSerializer.PAGE:
+                    page = this._parseLongPrimitive(p, ctxt);
+                    present |= DefaultResults.HAS_PAGE;
+                    break;
+                case ResultSerializer.PAGE_SIZE:
+                    pageSize = this._parseLongPrimitive(p, ctxt);
+                    present |= DefaultResults.HAS_PAGE_SIZE;
+                    break;
+                case ResultSerializer.HAS_NEXT_PAGE:
+                    hasNextPage = this._parseBooleanPrimitive(p, ctxt);
+                    present |= DefaultResults.PREDICTABLE;
+                    break;
+                case ResultSerializer.TOTAL_PAGE:
+                    totalPage = this._parseLongPrimitive(p, ctxt);
+                    present |= DefaultResults.HAS_TOTAL_PAGE;
+                    break;
+                case ResultSerializer.TOTAL_SIZE:
+                    totalSize = this._parseLongPrimitive(p, ctxt);
+                    present |= DefaultResults.HAS_TOTAL_SIZE;
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
+        if (t != JsonToken.END_OBJECT)
+        {
+            return (CommonResult)ctxt.handleUnexpectedToken(this.handledType(), p);
+        }
+        if (!hasCode)
+        {
+            return ctxt.reportInputMismatch(this, "Missing property \"%s\" of result.", ResultSerializer.CODE);
+        }
+
+        final ResultCode resultCode = this.resolve(code);
+        if (message != null && resultCode instanceof WithMessage && message.equals(((WithMessage)resultCode).getMessage()))
+        {
+            message = null;
+        }
+        return this.build(resultCode, message, data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+    }
+
+    private ResultCode resolve(@Nullable final String code)
+    {
+        if (this.resolver != null)
+        {
+            final ResultCode resultCode = this.resolver.resolve(this.resultCodeType, code);
+            if (resultCode != null)
+            {
+                return resultCode;
+            }
+        }
+        return ResultCodes.lookup(code);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CommonResult build(final ResultCode code, @Nullable final String message, @Nullable final Object data, final int present,
+                               final long page, final long pageSize, final boolean hasNextPage, final long totalPage, final long totalSize)
+    {
+        switch (this.kind)
+        {
+            case COMMON:
+                return DefaultResults.common(code, message, null);
+            case SINGLE:
+                return DefaultResults.single(code, message, null, data);
+            case LIST:
+                return DefaultResults.list(code, message, null, (List<Object>)data);
+            case PAGED_LIST:
+                return DefaultResults.pagedList(code, message, null, (List<Object>)data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+            case SET:
+                return DefaultResults.set(code, message, null, (Set<Object>)data);
+            case MAP:
+                return DefaultResults.map(code, message, null, (Map<Object, Object>)data);
+            case INT_LIST:
+                return DefaultResults.intList(code, message, null, (int[])data);
+            case LONG_LIST:
+                return DefaultResults.longList(code, message, null, (long[])data);
+            case DOUBLE_LIST:
+                return DefaultResults.doubleList(code, message, null, (double[])data);
+            case INT_PAGED_LIST:
+                return DefaultResults.intPagedList(code, message, null, (int[])data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+            case LONG_PAGED_LIST:
+                return DefaultResults.longPagedList(code, message, null, (long[])data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+            case DOUBLE_PAGED_LIST:
+                return DefaultResults.doublePagedList(code, message, null, (double[])data, present, page, pageSize, hasNextPage, totalPage, totalSize);
+            default:
+                throw new AssertionError(this.kind);
+        }
+    }
+
+    @Nullable
+    private Object readData(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        switch (this.kind)
+        {
+            case COMMON:
+                p.skipChildren();
+                return null;
+            case SINGLE:
+                return this.contentDeserializer.deserialize(p, ctxt);
+            case LIST:
+            case PAGED_LIST:
+                return this.readElements(p, ctxt, new ArrayList<>());
+            case SET:
+                return this.readElements(p, ctxt, new HashSet<>());
+            case MAP:
+                return this.readMap(p, ctxt);
+            case INT_LIST:
+            case INT_PAGED_LIST:
+                return this.readInts(p, ctxt);
+            case LONG_LIST:
+            case LONG_PAGED_LIST:
+                return this.readLongs(p, ctxt);
+            case DOUBLE_LIST:
+            case DOUBLE_PAGED_LIST:
+                return this.readDoubles(p, ctxt);
+            default:
+                throw new AssertionError(this.kind);
+        }
+    }
+
+    private <T extends Collection<Object>> T readElements(final JsonParser p, final DeserializationContext ctxt, final T data)
+            throws IOException
+    {
+        this.expectArray(p, ctxt);
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY)
+        {
+            data.add(t == JsonToken.VALUE_NULL ? null : this.contentDeserializer.deserialize(p, ctxt));
+        }
+        return data;
+    }
+
+    private Map<Object, Object> readMap(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        if (!p.isExpectedStartObjectToken())
+        {
+            ctxt.reportWrongTokenException(this, JsonToken.START_OBJECT, "Expected the data of a map result.");
+        }
+        final Map<Object, Object> data = new HashMap<>();
+        for (JsonToken t = p.nextToken(); t == JsonToken.FIELD_NAME; t = p.nextToken())
+        {
+            final Object key = this.keyDeserializer.deserializeKey(p.getCurrentName(), ctxt);
+            data.put(key, p.nextToken() == JsonToken.VALUE_NULL ? null : this.contentDeserializer.deserialize(p, ctxt));
+        }
+        return data;
+    }
+
+    private int[] readInts(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        this.expectArray(p, ctxt);
+        int[] data = new int[16];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY)
+        {
+            if (size == data.length)
+            {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = this._parseIntPrimitive(p, ctxt);
+        }
+        return Arrays.copyOf(data, size);
+    }
+
+    private long[] readLongs(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        this.expectArray(p, ctxt);
+        long[] data = new long[16];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY)
+        {
+            if (size == data.length)
+            {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = this._parseLongPrimitive(p, ctxt);
+        }
+        return Arrays.copyOf(data, size);
+    }
+
+    private double[] readDoubles(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        this.expectArray(p, ctxt);
+        double[] data = new double[16];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY)
+        {
+            if (size == data.length)
+            {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = this._parseDoublePrimitive(p, ctxt);
+        }
+        return Arrays.copyOf(data, size);
+    }
+
+    private void expectArray(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        if (!p.isExpectedStartArrayToken())
+        {
+            ctxt.reportWrongTokenException(this, JsonToken.START_ARRAY, "Expected the data of a list or set result.");
+        }
+    }
+}
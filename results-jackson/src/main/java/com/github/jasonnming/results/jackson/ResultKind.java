@@ -0,0 +1,161 @@
+package com.github.jasonnming.results.jackson;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.CollectionResult;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.DoubleListResult;
+import com.github.jasonnming.results.result.basic.DoublePagedListResult;
+import com.github.jasonnming.results.result.basic.IntListResult;
+import com.github.jasonnming.results.result.basic.IntPagedListResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.LongListResult;
+import com.github.jasonnming.results.result.basic.LongPagedListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.SetResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+
+/**
+ * 结果对象的种类，决定{@code data}的格式及是否带有分页信息。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+enum ResultKind
+{
+    COMMON(false),
+
+    SINGLE(false),
+
+    LIST(false),
+
+    PAGED_LIST(true),
+
+    SET(false),
+
+    MAP(false),
+
+    INT_LIST(false),
+
+    LONG_LIST(false),
+
+    DOUBLE_LIST(false),
+
+    INT_PAGED_LIST(true),
+
+    LONG_PAGED_LIST(true),
+
+    DOUBLE_PAGED_LIST(true),
+
+    /* End Enum */;
+
+    /**
+     * {@code basic}及{@code generic}包中的结果接口对应的种类。
+     */
+    private static final Map<Class<?>, ResultKind> INTERFACES = new HashMap<>();
+
+    static
+    {
+        register(CommonResult.class, com.github.jasonnming.results.result.generic.CommonResult.class, COMMON);
+        register(SingleResult.class, com.github.jasonnming.results.result.generic.SingleResult.class, SINGLE);
+        register(CollectionResult.class, com.github.jasonnming.results.result.generic.CollectionResult.class, LIST);
+        register(ListResult.class, com.github.jasonnming.results.result.generic.ListResult.class, LIST);
+        register(PagedListResult.class, com.github.jasonnming.results.result.generic.PagedListResult.class, PAGED_LIST);
+        register(SetResult.class, com.github.jasonnming.results.result.generic.SetResult.class, SET);
+        register(MapResult.class, com.github.jasonnming.results.result.generic.MapResult.class, MAP);
+        register(IntListResult.class, com.github.jasonnming.results.result.generic.IntListResult.class, INT_LIST);
+        register(LongListResult.class, com.github.jasonnming.results.result.generic.LongListResult.class, LONG_LIST);
+        register(DoubleListResult.class, com.github.jasonnming.results.result.generic.DoubleListResult.class, DOUBLE_LIST);
+        register(IntPagedListResult.class, com.github.jasonnming.results.result.generic.IntPagedListResult.class, INT_PAGED_LIST);
+        register(LongPagedListResult.class, com.github.jasonnming.results.result.generic.LongPagedListResult.class, LONG_PAGED_LIST);
+        register(DoublePagedListResult.class, com.github.jasonnming.results.result.generic.DoublePagedListResult.class, DOUBLE_PAGED_LIST);
+    }
+
+    /**
+     * 按实际的类型缓存的种类，避免每次序列化时逐个接口进行类型检查。
+     */
+    private static final ClassValue<ResultKind> KINDS = new ClassValue<ResultKind>()
+    {
+        @Override
+        protected ResultKind computeValue(final Class<?> type)
+        {
+            if (PagedListResult.class.isAssignableFrom(type))
+            {
+                return IntPagedListResult.class.isAssignableFrom(type) ? INT_PAGED_LIST
+                       : LongPagedListResult.class.isAssignableFrom(type) ? LONG_PAGED_LIST
+                         : DoublePagedListResult.class.isAssignableFrom(type) ? DOUBLE_PAGED_LIST
+                           : PAGED_LIST;
+            }
+            if (ListResult.class.isAssignableFrom(type))
+            {
+                return IntListResult.class.isAssignableFrom(type) ? INT_LIST
+                       : LongListResult.class.isAssignableFrom(type) ? LONG_LIST
+                         : DoubleListResult.class.isAssignableFrom(type) ? DOUBLE_LIST
+                           : LIST;
+            }
+            if (SetResult.class.isAssignableFrom(type))
+            {
+                return SET;
+            }
+            if (CollectionResult.class.isAssignableFrom(type))
+            {
+                return LIST;
+            }
+            if (MapResult.class.isAssignableFrom(type))
+            {
+                return MAP;
+            }
+            if (SingleResult.class.isAssignableFrom(type))
+            {
+                return SINGLE;
+            }
+            return COMMON;
+        }
+    };
+
+    /**
+     * 是否带有分页信息。
+     */
+    final boolean paged;
+
+    ResultKind(final boolean paged)
+    {
+        this.paged = paged;
+    }
+
+    private static void register(final Class<?> basic, final Class<?> generic, final ResultKind kind)
+    {
+        INTERFACES.put(basic, kind);
+        INTERFACES.put(generic, kind);
+    }
+
+    /**
+     * 获取结果接口对应的种类，用于反序列化时按声明的类型构建结果对象。
+     *
+     * @param type 声明的类型。
+     *
+     * @return 对应的种类，{@code type}不是{@code basic}或{@code generic}包中的结果接口时返回{@code null}。
+     */
+    @Nullable
+    static ResultKind ofInterface(final Class<?> type)
+    {
+        return INTERFACES.get(type);
+    }
+
+    /**
+     * 获取结果对象的种类，用于序列化时按实际的类型写出数据。
+     *
+     * @param result 结果对象。
+     *
+     * @return 对应的种类。
+     */
+    static ResultKind of(final CommonResult result)
+    {
+        return KINDS.get(result.getClass());
+    }
+}
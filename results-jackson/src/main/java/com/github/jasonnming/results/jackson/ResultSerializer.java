@@ -0,0 +1,332 @@
+package com.github.jasonnming.results.jackson;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import com.github.jasonnming.results.result.basic.CollectionResult;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.DoubleListResult;
+import com.github.jasonnming.results.result.basic.IntListResult;
+import com.github.jasonnming.results.result.basic.LongListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.basic.StreamingListResult;
+
+/**
+ * 全部结果类型的序列化器，直接写出各个字段而不经过Bean内省。
+ * <p>
+ * 格式为{@code {"code":...,"message":...,"page":...,"pageSize":...,"hasNextPage":...,"totalPage":...,"totalSize":...,"data":...}}，
+ * 与Bean序列化一致不写出调试消息；值为{@code null}的消息、数据及不存在的分页信息不会被写出。
+ * {@link StreamingListResult}的数据从其数据源中逐个读取并直接写出，不经过{@link StreamingListResult#getData()}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class ResultSerializer extends StdSerializer<CommonResult>
+{
+    private static final long serialVersionUID = 0x4c2d8e1f97a3b650L;
+
+    static final ResultSerializer INSTANCE = new ResultSerializer();
+
+    static final String CODE = "code";
+
+    static final String MESSAGE = "message";
+
+    static final String DATA = "data";
+
+    static final String PAGE = "page";
+
+    static final String PAGE_SIZE = "pageSize";
+
+    static final String HAS_NEXT_PAGE = "hasNextPage";
+
+    static final String TOTAL_PAGE = "totalPage";
+
+    static final String TOTAL_SIZE = "totalSize";
+
+    private static final SerializedString CODE_NAME = new SerializedString(CODE);
+
+    private static final SerializedString MESSAGE_NAME = new SerializedString(MESSAGE);
+
+    static final SerializedString DATA_NAME = new SerializedString(DATA);
+
+    private static final SerializedString PAGE_NAME = new SerializedString(PAGE);
+
+    private static final SerializedString PAGE_SIZE_NAME = new SerializedString(PAGE_SIZE);
+
+    private static final SerializedString HAS_NEXT_PAGE_NAME = new SerializedString(HAS_NEXT_PAGE);
+
+    private static final SerializedString TOTAL_PAGE_NAME = new SerializedString(TOTAL_PAGE);
+
+    private static final SerializedString TOTAL_SIZE_NAME = new SerializedString(TOTAL_SIZE);
+
+    private ResultSerializer()
+    {
+        super(CommonResult.class);
+    }
+
+    @Override
+    public void serialize(final CommonResult value, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(final CommonResult value, final JsonGenerator gen, final SerializerProvider provider, final TypeSerializer typeSer)
+            throws IOException
+    {
+        final WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private static void writeFields(final CommonResult value, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        writeHeader(value, gen);
+
+        final ResultKind kind = ResultKind.of(value);
+        if (kind.paged)
+        {
+            writePaging((PagedListResult<?>)value, gen);
+        }
+
+        switch (kind)
+        {
+            case COMMON:
+                break;
+            case SINGLE:
+            {
+                final Object data = ((SingleResult<?>)value).getData();
+                if (data != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    provider.defaultSerializeValue(data, gen);
+                }
+                break;
+            }
+            case LIST:
+            case PAGED_LIST:
+                if (value instanceof StreamingListResult)
+                {
+                    // Write the elements while reading them from the source, instead of draining them by getData().
+                    gen.writeFieldName(DATA_NAME);
+                    writeElements(((StreamingListResult<?>)value).iterator(), gen, provider);
+                    break;
+                }
+                // fall through
+            case SET:
+            {
+                final Iterable<?> data = ((CollectionResult<?, ?>)value).getData();
+                if (data != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    writeElements(data, gen, provider);
+                }
+                break;
+            }
+            case MAP:
+            {
+                final Map<?, ?> data = ((MapResult<?, ?>)value).getData();
+                if (data != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    writeMap(data, gen, provider);
+                }
+                break;
+            }
+            case INT_LIST:
+            case INT_PAGED_LIST:
+            {
+                final IntListResult list = (IntListResult)value;
+                if (list.getData() != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    final int size = list.size();
+                    gen.writeStartArray(size);
+                    for (int i = 0; i < size; i++)
+                    {
+                        gen.writeNumber(list.getInt(i));
+                    }
+                    gen.writeEndArray();
+                }
+                break;
+            }
+            case LONG_LIST:
+            case LONG_PAGED_LIST:
+            {
+                final LongListResult list = (LongListResult)value;
+                if (list.getData() != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    final int size = list.size();
+                    gen.writeStartArray(size);
+                    for (int i = 0; i < size; i++)
+                    {
+                        gen.writeNumber(list.getLong(i));
+                    }
+                    gen.writeEndArray();
+                }
+                break;
+            }
+            case DOUBLE_LIST:
+            case DOUBLE_PAGED_LIST:
+            {
+                final DoubleListResult list = (DoubleListResult)value;
+                if (list.getData() != null)
+                {
+                    gen.writeFieldName(DATA_NAME);
+                    final int size = list.size();
+                    gen.writeStartArray(size);
+                    for (int i = 0; i < size; i++)
+                    {
+                        gen.writeNumber(list.getDouble(i));
+                    }
+                    gen.writeEndArray();
+                }
+                break;
+            }
+            default:
+                throw new AssertionError(kind);
+        }
+    }
+
+    /**
+     * 写出结果码及不为{@code null}的消息。
+     */
+    static void writeHeader(final CommonResult value, final JsonGenerator gen) throws IOException
+    {
+        gen.writeFieldName(CODE_NAME);
+        gen.writeString(value.getCode());
+        final String message = value.getMessage();
+        if (message != null)
+        {
+            gen.writeFieldName(MESSAGE_NAME);
+            gen.writeString(message);
+        }
+    }
+
+    /**
+     * 写出存在的分页信息。
+     */
+    static void writePaging(final PagedListResult<?> value, final JsonGenerator gen) throws IOException
+    {
+        if (value.hasPage())
+        {
+            gen.writeFieldName(PAGE_NAME);
+            gen.writeNumber(value.getPage());
+        }
+        if (value.hasPageSize())
+        {
+            gen.writeFieldName(PAGE_SIZE_NAME);
+            gen.writeNumber(value.getPageSize());
+        }
+        if (value.isPredictable())
+        {
+            gen.writeFieldName(HAS_NEXT_PAGE_NAME);
+            gen.writeBoolean(value.hasNextPage());
+        }
+        if (value.hasTotalPage())
+        {
+            gen.writeFieldName(TOTAL_PAGE_NAME);
+            gen.writeNumber(value.getTotalPage());
+        }
+        if (value.hasTotalSize())
+        {
+            gen.writeFieldName(TOTAL_SIZE_NAME);
+            gen.writeNumber(value.getTotalSize());
+        }
+    }
+
+    private static void writeElements(final Iterable<?> data, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        writeElements(data.iterator(), gen, provider);
+    }
+
+    /**
+     * 以数组写出{@code data}的全部元素。
+     *
+     * @return 写出的元素个数。
+     */
+    static long writeElements(final Iterator<?> data, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        gen.writeStartArray();
+        // Elements are usually of the same type, so the serializer of the last type is reused.
+        Class<?> lastType = null;
+        JsonSerializer<Object> serializer = null;
+        long count = 0;
+        while (data.hasNext())
+        {
+            final Object element = data.next();
+            count++;
+            if (element == null)
+            {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            final Class<?> type = element.getClass();
+            if (type != lastType)
+            {
+                serializer = provider.findTypedValueSerializer(type, true, null);
+                lastType = type;
+            }
+            serializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+        return count;
+    }
+
+    private static void writeMap(final Map<?, ?> data, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        gen.writeStartObject(data);
+        Class<?> lastKeyType = null;
+        JsonSerializer<Object> keySerializer = null;
+        Class<?> lastType = null;
+        JsonSerializer<Object> serializer = null;
+        for (final Map.Entry<?, ?> entry : data.entrySet())
+        {
+            final Object key = entry.getKey();
+            if (key == null)
+            {
+                provider.findNullKeySerializer(provider.constructType(Object.class), null).serialize(null, gen, provider);
+            } else
+            {
+                final Class<?> keyType = key.getClass();
+                if (keyType != lastKeyType)
+                {
+                    keySerializer = provider.findKeySerializer(keyType, null);
+                    lastKeyType = keyType;
+                }
+                keySerializer.serialize(key, gen, provider);
+            }
+
+            final Object value = entry.getValue();
+            if (value == null)
+            {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            final Class<?> type = value.getClass();
+            if (type != lastType)
+            {
+                serializer = provider.findTypedValueSerializer(type, true, null);
+                lastType = type;
+            }
+            serializer.serialize(value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+}
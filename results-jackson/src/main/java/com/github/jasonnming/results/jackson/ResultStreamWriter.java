@@ -0,0 +1,189 @@
+package com.github.jasonnming.results.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongFunction;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.StreamingListResult;
+
+/**
+ * 以流的方式写出大型列表结果的JSON，元素从{@link Iterator}或{@link Spliterator}中逐个读取并直接写到输出，不需要构建完整的{@link java.util.List}及JSON缓冲区。
+ * <p>
+ * 格式与{@link ResultsModule}相同，但分页信息作为尾部写在{@code data}之后：
+ * {@code {"code":...,"message":...,"data":[...],"page":...,"pageSize":...,"hasNextPage":...,"totalPage":...,"totalSize":...}}，
+ * 因此可以根据实际写出的元素个数决定分页信息（如总记录数）。{@link ResultsModule}的反序列化器不依赖字段顺序，可以直接读取。
+ * <p>
+ * 元素使用构造时提供的{@link ObjectMapper}的配置序列化，内存占用以单个元素及生成器的固定缓冲区为限。
+ * 写出过程中抛出异常时已写出的部分无法撤回，输出将是不完整的JSON。输出在写出完毕后被刷新但不会被关闭。
+ * <p>
+ * 此类的实例是不可变的，可以在线程间共享。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ResultStreamWriter
+{
+    private final ObjectMapper mapper;
+
+    /**
+     * 使用默认配置的{@link ObjectMapper}序列化元素。
+     */
+    public ResultStreamWriter()
+    {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * @param mapper 用于序列化元素的{@link ObjectMapper}，其配置（如缩进）同样应用于结果。
+     */
+    public ResultStreamWriter(final ObjectMapper mapper)
+    {
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+    }
+
+    /**
+     * 写出以{@code envelope}的结果码及消息、{@code data}的元素为数据的列表结果。
+     *
+     * @param out      输出，如{@code ServletResponse#getOutputStream()}。
+     * @param envelope 提供结果码及消息的结果对象，为分页结果且{@code paging}为{@code null}时其分页信息写在数据之后，其数据被忽略。
+     * @param data     元素，逐个读取后立即写出。
+     * @param paging   根据写出的元素个数提供分页信息的函数，可以为{@code null}。
+     *
+     * @throws IOException 如果写出失败，则抛出此异常。
+     */
+    public void write(final OutputStream out, final CommonResult envelope, final Iterator<?> data,
+                      @Nullable final LongFunction<? extends PagedListResult<?>> paging) throws IOException
+    {
+        Objects.requireNonNull(out, "out");
+        Objects.requireNonNull(envelope, "envelope");
+        Objects.requireNonNull(data, "data");
+
+        final JsonGenerator gen = this.mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.mapper.getSerializationConfig().initialize(gen);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try
+        {
+            final SerializerProvider provider = this.mapper.getSerializerProviderInstance();
+            gen.writeStartObject();
+            ResultSerializer.writeHeader(envelope, gen);
+            gen.writeFieldName(ResultSerializer.DATA_NAME);
+            final long count = ResultSerializer.writeElements(data, gen, provider);
+            final PagedListResult<?> trailer = paging != null ? paging.apply(count)
+                                               : envelope instanceof PagedListResult ? (PagedListResult<?>)envelope
+                                                 : null;
+            if (trailer != null)
+            {
+                ResultSerializer.writePaging(trailer, gen);
+            }
+            gen.writeEndObject();
+        } catch (final Throwable e)
+        {
+            // Do not close the open array and object, a truncated output must not look like a complete result.
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try
+            {
+                gen.close();
+            } catch (final IOException | RuntimeException suppressed)
+            {
+                // Flushing the truncated output usually fails for the same reason, keep the original failure.
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        gen.close();
+    }
+
+    /**
+     * 写出数据延迟求值的列表结果，数据从{@code result}的数据源中逐个读取后立即写出，为分页结果时其分页信息写在数据之后。
+     * 写出失败时关闭{@code result}的数据源。
+     *
+     * @param out    输出，如{@code ServletResponse#getOutputStream()}。
+     * @param result 结果对象，其数据源尚未被读取。
+     *
+     * @throws IOException 如果写出失败，则抛出此异常。
+     */
+    public void write(final OutputStream out, final StreamingListResult<?> result) throws IOException
+    {
+        Objects.requireNonNull(result, "result");
+        try
+        {
+            this.write(out, result, result.iterator(), null);
+        } catch (final IOException | RuntimeException e)
+        {
+            try
+            {
+                result.close();
+            } catch (final RuntimeException suppressed)
+            {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 写出以{@code envelope}的结果码及消息、{@code data}的元素为数据的列表结果，见{@link #write(OutputStream, CommonResult, Iterator, LongFunction)}。
+     *
+     * @param out      输出，如{@code ServletResponse#getOutputStream()}。
+     * @param envelope 提供结果码及消息的结果对象，为分页结果且{@code paging}为{@code null}时其分页信息写在数据之后，其数据被忽略。
+     * @param data     元素，逐个读取后立即写出。
+     * @param paging   根据写出的元素个数提供分页信息的函数，可以为{@code null}。
+     *
+     * @throws IOException 如果写出失败，则抛出此异常。
+     */
+    public void write(final OutputStream out, final CommonResult envelope, final Spliterator<?> data,
+                      @Nullable final LongFunction<? extends PagedListResult<?>> paging) throws IOException
+    {
+        this.write(out, envelope, Spliterators.iterator(Objects.requireNonNull(data, "data")), paging);
+    }
+
+    /**
+     * 写出以{@code envelope}的结果码及消息、{@code data}的元素为数据的列表结果，见{@link #write(OutputStream, CommonResult, Iterator, LongFunction)}。
+     *
+     * @param out      输出，必须是阻塞模式的通道。
+     * @param envelope 提供结果码及消息的结果对象，为分页结果且{@code paging}为{@code null}时其分页信息写在数据之后，其数据被忽略。
+     * @param data     元素，逐个读取后立即写出。
+     * @param paging   根据写出的元素个数提供分页信息的函数，可以为{@code null}。
+     *
+     * @throws IOException 如果写出失败，则抛出此异常。
+     */
+    public void write(final WritableByteChannel out, final CommonResult envelope, final Iterator<?> data,
+                      @Nullable final LongFunction<? extends PagedListResult<?>> paging) throws IOException
+    {
+        this.write(Channels.newOutputStream(Objects.requireNonNull(out, "out")), envelope, data, paging);
+    }
+
+    /**
+     * 写出以{@code envelope}的结果码及消息、{@code data}的元素为数据的列表结果，见{@link #write(OutputStream, CommonResult, Iterator, LongFunction)}。
+     *
+     * @param out      输出，必须是阻塞模式的通道。
+     * @param envelope 提供结果码及消息的结果对象，为分页结果且{@code paging}为{@code null}时其分页信息写在数据之后，其数据被忽略。
+     * @param data     元素，逐个读取后立即写出。
+     * @param paging   根据写出的元素个数提供分页信息的函数，可以为{@code null}。
+     *
+     * @throws IOException 如果写出失败，则抛出此异常。
+     */
+    public void write(final WritableByteChannel out, final CommonResult envelope, final Spliterator<?> data,
+                      @Nullable final LongFunction<? extends PagedListResult<?>> paging) throws IOException
+    {
+        this.write(Channels.newOutputStream(Objects.requireNonNull(out, "out")), envelope, Spliterators.iterator(Objects.requireNonNull(data, "data")), paging);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.jasonnming.results.jackson;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import com.github.jasonnming.results.result.support.DefaultResults;
+import com.github.jasonnming.results.result.support.ResultCodeResolver;
+import com.github.jasonnming.results.result.support.ResultCodes;
+
+/**
+ * 结果对象的Jackson模块，以手写的流式序列化器及反序列化器处理{@code basic}及{@code generic}包中的全部结果接口，无需Bean内省及mix-in。
+ * <p>
+ * 序列化格式与Bean序列化相近：{@code code}、{@code message}、{@code data}及存在的分页信息（{@code page}、{@code pageSize}、{@code hasNextPage}、
+ * {@code totalPage}、{@code totalSize}），不写出调试消息。反序列化时按声明的结果接口构建默认实现，结果码通过{@link ResultCodeResolver}或{@link ResultCodes#lookup(String)}获取。
+ * <p>
+ * 此模块已在{@code META-INF/services}中声明，可以通过{@code ObjectMapper#findAndRegisterModules()}自动注册（使用{@link ResultCodes#lookup(String)}）。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public class ResultsModule extends Module
+{
+    private static final Version VERSION = new Version(1, 0, 0, "SNAPSHOT", "com.github.jasonnming.results", "results-jackson");
+
+    @Nullable
+    private final ResultCodeResolver resolver;
+
+    /**
+     * 使用{@link ResultCodes#lookup(String)}获取结果码。
+     */
+    public ResultsModule()
+    {
+        this(null);
+    }
+
+    /**
+     * @param resolver 结果码解释器，为{@code null}或解释结果为{@code null}时使用{@link ResultCodes#lookup(String)}。
+     */
+    public ResultsModule(@Nullable final ResultCodeResolver resolver)
+    {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public String getModuleName()
+    {
+        return "results";
+    }
+
+    @Override
+    public Version version()
+    {
+        return VERSION;
+    }
+
+    @Override
+    public void setupModule(final SetupContext context)
+    {
+        context.addSerializers(new ResultSerializers());
+        context.addDeserializers(new ResultDeserializers(this.resolver));
+    }
+
+    /**
+     * 为结果接口及其默认实现提供{@link ResultSerializer}，自定义的实现类仍使用Bean序列化。
+     */
+    private static final class ResultSerializers extends Serializers.Base
+    {
+        @Override
+        public JsonSerializer<?> findSerializer(final SerializationConfig config, final JavaType type, final BeanDescription beanDesc)
+        {
+            final Class<?> rawType = type.getRawClass();
+            return ResultKind.ofInterface(rawType) != null || DefaultResults.isDefault(rawType) ? ResultSerializer.INSTANCE : null;
+        }
+    }
+
+    /**
+     * 为结果接口提供{@link ResultDeserializer}。
+     */
+    private static final class ResultDeserializers extends Deserializers.Base
+    {
+        @Nullable
+        private final ResultCodeResolver resolver;
+
+        private ResultDeserializers(@Nullable final ResultCodeResolver resolver)
+        {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(final JavaType type, final DeserializationConfig config, final BeanDescription beanDesc)
+        {
+            final ResultKind kind = ResultKind.ofInterface(type.getRawClass());
+            return kind != null ? new ResultDeserializer(kind, type, this.resolver) : null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.jasonnming.results.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.StreamingListResult;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultStreamWriterTest
+{
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ResultsModule());
+
+    private final ResultStreamWriter writer = new ResultStreamWriter(this.mapper);
+
+    @Test
+    @DisplayName("Paging is written after the data")
+    void test_write() throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.writer.write(out, Results.commonResult(ResultCodes.SUCCESS), Arrays.asList("a", null, "c").iterator(),
+                count -> Results.builder(ResultCodes.SUCCESS).data(Collections.emptyList()).page(1, 3).totalSize(count).build());
+        final String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"data\":[\"a\",null,\"c\"],\"page\":1,\"pageSize\":3,\"hasNextPage\":false,\"totalPage\":1,\"totalSize\":3}",
+                json);
+
+        final PagedListResult<String> result = this.mapper.readValue(json, new TypeReference<PagedListResult<String>>() { });
+        Assertions.assertEquals(Arrays.asList("a", null, "c"), result.getData());
+        Assertions.assertEquals(3, result.getTotalSize());
+
+        final PagedListResult<String> envelope = Results.builder(ResultCodes.SUCCESS).data(Collections.<String>emptyList()).page(2, 2).hasNextPage(false).build();
+        out.reset();
+        this.writer.write(out, envelope, IntStream.of(1, 2).spliterator(), null);
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"data\":[1,2],\"page\":2,\"pageSize\":2,\"hasNextPage\":false}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Elements are written to the channel while they are produced")
+    void test_stream() throws IOException
+    {
+        final int size = 200_000;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Iterator<Integer> data = new Iterator<Integer>()
+        {
+            private int next;
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.next < size;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (this.next == size / 2)
+                {
+                    Assertions.assertTrue(out.size() > size / 4);
+                }
+                return this.next++;
+            }
+        };
+        this.writer.write(Channels.newChannel(out), Results.commonResult(ResultCodes.SUCCESS), data, null);
+
+        final ListResult<Integer> result = this.mapper.readValue(out.toByteArray(), new TypeReference<ListResult<Integer>>() { });
+        Assertions.assertEquals(size, result.getData().size());
+        Assertions.assertEquals(Integer.valueOf(size - 1), result.getData().get(size - 1));
+    }
+
+    @Test
+    @DisplayName("Streaming results are written from their source")
+    void test_streamingResult() throws IOException
+    {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final PagedListResult<String> paged = Results.builder(ResultCodes.SUCCESS)
+                .dataStream(Stream.of("a", "b").onClose(() -> closed.set(true)))
+                .page(1, 2)
+                .build();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.writer.write(out, (StreamingListResult<String>)paged);
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"data\":[\"a\",\"b\"],\"page\":1,\"pageSize\":2}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertTrue(closed.get());
+        // The source has been read by the writer rather than drained by getData().
+        Assertions.assertThrows(IllegalStateException.class, paged::getData);
+
+        final ListResult<String> list = Results.builder(ResultCodes.SUCCESS).dataStream(Stream.of("a", "b")).build();
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"data\":[\"a\",\"b\"]}", this.mapper.writeValueAsString(list));
+        Assertions.assertThrows(IllegalStateException.class, list::getData);
+
+        closed.set(false);
+        final ListResult<Object> failing = Results.builder(ResultCodes.SUCCESS)
+                .dataStream(Stream.<Object>of("a", new Object()).onClose(() -> closed.set(true)))
+                .build();
+        Assertions.assertThrows(IOException.class, () -> this.writer.write(new ByteArrayOutputStream(), (StreamingListResult<Object>)failing));
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("A failure leaves the output incomplete")
+    void test_failure()
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Iterator<Object> data = Arrays.<Object>asList("a", new Object()).iterator();
+        Assertions.assertThrows(IOException.class, () -> this.writer.write(out, Results.commonResult(ResultCodes.SUCCESS), data, null));
+        Assertions.assertFalse(new String(out.toByteArray(), StandardCharsets.UTF_8).endsWith("}"));
+
+        // A failure of closing the generator does not mask the original one.
+        final OutputStream broken = new OutputStream()
+        {
+            @Override
+            public void write(final int b) throws IOException
+            {
+                throw new IOException("broken");
+            }
+        };
+        final IOException e = Assertions.assertThrows(IOException.class,
+                () -> this.writer.write(broken, Results.commonResult(ResultCodes.SUCCESS), Arrays.<Object>asList("a", new Object()).iterator(), null));
+        Assertions.assertNotEquals("broken", e.getMessage());
+        Assertions.assertEquals(1, e.getSuppressed().length);
+        Assertions.assertEquals("broken", e.getSuppressed()[0].getMessage());
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.jasonnming.results.jackson;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.jasonnming.results.page.Pages;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.IntPagedListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SetResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.support.ResultCodes;
+import com.github.jasonnming.results.result.support.Results;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultsModuleTest
+{
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ResultsModule());
+
+    @Test
+    @DisplayName("Only present paging properties are written")
+    void test_serialize() throws IOException
+    {
+        final PagedListResult<Integer> result = Results.builder(ResultCodes.SUCCESS).data(Arrays.asList(1, null)).page(1, 2).hasNextPage(false).build();
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"page\":1,\"pageSize\":2,\"hasNextPage\":false,\"data\":[1,null]}",
+                this.mapper.writeValueAsString(result));
+
+        Assertions.assertEquals("{\"code\":\"SYSTEM_ERROR\",\"message\":\"foo\"}",
+                this.mapper.writeValueAsString(Results.commonResult(ResultCodes.SYSTEM_ERROR, "foo", "debug")));
+        Assertions.assertEquals("{\"code\":\"SUCCESS\",\"message\":\"操作成功\",\"data\":[1,2]}",
+                this.mapper.writeValueAsString(Results.builder(ResultCodes.SUCCESS).buildLongListResult(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Results are read back as the declared result interfaces")
+    void test_roundTrip() throws IOException
+    {
+        final PagedListResult<Integer> paged = Results.builder(ResultCodes.SUCCESS).data(Arrays.asList(1, 2)).page(2, 2).totalSize(6).build();
+        final PagedListResult<Integer> pagedCopy = this.mapper.readValue(this.mapper.writeValueAsString(paged), new TypeReference<PagedListResult<Integer>>() { });
+        Assertions.assertSame(ResultCodes.SUCCESS, pagedCopy.getResultCode());
+        Assertions.assertEquals(paged.getMessage(), pagedCopy.getMessage());
+        Assertions.assertEquals(Arrays.asList(1, 2), pagedCopy.getData());
+        Assertions.assertEquals(paged.getPageOrNull(), pagedCopy.getPageOrNull());
+        Assertions.assertEquals(paged.getPageSizeOrNull(), pagedCopy.getPageSizeOrNull());
+        Assertions.assertEquals(paged.hasNextPage(), pagedCopy.hasNextPage());
+        Assertions.assertEquals(paged.getTotalPageOrNull(), pagedCopy.getTotalPageOrNull());
+        Assertions.assertEquals(paged.getTotalSizeOrNull(), pagedCopy.getTotalSizeOrNull());
+
+        final Map<Long, String> data = new LinkedHashMap<>();
+        data.put(1L, "a");
+        data.put(2L, null);
+        final MapResult<Long, String> map = this.mapper.readValue(this.mapper.writeValueAsString(Results.builder(ResultCodes.SUCCESS).buildMapResult(data)),
+                new TypeReference<MapResult<Long, String>>() { });
+        Assertions.assertEquals(data, map.getData());
+
+        final SetResult<String> set = this.mapper.readValue("{\"code\":\"SUCCESS\",\"data\":[\"a\",\"b\"],\"unknown\":{\"x\":[1]}}",
+                new TypeReference<SetResult<String>>() { });
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "b")), set.getData());
+
+        final IntPagedListResult ints = this.mapper.readValue(
+                this.mapper.writeValueAsString(Results.builder(ResultCodes.SUCCESS).buildIntPagedListResult(new int[]{3, 4}, Pages.page(1, 2), 2)),
+                IntPagedListResult.class);
+        Assertions.assertArrayEquals(new int[]{3, 4}, ints.toIntArray());
+        Assertions.assertFalse(ints.hasNextPage());
+
+        final CommonResult common = this.mapper.readValue("{\"code\":\"SYSTEM_ERROR\",\"message\":\"foo\"}", CommonResult.class);
+        Assertions.assertSame(ResultCodes.SYSTEM_ERROR, common.getResultCode());
+        Assertions.assertEquals("foo", common.getMessage());
+
+        final Holder holder = this.mapper.readValue("{\"result\":{\"code\":\"SUCCESS\",\"data\":\"foo\"}}", Holder.class);
+        Assertions.assertEquals("foo", holder.result.getData());
+        Assertions.assertNull(this.mapper.readValue("{\"result\":{\"code\":\"SUCCESS\"}}", Holder.class).result.getData());
+    }
+
+    @Test
+    @DisplayName("Result codes are resolved by the resolver for generic results")
+    void test_resolver() throws IOException
+    {
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new ResultsModule(
+                (resultCodeType, code) -> resultCodeType == TestResultCode.class ? TestResultCode.valueOf(code) : null));
+
+        final com.github.jasonnming.results.result.generic.SingleResult<TestResultCode, Integer> result = mapper.readValue(
+                "{\"code\":\"FAILURE\",\"data\":1}",
+                new TypeReference<com.github.jasonnming.results.result.generic.SingleResult<TestResultCode, Integer>>() { });
+        Assertions.assertSame(TestResultCode.FAILURE, result.getResultCode());
+        Assertions.assertEquals("失败", result.getMessage());
+        Assertions.assertEquals(Integer.valueOf(1), result.getData());
+
+        Assertions.assertSame(ResultCodes.SUCCESS, mapper.readValue("{\"code\":\"SUCCESS\"}", CommonResult.class).getResultCode());
+
+        // Unknown result codes are not interned.
+        final String unknown = "{\"code\":\"RESULTS_MODULE_TEST_UNKNOWN\"}";
+        Assertions.assertNotSame(mapper.readValue(unknown, CommonResult.class).getResultCode(), mapper.readValue(unknown, CommonResult.class).getResultCode());
+    }
+
+    @Test
+    @DisplayName("The module is registered by ServiceLoader and rejects results without code")
+    void test_misc() throws IOException
+    {
+        final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        Assertions.assertTrue(mapper.getRegisteredModuleIds().contains(ResultsModule.class.getName()));
+        Assertions.assertThrows(JsonMappingException.class, () -> mapper.readValue("{\"message\":\"foo\"}", CommonResult.class));
+        Assertions.assertThrows(JsonMappingException.class, () -> mapper.readValue("{\"code\":\"SUCCESS\",\"data\":{}}",
+                new TypeReference<PagedListResult<String>>() { }));
+
+        final PagedListResult<String> empty = mapper.readValue("{\"code\":\"SUCCESS\",\"data\":[]}", new TypeReference<PagedListResult<String>>() { });
+        Assertions.assertEquals(Collections.emptyList(), empty.getData());
+        Assertions.assertFalse(empty.hasPage());
+    }
+
+    public static class Holder
+    {
+        public SingleResult<String> result;
+    }
+
+    enum TestResultCode implements ResultCode, WithMessage
+    {
+        FAILURE;
+
+        @Override
+        public String getCode()
+        {
+            return this.name();
+        }
+
+        @Override
+        public String getMessage()
+        {
+            return "失败";
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.jasonnming.results.exception;
 
+import java.io.ObjectStreamException;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Nullable;
 
@@ -9,6 +12,11 @@ import com.github.jasonnming.results.result.support.Results;
 
 /**
  * 包含错误代码及错误消息的业务异常。
+ * <p>
+ * 业务异常通常作为控制流使用，异常消息（{@link #getMessage()}）仅在读取时才格式化；
+ * 序列化时才将格式化后的消息写出为{@link Throwable}的消息，没有覆盖{@link #getMessage()}的旧版本反序列化后仍能读到消息。
+ * 设置系统属性{@code -Dresults.exception.stackless=true}后，所有业务异常都不再捕获调用栈；
+ * 也可以通过{@link #BusinessException(ResultCode, String, String, Throwable, boolean)}为个别异常单独关闭。
  *
  * @author MiNG
  * @version 1.0.0
@@ -19,6 +27,28 @@ public class BusinessException extends RuntimeException
 {
     private static final long serialVersionUID = 0x55e59d806dec3766L;
 
+    /**
+     * 是否全局关闭业务异常的调用栈捕获，通过系统属性{@code results.exception.stackless}设置，默认不关闭。
+     */
+    private static final boolean STACKLESS = Boolean.getBoolean("results.exception.stackless");
+
+    /**
+     * {@link #cached(ResultCode)}中每种结果码类型共享实例的数量上限，超出后不再缓存。
+     */
+    private static final int MAX_CACHED_SIZE = 1024;
+
+    /**
+     * 按结果码的类型分别缓存共享实例，缓存挂在结果码类型上，因此不会阻止其（及其类加载器）被卸载。
+     */
+    private static final ClassValue<ConcurrentHashMap<ResultCode, BusinessException>> CACHED = new ClassValue<ConcurrentHashMap<ResultCode, BusinessException>>()
+    {
+        @Override
+        protected ConcurrentHashMap<ResultCode, BusinessException> computeValue(final Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * 以字符串表现的结果代码。
      */
@@ -34,6 +64,12 @@ public class BusinessException extends RuntimeException
      */
     private final String debugMessage;
 
+    /**
+     * 使用{@link ResultCode}构造时的结果码对象，由于不一定可序列化，反序列化后为{@code null}。
+     */
+    @Nullable
+    private final transient ResultCode resultCode;
+
     public BusinessException(final String code, final String alertMessage)
     {
         this(code, alertMessage, alertMessage);
@@ -41,19 +77,21 @@ public class BusinessException extends RuntimeException
 
     public BusinessException(final String code, final String alertMessage, @Nullable final String debugMessage)
     {
-        super(formatExceptionMessage(code, alertMessage, debugMessage));
+        super();
 
         this.code = code;
         this.alertMessage = alertMessage;
         this.debugMessage = debugMessage != null ? debugMessage : alertMessage;
+        this.resultCode = null;
     }
 
     public BusinessException(final String code, final String alertMessage, @Nullable final String debugMessage, final Throwable cause)
     {
-        super(formatExceptionMessage(code, alertMessage, debugMessage), cause);
+        super(null, cause);
         this.code = code;
         this.alertMessage = alertMessage;
         this.debugMessage = debugMessage != null ? debugMessage : alertMessage;
+        this.resultCode = null;
     }
 
     public BusinessException(final ResultCode resultCode)
@@ -68,13 +106,14 @@ public class BusinessException extends RuntimeException
 
     public BusinessException(final ResultCode resultCode, final String alertMessage, final String debugMessage)
     {
-        super(formatExceptionMessage(resultCode.getCode(), alertMessage, debugMessage));
+        super();
 
         final WithMessage message = (resultCode instanceof WithMessage) ? (WithMessage)resultCode : Results.EMPTY_MESSAGE;
 
         this.code = resultCode.getCode();
         this.alertMessage = (alertMessage != null) ? alertMessage : message.getMessage();
         this.debugMessage = (debugMessage != null) ? debugMessage : message.getDebugMessage();
+        this.resultCode = resultCode;
     }
 
     public BusinessException(final ResultCode resultCode, final Throwable cause)
@@ -89,13 +128,130 @@ public class BusinessException extends RuntimeException
 
     public BusinessException(final ResultCode resultCode, final String alertMessage, final String debugMessage, final Throwable cause)
     {
-        super(formatExceptionMessage(resultCode.getCode(), alertMessage, debugMessage), cause);
+        super(null, cause);
 
         final WithMessage message = (resultCode instanceof WithMessage) ? (WithMessage)resultCode : Results.EMPTY_MESSAGE;
 
         this.code = resultCode.getCode();
         this.alertMessage = (alertMessage != null) ? alertMessage : message.getMessage();
         this.debugMessage = (debugMessage != null) ? debugMessage : message.getDebugMessage();
+        this.resultCode = resultCode;
+    }
+
+    /**
+     * 以格式化后的消息作为{@link Throwable}的消息的副本，用于序列化时的替换，结果码不随异常序列化，副本中为{@code null}。
+     *
+     * @param source             被复制的异常。
+     * @param writableStackTrace 是否保留{@code source}的原因、调用栈及被抑制的异常，为{@code false}时副本不捕获调用栈。
+     */
+    private BusinessException(final BusinessException source, final boolean writableStackTrace)
+    {
+        super(source.getMessage(), writableStackTrace ? source.getCause() : null, writableStackTrace, writableStackTrace);
+
+        this.code = source.code;
+        this.alertMessage = source.alertMessage;
+        this.debugMessage = source.debugMessage;
+        this.resultCode = null;
+        if (writableStackTrace)
+        {
+            this.setStackTrace(source.getStackTrace());
+            for (final Throwable suppressed : source.getSuppressed())
+            {
+                this.addSuppressed(suppressed);
+            }
+        }
+    }
+
+    /**
+     * 可指定是否捕获调用栈的构造器，通常用于作为控制流频繁抛出的业务异常。
+     *
+     * @param resultCode         结果码。
+     * @param alertMessage       用户可读的提示消息，为{@code null}时使用{@code resultCode}的消息。
+     * @param debugMessage       调试诊断消息，为{@code null}时使用{@code resultCode}的消息。
+     * @param cause              引起此异常的异常。
+     * @param writableStackTrace 是否捕获调用栈，为{@code false}时{@link #getStackTrace()}将返回空数组。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    protected BusinessException(final ResultCode resultCode, @Nullable final String alertMessage, @Nullable final String debugMessage,
+            @Nullable final Throwable cause, final boolean writableStackTrace)
+    {
+        this(resultCode, alertMessage, debugMessage, cause, true, writableStackTrace);
+    }
+
+    private BusinessException(final ResultCode resultCode, @Nullable final String alertMessage, @Nullable final String debugMessage,
+            @Nullable final Throwable cause, final boolean enableSuppression, final boolean writableStackTrace)
+    {
+        super(null, cause, enableSuppression, writableStackTrace);
+
+        final WithMessage message = (resultCode instanceof WithMessage) ? (WithMessage)resultCode : Results.EMPTY_MESSAGE;
+
+        this.code = resultCode.getCode();
+        this.alertMessage = (alertMessage != null) ? alertMessage : message.getMessage();
+        this.debugMessage = (debugMessage != null) ? debugMessage : message.getDebugMessage();
+        this.resultCode = resultCode;
+    }
+
+    /**
+     * 获取{@code resultCode}对应的共享业务异常，异常只包含{@code resultCode}及其默认消息（{@link WithMessage}）。
+     * <p>
+     * 共享的异常不捕获调用栈，不记录被抑制的异常，也不能设置{@link #initCause(Throwable) cause}，因此是不可变的，可以安全地重复抛出，
+     * 抛出时不会产生任何分配。建议配合规范化的结果码（如{@link com.github.jasonnming.results.result.support.ResultCodes#of(String)}的返回值或枚举）使用，
+     * 共享实例以结果码对象的实例区分，与已缓存的结果码相等（{@link Object#equals(Object)}）但不是同一实例的结果码不会共享，
+     * 每种结果码类型共享实例的数量也有上限，这些情况下每次都会创建新的（同样不捕获调用栈的）实例。
+     *
+     * @param resultCode 结果码。
+     *
+     * @return 共享的业务异常。
+     *
+     * @throws IllegalArgumentException 如果{@code resultCode}为{@code null}，则抛出此异常。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static BusinessException cached(final ResultCode resultCode)
+    {
+        if (resultCode == null)
+        {
+            throw new IllegalArgumentException("\"resultCode\" cannot be null.");
+        }
+
+        final ConcurrentHashMap<ResultCode, BusinessException> cache = CACHED.get(resultCode.getClass());
+        final BusinessException cached = cache.get(resultCode);
+        // Only the very same result code instance can share the exception, the equal ones might carry different messages.
+        if (cached != null && cached.resultCode == resultCode)
+        {
+            return cached;
+        }
+
+        if (cached == null && cache.size() < MAX_CACHED_SIZE)
+        {
+            final BusinessException created = cache.computeIfAbsent(resultCode, x -> new Cached(x));
+            if (created.resultCode == resultCode)
+            {
+                return created;
+            }
+        }
+        return new BusinessException(resultCode, null, null, null, false, false);
+    }
+
+    @Override
+    public String getMessage()
+    {
+        // Formatted lazily, most business exceptions are converted into results without reading the message.
+        return formatExceptionMessage(this.code, this.alertMessage, this.debugMessage);
+    }
+
+    /**
+     * 以设置了格式化后消息的副本替换，仅用于此类本身，子类及{@link Cached}各自处理。
+     */
+    private Object writeReplace() throws ObjectStreamException
+    {
+        // The copy already carries the message, and is written as is.
+        return super.getMessage() != null ? this : new BusinessException(this, true);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace()
+    {
+        return STACKLESS ? this : super.fillInStackTrace();
     }
 
     private static String formatExceptionMessage(final String code, final String alertMessage, @Nullable final String debugMessage)
@@ -117,4 +273,50 @@ public class BusinessException extends RuntimeException
     {
         return this.debugMessage;
     }
+
+    /**
+     * @return 构造时使用的结果码对象，使用字符串代码构造或反序列化后为{@code null}。
+     */
+    @Nullable
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public ResultCode getResultCode()
+    {
+        return this.resultCode;
+    }
+
+    /**
+     * @return 是否为{@link #cached(ResultCode)}返回的共享实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public boolean isCached()
+    {
+        return false;
+    }
+
+    /**
+     * {@link #cached(ResultCode)}返回的共享实例。
+     */
+    private static final class Cached extends BusinessException
+    {
+        private static final long serialVersionUID = 0x3c1e7d1f0b5a6d42L;
+
+        private Cached(final ResultCode resultCode)
+        {
+            super(resultCode, null, null, null, false, false);
+        }
+
+        @Override
+        public boolean isCached()
+        {
+            return true;
+        }
+
+        /**
+         * 结果码不随异常序列化，因此以不捕获调用栈的普通业务异常替换，反序列化后不再是共享实例。
+         */
+        private Object writeReplace() throws ObjectStreamException
+        {
+            return new BusinessException(this, false);
+        }
+    }
 }
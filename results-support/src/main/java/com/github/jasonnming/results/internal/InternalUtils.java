@@ -37,6 +37,14 @@ public final class InternalUtils
         return StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
     }
 
+    /**
+     * 计算容纳{@code expectedSize}个元素而不触发扩容的{@link java.util.HashMap}初始容量（默认负载因子{@code 0.75}）。
+     */
+    public static int hashCapacity(final int expectedSize)
+    {
+        return expectedSize < 3 ? expectedSize + 1 : (int)Math.min(Integer.MAX_VALUE, (long)expectedSize * 4 / 3 + 1);
+    }
+
     public static <T> List<T> toList(final Iterator<T> iterator)
     {
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.IMMUTABLE | Spliterator.ORDERED), false)
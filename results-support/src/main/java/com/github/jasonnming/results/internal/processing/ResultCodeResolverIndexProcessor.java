@@ -0,0 +1,193 @@
+package com.github.jasonnming.results.internal.processing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+
+/**
+ * 在编译期为{@code ResultCodeResolver}的实现类生成{@code META-INF/services}索引，
+ * 使运行时可以直接通过{@link java.util.ServiceLoader}加载，而无需扫描整个classpath。
+ * <p>
+ * 本处理器随{@code results-support}通过{@code META-INF/services/javax.annotation.processing.Processor}自动注册，
+ * 不会声明任何注解，因此不会影响其它注解处理器。索引每次都只由本次编译中找到的实现类重新生成，不会合并输出目录中已有的索引，
+ * 以免增量编译时保留已删除的实现类；手工编写的条目需放在源码目录（{@code -sourcepath}）中的同名文件，会被合并到生成的索引中。
+ * {@link java.util.ServiceLoader}无法实例化的实现类（非静态的内部类、没有公开的无参构造器）不会被索引，并给出编译警告。
+ * <p>
+ * 实现类没有任何注解标记，因此只能声明处理全部类型（{@code *}）；同时通过{@code META-INF/gradle/incremental.annotation.processors}
+ * 声明为聚合（aggregating）处理器，Gradle仍然可以增量编译。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.INTERNAL)
+@SupportedAnnotationTypes("*")
+public final class ResultCodeResolverIndexProcessor extends AbstractProcessor
+{
+    /**
+     * 被索引的接口，不直接引用以免处理器在不含该接口的编译环境中无法加载。
+     */
+    static final String RESOLVER_CLASS_NAME = "com.github.jasonnming.results.result.support.ResultCodeResolver";
+
+    static final String INDEX_LOCATION = "META-INF/services/" + RESOLVER_CLASS_NAME;
+
+    private final Set<String> resolvers = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+    {
+        final TypeElement resolverElement = this.processingEnv.getElementUtils().getTypeElement(RESOLVER_CLASS_NAME);
+        if (resolverElement == null)
+        {
+            // ResultCodeResolver is not visible in this compilation, nothing to index.
+            return false;
+        }
+
+        if (roundEnv.processingOver())
+        {
+            writeIndex();
+        } else
+        {
+            final TypeMirror resolverType = this.processingEnv.getTypeUtils().erasure(resolverElement.asType());
+            for (final Element element : roundEnv.getRootElements())
+            {
+                collect(element, resolverType);
+            }
+        }
+
+        // Never claims any annotation.
+        return false;
+    }
+
+    private void collect(final Element element, final TypeMirror resolverType)
+    {
+        if (!element.getKind().isClass() && !element.getKind().isInterface())
+        {
+            return;
+        }
+
+        final TypeElement typeElement = (TypeElement)element;
+        if (typeElement.getKind() == ElementKind.CLASS
+                && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                && typeElement.getModifiers().contains(Modifier.PUBLIC)
+                && this.processingEnv.getTypeUtils().isAssignable(this.processingEnv.getTypeUtils().erasure(typeElement.asType()), resolverType)
+                && isInstantiable(typeElement))
+        {
+            this.resolvers.add(this.processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+
+        // Nested types.
+        for (final Element enclosed : typeElement.getEnclosedElements())
+        {
+            collect(enclosed, resolverType);
+        }
+    }
+
+    /**
+     * 检查{@link java.util.ServiceLoader}能否实例化{@code typeElement}，不能时给出警告。
+     */
+    private boolean isInstantiable(final TypeElement typeElement)
+    {
+        final String reason;
+        if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC))
+        {
+            reason = "it is a non-static inner class";
+        } else if (ElementFilter.constructorsIn(typeElement.getEnclosedElements()).stream()
+                .noneMatch(x -> x.getModifiers().contains(Modifier.PUBLIC) && x.getParameters().isEmpty()))
+        {
+            reason = "it has no public no-arg constructor";
+        } else
+        {
+            return true;
+        }
+
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "ResultCodeResolver [" + typeElement.getQualifiedName() + "] is not indexed, ServiceLoader cannot instantiate it because " + reason + ".",
+                typeElement);
+        return false;
+    }
+
+    private void writeIndex()
+    {
+        final Set<String> entries = new LinkedHashSet<>(readSourceIndex());
+        entries.addAll(this.resolvers);
+        if (entries.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            final FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (final Writer writer = file.openWriter())
+            {
+                for (final String entry : entries)
+                {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e)
+        {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + INDEX_LOCATION + ": " + e);
+        }
+    }
+
+    /**
+     * 读取源码目录中手工编写的索引，输出目录中的索引是上次编译的结果，不会被读取。
+     */
+    private Set<String> readSourceIndex()
+    {
+        try
+        {
+            final FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.SOURCE_PATH, "", INDEX_LOCATION);
+            final Set<String> entries = new LinkedHashSet<>();
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8)))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    final int comment = line.indexOf('#');
+                    final String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!entry.isEmpty())
+                    {
+                        entries.add(entry);
+                    }
+                }
+            }
+            return entries;
+        } catch (final IOException | IllegalArgumentException e)
+        {
+            // No hand-written index, or no source path at all.
+            return Collections.emptySet();
+        }
+    }
+}
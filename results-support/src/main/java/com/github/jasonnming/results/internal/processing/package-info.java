@@ -0,0 +1,4 @@
+/**
+ * This package includes the compile-time annotation processors, DO NOT depends on this.
+ */
+package com.github.jasonnming.results.internal.processing;
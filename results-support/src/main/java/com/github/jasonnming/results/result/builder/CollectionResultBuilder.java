@@ -24,6 +24,64 @@ import com.github.jasonnming.results.result.basic.ResultCode;
 @API(status = API.Status.STABLE, since = "1.0.0")
 public interface CollectionResultBuilder<TResultCode extends ResultCode, TContainer extends Collection<TElement>, TElement>
 {
+    /**
+     * 数据个数达到默认阈值时，以并行的方式转换为{@link Map}，阈值通过系统属性{@code results.collection.parallelThreshold}设置，默认为{@code 10000}。
+     *
+     * @return 当前构建器。
+     *
+     * @see #parallel(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default CollectionResultBuilder<TResultCode, TContainer, TElement> parallel()
+    {
+        return this;
+    }
+
+    /**
+     * 数据个数达到{@code threshold}时，以并行的方式转换为{@link Map}，低于此值时仍然顺序转换。
+     * <p>
+     * 并行转换与顺序转换得到的都是{@link java.util.HashMap}，同样接受{@code null}作为key；
+     * {@code keyExtractor}及{@code valueExtractor}将在{@link java.util.concurrent.ForkJoinPool#commonPool()}中执行，应是无状态且线程安全的。
+     * <p>
+     * 默认实现忽略此设置，总是顺序转换；由{@code Results}提供的构建器支持并行转换。
+     *
+     * @param threshold 并行转换的数据个数阈值，为{@code 0}时总是并行转换。
+     *
+     * @return 当前构建器。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default CollectionResultBuilder<TResultCode, TContainer, TElement> parallel(final int threshold)
+    {
+        return this;
+    }
+
+    /**
+     * 指定转换得到的{@link Map}的布局，默认为{@link MapResultLayout#HASH}。
+     * <p>
+     * 只有{@link MapResultLayout#HASH}支持{@link #parallel(int) 并行转换}，其它布局总是顺序转换。
+     * <p>
+     * 默认实现只支持{@link MapResultLayout#HASH}；由{@code Results}提供的构建器支持所有布局。
+     *
+     * @param layout Map的布局。
+     *
+     * @return 当前构建器。
+     *
+     * @throws UnsupportedOperationException 默认实现中{@code layout}不为{@link MapResultLayout#HASH}时抛出，其它布局的约束（如顺序）无法以默认的转换满足。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default CollectionResultBuilder<TResultCode, TContainer, TElement> layout(final MapResultLayout layout)
+    {
+        if (layout == null)
+        {
+            throw new IllegalArgumentException("Property [layout] must not be null.");
+        }
+        if (layout != MapResultLayout.HASH)
+        {
+            throw new UnsupportedOperationException("Layout " + layout + " is not supported by this builder.");
+        }
+        return this;
+    }
+
     /**
      * 将数据转换为{@link List}。
      *
@@ -57,7 +115,7 @@ public interface CollectionResultBuilder<TResultCode extends ResultCode, TContai
     SetResultBuilder<TResultCode, TElement> toSetResult(Function<TContainer, Set<TElement>> setFactory);
 
     /**
-     * 将数据转换为{@link Map}。
+     * 将数据转换为{@link Map}，重复的key及{@code null}值将抛出异常。
      *
      * @param keyExtractor key提取器。
      * @param <TKey>       key类型。
@@ -67,7 +125,7 @@ public interface CollectionResultBuilder<TResultCode extends ResultCode, TContai
     <TKey> MapResultBuilder<TResultCode, TKey, TElement> toMapResult(Function<TElement, TKey> keyExtractor);
 
     /**
-     * 将数据转换为{@link Map}。
+     * 将数据转换为{@link Map}，重复的key及{@code null}值将抛出异常。
      *
      * @param keyExtractor   key提取器。
      * @param valueExtractor value提取器。
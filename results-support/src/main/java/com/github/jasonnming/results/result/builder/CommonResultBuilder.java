@@ -1,17 +1,28 @@
 package com.github.jasonnming.results.result.builder;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 
+import com.github.jasonnming.results.page.Page;
 import com.github.jasonnming.results.result.basic.ResultCode;
 import com.github.jasonnming.results.result.basic.WithMessage;
 import com.github.jasonnming.results.result.generic.CollectionResult;
 import com.github.jasonnming.results.result.generic.CommonResult;
+import com.github.jasonnming.results.result.generic.DoubleListResult;
+import com.github.jasonnming.results.result.generic.DoublePagedListResult;
+import com.github.jasonnming.results.result.generic.IntListResult;
+import com.github.jasonnming.results.result.generic.IntPagedListResult;
 import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.LongListResult;
+import com.github.jasonnming.results.result.generic.LongPagedListResult;
 import com.github.jasonnming.results.result.generic.MapResult;
 import com.github.jasonnming.results.result.generic.PagedListResult;
 import com.github.jasonnming.results.result.generic.SetResult;
@@ -82,6 +93,8 @@ public interface CommonResultBuilder<TResultCode extends ResultCode>
 
     /**
      * 提供以{@link List}为容器的多份数据，并返回{@link ListResult}的构建器。
+     * <p>
+     * {@code data}将被复制，此后对{@code data}的修改不会影响结果对象；如不需要复制，请使用{@link #dataOwned(List)}或{@link #dataView(List)}。
      *
      * @param data       List对象。
      * @param <TElement> 数据类型。
@@ -90,6 +103,98 @@ public interface CommonResultBuilder<TResultCode extends ResultCode>
      */
     <TElement> ListResultBuilder<TResultCode, TElement> data(final List<TElement> data);
 
+    /**
+     * 提供以{@link List}为容器的多份数据并转移其所有权，返回{@link ListResult}的构建器。
+     * <p>
+     * {@code data}不会被复制而是直接作为结果对象的数据，调用者此后不应再修改{@code data}，也不应再将其交给其它结果对象。
+     * 适用于查询结果等只在此处使用的大列表，可避免复制带来的额外内存占用。
+     * <p>
+     * 默认实现同{@link #data(List)}复制{@code data}，由{@code Results}提供的构建器不复制。
+     *
+     * @param data       List对象，可以为{@code null}。
+     * @param <TElement> 数据类型。
+     *
+     * @return {@link ListResult}的构建器。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default <TElement> ListResultBuilder<TResultCode, TElement> dataOwned(final List<TElement> data)
+    {
+        return this.data(data);
+    }
+
+    /**
+     * 提供以{@link List}为容器的多份数据的只读视图，并返回{@link ListResult}的构建器。
+     * <p>
+     * {@code data}不会被复制，结果对象只持有其{@link java.util.Collections#unmodifiableList(List) 只读视图}，
+     * 因此结果对象的使用者不能修改数据，但调用者对{@code data}的修改仍会反映到结果对象中。
+     *
+     * @param data       List对象，可以为{@code null}。
+     * @param <TElement> 数据类型。
+     *
+     * @return {@link ListResult}的构建器。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出（复制将违背视图的约定），由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default <TElement> ListResultBuilder<TResultCode, TElement> dataView(final List<TElement> data)
+    {
+        throw new UnsupportedOperationException("dataView(...) is not supported by this builder.");
+    }
+
+    /**
+     * 提供以{@link Stream}为来源的延迟求值的数据，并返回{@link ListResult}的构建器。
+     * <p>
+     * {@code data}不为{@code null}时，构建的结果对象同时实现{@link com.github.jasonnming.results.result.basic.StreamingListResult}，
+     * 数据只能读取一次，通常由序列化器通过{@link com.github.jasonnming.results.result.basic.StreamingListResult#iterator()}逐个读取并写出，读取完毕或读取失败后关闭{@code data}。
+     * 适用于大批量导出等不希望整体缓存在堆中的场景。
+     * <p>
+     * {@link ListResult#getData()}将读取全部数据并返回满足{@link List}约定的列表，因此不了解此类型的调用方仍然可以正确地处理结果对象，只是失去了延迟求值的好处。
+     * 结果对象未被读取时（如序列化前出错或被丢弃）需要通过{@link com.github.jasonnming.results.result.basic.StreamingListResult#close()}关闭{@code data}。
+     * <p>
+     * 默认实现立即读取全部数据并关闭{@code data}，再通过{@link #dataOwned(List)}构建，由{@code Results}提供的构建器延迟求值。
+     *
+     * @param data       数据来源，可以为{@code null}。
+     * @param <TElement> 数据类型。
+     *
+     * @return {@link ListResult}的构建器。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default <TElement> ListResultBuilder<TResultCode, TElement> dataStream(final Stream<TElement> data)
+    {
+        if (data == null)
+        {
+            return this.dataOwned(null);
+        }
+        try (final Stream<TElement> stream = data)
+        {
+            return this.dataOwned(stream.collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * 提供以{@link Iterator}为来源的延迟求值的数据，并返回{@link ListResult}的构建器，其余同{@link #dataStream(Stream)}。
+     * <p>
+     * 默认实现立即读取全部数据，再通过{@link #dataOwned(List)}构建。
+     *
+     * @param data       数据来源，可以为{@code null}。
+     * @param sizeHint   数据个数的提示值，未知时为{@code -1}，仅用于{@link ListResult#getData()}预先分配空间。
+     * @param <TElement> 数据类型。
+     *
+     * @return {@link ListResult}的构建器。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default <TElement> ListResultBuilder<TResultCode, TElement> dataStream(final Iterator<TElement> data, final long sizeHint)
+    {
+        if (data == null)
+        {
+            return this.dataOwned(null);
+        }
+        // The hint is not trusted, cap the pre-allocated capacity.
+        final List<TElement> list = new ArrayList<>((int)Math.min(1 << 16, Math.max(sizeHint, 0)));
+        data.forEachRemaining(list::add);
+        return this.dataOwned(list);
+    }
+
     /**
      * 提供以{@link Set}为容器的多份且不重复数据，并返回{@link SetResult}的构建器。
      *
@@ -233,5 +338,107 @@ public interface CommonResultBuilder<TResultCode extends ResultCode>
      */
     <TKey, TValue> MapResult<TResultCode, TKey, TValue> buildMapResult(final Map<TKey, TValue> data);
 
+    /**
+     * 构建一个以{@code int[]}保存数据的{@link IntListResult}对象，数据不会被装箱。
+     *
+     * @param data {@link IntListResult}内的数据项，不会被复制。
+     *
+     * @return 带有数据的 {@link IntListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default IntListResult<TResultCode> buildIntListResult(final int... data)
+    {
+        throw new UnsupportedOperationException("buildIntListResult(...) is not supported by this builder.");
+    }
+
+    /**
+     * 构建一个以{@code int[]}保存数据且带有分页信息的{@link IntPagedListResult}对象，数据不会被装箱。
+     * <p>
+     * 分页信息的校验及推断与{@code data(...).page(page).totalSize(totalSize).build()}相同。
+     *
+     * @param data      {@link IntPagedListResult}内的数据项，不会被复制。
+     * @param page      分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}。
+     * @param totalSize 符合当前查询的所有记录总数。
+     *
+     * @return 带有数据及分页信息的 {@link IntPagedListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default IntPagedListResult<TResultCode> buildIntPagedListResult(final int[] data, final Page page, final long totalSize)
+    {
+        throw new UnsupportedOperationException("buildIntPagedListResult(...) is not supported by this builder.");
+    }
+
+    /**
+     * 构建一个以{@code long[]}保存数据的{@link LongListResult}对象，数据不会被装箱。
+     *
+     * @param data {@link LongListResult}内的数据项，不会被复制。
+     *
+     * @return 带有数据的 {@link LongListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default LongListResult<TResultCode> buildLongListResult(final long... data)
+    {
+        throw new UnsupportedOperationException("buildLongListResult(...) is not supported by this builder.");
+    }
+
+    /**
+     * 构建一个以{@code long[]}保存数据且带有分页信息的{@link LongPagedListResult}对象，数据不会被装箱。
+     * <p>
+     * 分页信息的校验及推断与{@code data(...).page(page).totalSize(totalSize).build()}相同。
+     *
+     * @param data      {@link LongPagedListResult}内的数据项，不会被复制。
+     * @param page      分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}。
+     * @param totalSize 符合当前查询的所有记录总数。
+     *
+     * @return 带有数据及分页信息的 {@link LongPagedListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default LongPagedListResult<TResultCode> buildLongPagedListResult(final long[] data, final Page page, final long totalSize)
+    {
+        throw new UnsupportedOperationException("buildLongPagedListResult(...) is not supported by this builder.");
+    }
+
+    /**
+     * 构建一个以{@code double[]}保存数据的{@link DoubleListResult}对象，数据不会被装箱。
+     *
+     * @param data {@link DoubleListResult}内的数据项，不会被复制。
+     *
+     * @return 带有数据的 {@link DoubleListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default DoubleListResult<TResultCode> buildDoubleListResult(final double... data)
+    {
+        throw new UnsupportedOperationException("buildDoubleListResult(...) is not supported by this builder.");
+    }
+
+    /**
+     * 构建一个以{@code double[]}保存数据且带有分页信息的{@link DoublePagedListResult}对象，数据不会被装箱。
+     * <p>
+     * 分页信息的校验及推断与{@code data(...).page(page).totalSize(totalSize).build()}相同。
+     *
+     * @param data      {@link DoublePagedListResult}内的数据项，不会被复制。
+     * @param page      分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}。
+     * @param totalSize 符合当前查询的所有记录总数。
+     *
+     * @return 带有数据及分页信息的 {@link DoublePagedListResult}。
+     *
+     * @throws UnsupportedOperationException 默认实现总是抛出，由{@code Results}提供的构建器实现。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    default DoublePagedListResult<TResultCode> buildDoublePagedListResult(final double[] data, final Page page, final long totalSize)
+    {
+        throw new UnsupportedOperationException("buildDoublePagedListResult(...) is not supported by this builder.");
+    }
+
     // endregion: Shortcut methods
 }
@@ -0,0 +1,48 @@
+package com.github.jasonnming.results.result.builder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.TreeMap;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@link CollectionResultBuilder#toMapResult}转换得到的{@link java.util.Map}的布局。
+ * <p>
+ * 各布局对key的约束不同：{@link #HASH}及{@link #INSERTION_ORDERED}接受{@code null}作为key，其它布局不接受；
+ * {@link #LONG_KEYED}只接受{@link Long}类型的key。不满足约束的key在转换时抛出{@link IllegalArgumentException}。
+ * 所有布局都不接受{@code null}作为value，重复的key将抛出{@link IllegalStateException}。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public enum MapResultLayout
+{
+    /**
+     * 按数据个数预先分配容量的{@link HashMap}，这是默认的布局，key可以为{@code null}。
+     */
+    HASH,
+
+    /**
+     * 保持数据原有顺序的{@link LinkedHashMap}，key可以为{@code null}。
+     */
+    INSERTION_ORDERED,
+
+    /**
+     * 按key排序的{@link TreeMap}，key需要实现{@link Comparable}，不能为{@code null}。
+     */
+    SORTED,
+
+    /**
+     * 以开放寻址的数组保存数据的只读Map，不为每个键值对创建节点，内存占用更低，key不能为{@code null}。
+     */
+    COMPACT,
+
+    /**
+     * 以{@code long[]}保存key的只读Map，key必须为{@link Long}（不能为{@link Integer}等其它类型或{@code null}），
+     * key不以对象保存，适用于以ID为key的结果；查找时仍通过{@link java.util.Map#get(Object)}传入{@link Long}。
+     */
+    LONG_KEYED
+}
@@ -0,0 +1,90 @@
+package com.github.jasonnming.results.result.support;
+
+import org.apiguardian.api.API;
+
+/**
+ * 缓存统计信息的快照，各计数为自JVM启动以来的累计值。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class CacheStats
+{
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long size;
+
+    private final long evictionCount;
+
+    CacheStats(final long hitCount, final long missCount)
+    {
+        this(hitCount, missCount, -1, 0);
+    }
+
+    CacheStats(final long hitCount, final long missCount, final long size, final long evictionCount)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.size = size;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return 命中缓存的次数。
+     */
+    public long getHitCount()
+    {
+        return this.hitCount;
+    }
+
+    /**
+     * @return 未命中缓存的次数。
+     */
+    public long getMissCount()
+    {
+        return this.missCount;
+    }
+
+    /**
+     * @return 查找缓存的总次数。
+     */
+    public long getRequestCount()
+    {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * @return 缓存当前的条目数，不支持统计时为{@code -1}。
+     */
+    public long getSize()
+    {
+        return this.size;
+    }
+
+    /**
+     * @return 被移除的条目数（如所属的类被卸载）。
+     */
+    public long getEvictionCount()
+    {
+        return this.evictionCount;
+    }
+
+    /**
+     * @return 缓存命中率，未发生过查找时为{@code 1.0}。
+     */
+    public double getHitRate()
+    {
+        final long requestCount = this.getRequestCount();
+        return requestCount == 0 ? 1.0 : (double)this.hitCount / requestCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CacheStats{hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", size=" + this.size + ", evictionCount=" + this.evictionCount + "}";
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.jasonnming.results.result.support;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+
+/**
+ * 创建带有数据的结果对象的工厂，{@code data}为{@code null}时等价于创建不含数据的结果对象。
+ * <p>
+ * 可通过{@link Results#registerFactory(Class, DataResultFactory)}为自定义的结果类型注册工厂，
+ * 注册后即可在{@link Results#of(Class, ResultCode, String, String, Object)}及{@link MethodReturnWrapper}中使用该结果类型。
+ *
+ * @param <TResult> 创建的结果对象类型。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+@FunctionalInterface
+public interface DataResultFactory<TResult extends CommonResult>
+{
+    /**
+     * 创建结果对象。
+     *
+     * @param resultCode   结果码对象。
+     * @param message      用户可读消息，为{@code null}时由具体实现决定（通常从{@code resultCode}中获取）。
+     * @param debugMessage 调试诊断消息，为{@code null}时由具体实现决定（通常从{@code resultCode}中获取）。
+     * @param data         装载的数据，为{@code null}时表示不含数据。
+     *
+     * @return 结果对象。
+     */
+    TResult create(ResultCode resultCode, @Nullable String message, @Nullable String debugMessage, @Nullable Object data);
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 
@@ -26,22 +27,72 @@ final class Extensions
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(Extensions.class);
 
+    /**
+     * 启用生成模式的系统属性名，设置为{@code true}时{@link MethodReturnWrapper}将为每个方法生成直接绑定结果构造器的工厂。
+     */
+    static final String GENERATED_WRAPPER_PROPERTY = "results.wrapper.generated";
+
+    /**
+     * 启用classpath扫描的系统属性名，设置为{@code true}时如果索引中没有{@link ResultCodeResolver}，将通过spring-core扫描整个classpath查找其实现类。
+     */
+    static final String RESOLVER_SCAN_PROPERTY = "results.resolver.scan";
+
+    /**
+     * 响应式结果分页大小的系统属性名，见{@link #REACTIVE_PAGE_SIZE}。
+     */
+    static final String REACTIVE_PAGE_SIZE_PROPERTY = "results.reactive.pageSize";
+
     @Nullable
     static final ResultCodeResolver RESULT_CODE_RESOLVER;
 
+    /**
+     * classpath中是否存在reactor-core组件，存在时{@link MethodReturnWrapper}支持返回值声明为{@code Mono}或{@code Flux}的方法。
+     */
+    static final boolean REACTOR_PRESENT = isClassPresent("reactor.core.publisher.Flux");
+
+    /**
+     * 返回值声明为{@code Flux<T>}的方法的分页大小，通过系统属性{@value #REACTIVE_PAGE_SIZE_PROPERTY}设置，
+     * 默认为{@code 0}，表示将所有元素收集为一个{@code ListResult}；大于{@code 0}时按此大小分为多个{@code PagedListResult}。
+     */
+    static final int REACTIVE_PAGE_SIZE = Integer.getInteger(REACTIVE_PAGE_SIZE_PROPERTY, 0);
+
+    /**
+     * 是否启用{@link MethodReturnWrapper}的生成模式，通过系统属性{@value #GENERATED_WRAPPER_PROPERTY}设置，默认关闭。
+     */
+    static final boolean GENERATED_WRAPPER_ENABLED = Boolean.getBoolean(GENERATED_WRAPPER_PROPERTY);
+
     static
     {
-        if (isClassPresent("org.springframework.core.type.classreading.MetadataReaderFactory"))
+        RESULT_CODE_RESOLVER = loadResultCodeResolver(Thread.currentThread().getContextClassLoader(), Boolean.getBoolean(RESOLVER_SCAN_PROPERTY));
+    }
+
+    private Extensions() { }
+
+    /**
+     * 加载{@link ResultCodeResolver}，优先读取编译期生成的{@code META-INF/services}索引，
+     * 索引中不存在时，仅在{@code scanClasspath}为{@code true}且存在spring-core时才扫描整个classpath。
+     *
+     * @param classLoader   加载使用的类加载器。
+     * @param scanClasspath 是否允许扫描整个classpath。
+     *
+     * @return 加载到的{@link ResultCodeResolver}，不存在时返回{@code null}。
+     */
+    @Nullable
+    static ResultCodeResolver loadResultCodeResolver(final ClassLoader classLoader, final boolean scanClasspath)
+    {
+        ResultCodeResolver resultCodeResolver = loadResultCodeResolverByJdk(classLoader);
+        if (resultCodeResolver == null && scanClasspath && isClassPresent("org.springframework.core.type.classreading.MetadataReaderFactory"))
         {
-            RESULT_CODE_RESOLVER = loadResultCodeResolverBySpring();
-        } else
+            resultCodeResolver = loadResultCodeResolverBySpring(classLoader);
+        }
+
+        if (resultCodeResolver == null)
         {
-            RESULT_CODE_RESOLVER = loadResultCodeResolverByJdk();
+            LOGGER.warn("No ResultCodeResolver was found in classpath, some generic-result related feature might disabled.");
         }
+        return resultCodeResolver;
     }
 
-    private Extensions() { }
-
     private static boolean isClassPresent(final String className)
     {
         try
@@ -54,28 +105,43 @@ final class Extensions
         }
     }
 
-    private static ResultCodeResolver loadResultCodeResolverByJdk()
+    /**
+     * 通过{@link ServiceLoader}加载第一个可用的{@link ResultCodeResolver}，无法加载的索引条目（如类不存在或无法实例化）将被跳过。
+     */
+    @Nullable
+    static ResultCodeResolver loadResultCodeResolverByJdk(final ClassLoader classLoader)
     {
-        final ServiceLoader<ResultCodeResolver> load = ServiceLoader.load(ResultCodeResolver.class);
+        final ServiceLoader<ResultCodeResolver> load = ServiceLoader.load(ResultCodeResolver.class, classLoader);
 
+        ResultCodeResolver selected = null;
         final Iterator<ResultCodeResolver> iterator = load.iterator();
-        if (iterator.hasNext())
+        while (true)
         {
-            final ResultCodeResolver next = iterator.next();
-            if (iterator.hasNext())
+            try
+            {
+                if (!iterator.hasNext())
+                {
+                    return selected;
+                }
+                if (selected != null)
+                {
+                    LOGGER.warn("Multi ResultCodeResolver found, selected: [{}]", selected.getClass().getName());
+                    return selected;
+                }
+                selected = iterator.next();
+            } catch (final ServiceConfigurationError e)
             {
-                LOGGER.warn("Multi ResultCodeResolver found, selected: [{}]", next.getClass().getName());
+                // ServiceLoader moves on to the next entry after an error.
+                LOGGER.error("Cannot load ResultCodeResolver, skipped.", e);
             }
-            return next;
         }
-        return null;
     }
 
-    private static ResultCodeResolver loadResultCodeResolverBySpring()
+    static ResultCodeResolver loadResultCodeResolverBySpring(final ClassLoader classLoader)
     {
         try
         {
-            final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+            final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver(classLoader);
             final MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(resourcePatternResolver);
 
             final String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + "**/*.class";
@@ -98,7 +164,6 @@ final class Extensions
 
             if (resultCodeResolvers.size() == 0)
             {
-                LOGGER.warn("No ResultCodeResolver was found in classpath, some generic-result related feature might disabled.");
                 return null;
             }
 
@@ -109,7 +174,7 @@ final class Extensions
                         String.join(", ", resultCodeResolvers), resultCodeResolver);
             }
 
-            return (ResultCodeResolver)Class.forName(resultCodeResolver).newInstance();
+            return (ResultCodeResolver)Class.forName(resultCodeResolver, true, classLoader).newInstance();
         } catch (final Exception e)
         {
             LOGGER.error("Error occurs while loading ResultCodeResolver.", e);
@@ -1,7 +1,11 @@
 package com.github.jasonnming.results.result.support;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
@@ -16,6 +20,12 @@ import com.github.jasonnming.results.result.generic.CommonResult;
 
 /**
  * 方法返回数据/异常包装器，根据方法的声明将返回的数据或抛出的异常统一包装为{@link com.github.jasonnming.results.result.basic.CommonResult}或其更具体的子类。
+ * <p>
+ * 返回值声明为{@link CompletionStage}或{@link CompletableFuture}的方法（以及classpath中存在reactor-core时，声明为{@code Mono}或{@code Flux}的方法，见{@link ReactiveResults}），
+ * 可通过{@link #wrapDeclaredReturn(Object, Throwable)}在不阻塞线程的情况下包装其结果。
+ * <p>
+ * 设置系统属性{@code -Dresults.wrapper.generated=true}可启用生成模式：创建包装器时为方法声明的结果类型生成直接绑定{@code Default*Result}构造器的工厂，
+ * 包装时不再经过{@link Results#of(Class, ResultCode, String, String, Object)}的类型分派；返回值声明为{@link Object}或生成失败时仍使用原有的包装方式。
  *
  * @author MiNG
  * @version 1.0.0
@@ -24,46 +34,130 @@ import com.github.jasonnming.results.result.generic.CommonResult;
 @API(status = API.Status.STABLE, since = "1.0.0")
 public abstract class MethodReturnWrapper
 {
-    private static final ConcurrentHashMap<Method, MethodReturnWrapper> RETURN_WRAPPER_CACHE = new ConcurrentHashMap<>();
+    /**
+     * 每个{@link ResultCodeResolver}类型可缓存的{@link Scope}数量上限，超出后{@link #scope(ResultCodeResolver)}将返回不带缓存的作用域。
+     */
+    private static final int MAX_SCOPES_PER_RESOLVER_TYPE = 64;
+
+    /**
+     * 使用全局{@link ResultCodeResolver}的作用域，即{@link #forMethod(Method)}所使用的缓存。
+     */
+    private static final Scope GLOBAL_SCOPE = new Scope(null, new MethodReturnWrapperCache(MethodReturnWrapperCache.DEFAULT_MAX_SIZE));
+
+    /**
+     * 按{@link ResultCodeResolver}实例缓存的作用域，挂在解释器的类型上，因此不会阻止解释器所在的类加载器被卸载。
+     */
+    private static final ClassValue<ConcurrentHashMap<ResolverKey, Scope>> SCOPES = new ClassValue<ConcurrentHashMap<ResolverKey, Scope>>()
+    {
+        @Override
+        protected ConcurrentHashMap<ResolverKey, Scope> computeValue(final Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final LongAdder RESULT_CODE_CACHE_HITS = new LongAdder();
 
-    private MethodReturnWrapper() { /* Empty */ }
+    private static final LongAdder RESULT_CODE_CACHE_MISSES = new LongAdder();
+
+    MethodReturnWrapper() { /* Empty */ }
+
+    /**
+     * 获取{@link #forMethod(Method)}所使用的包装器缓存的统计信息。
+     * <p>
+     * 缓存的条目数不超过系统属性{@code results.wrapper.cache.maxSize}（默认为{@code 4096}），超出后新创建的包装器不再被缓存；
+     * 方法的声明类被卸载后，其对应的条目也会被移除。
+     *
+     * @return 统计信息的快照。
+     *
+     * @see Scope#cacheStats()
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static CacheStats cacheStats()
+    {
+        return GLOBAL_SCOPE.cacheStats();
+    }
+
+    /**
+     * 获取所有泛型结果包装器中结果码缓存的统计信息，每次未命中都意味着一次对{@link ResultCodeResolver}的调用。
+     *
+     * @return 统计信息的快照。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static CacheStats resultCodeCacheStats()
+    {
+        return new CacheStats(RESULT_CODE_CACHE_HITS.sum(), RESULT_CODE_CACHE_MISSES.sum());
+    }
 
     /**
      * 根据{@code method}从缓存中获取创建{@link MethodReturnWrapper 包装器}实例。
      * <p>
      * 使用此方式创建的包装器在处理带有自定义返回码类型的方法时必须配置{@link Extensions#RESULT_CODE_RESOLVER}，具体设置方法见{@link Extensions}。
      * <p>
-     * 如需要对某个方法设置专用的结果码解释器，请使用{@link #create(Method, ResultCodeResolver)}生成一个不会被缓存的临时实例；
-     * 如需要同时控制缓存，请使用{@link #create(Method, ResultCodeResolver, boolean)}。
+     * 如需要对某个方法设置专用的结果码解释器，请使用{@link #scope(ResultCodeResolver)}获取该解释器的作用域，其中创建的包装器同样会被缓存。
+     * <p>
+     * 缓存的条目数有上限，超出上限时将返回新创建的实例，缓存情况可通过{@link #cacheStats()}查看。
      *
      * @param method 需要包装的方法。
      *
      * @return 已缓存的包装器实例。
      *
-     * @see #create(Method, ResultCodeResolver)
-     * @see #create(Method, ResultCodeResolver, boolean)
+     * @see #scope(ResultCodeResolver)
      */
     public static MethodReturnWrapper forMethod(final Method method)
     {
-        return RETURN_WRAPPER_CACHE.computeIfAbsent(method, x -> createProcessor(x, null));
+        return GLOBAL_SCOPE.forMethod(method);
+    }
+
+    /**
+     * 获取使用指定{@code resultCodeResolver}的{@link Scope 作用域}，作用域中的包装器按方法缓存，与全局缓存及其它作用域互不影响。
+     * <p>
+     * 相同的{@code resultCodeResolver}实例（按引用判断）总是返回同一个作用域，因此可以在每次调用时获取；
+     * 但同一解释器类型的作用域数量有上限，超出后将返回不带缓存的作用域（每次调用{@link Scope#forMethod(Method)}都重新创建包装器），
+     * 故如果解释器实例是动态创建的，应自行持有返回的作用域。
+     *
+     * @param resultCodeResolver 结果码解释器，为{@code null}时返回使用全局解释器的作用域（即{@link #forMethod(Method)}所使用的作用域）。
+     *
+     * @return 作用域。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static Scope scope(@Nullable final ResultCodeResolver resultCodeResolver)
+    {
+        if (resultCodeResolver == null)
+        {
+            return GLOBAL_SCOPE;
+        }
+
+        final ConcurrentHashMap<ResolverKey, Scope> scopes = SCOPES.get(resultCodeResolver.getClass());
+        final ResolverKey key = new ResolverKey(resultCodeResolver);
+        final Scope scope = scopes.get(key);
+        if (scope != null)
+        {
+            return scope;
+        }
+        if (scopes.size() >= MAX_SCOPES_PER_RESOLVER_TYPE)
+        {
+            return new Scope(resultCodeResolver, null);
+        }
+        return scopes.computeIfAbsent(key, x -> new Scope(resultCodeResolver, new MethodReturnWrapperCache(MethodReturnWrapperCache.DEFAULT_MAX_SIZE)));
     }
 
     /**
      * 根据{@code method}及指定的{@code resultCodeResolver}创建{@link MethodReturnWrapper 包装器}。
      * <p>
-     * 使用此方式创建的包装器将不会被缓存。
-     * 如需缓存，请使用{@link #create(Method, ResultCodeResolver, boolean)}。
+     * 使用此方式创建的包装器将不会被缓存，每次调用都会重新解析方法的声明。
+     * 如需缓存，请使用{@link #scope(ResultCodeResolver)}。
      *
      * @param method             需要包装的方法。
      * @param resultCodeResolver 结果码解释器。
      *
      * @return 新创建的包装器实例。
      *
-     * @see #create(Method, ResultCodeResolver, boolean)
+     * @see #scope(ResultCodeResolver)
      */
     public static MethodReturnWrapper create(final Method method, @Nullable final ResultCodeResolver resultCodeResolver)
     {
-        return create(method, resultCodeResolver, false);
+        return createProcessor(method, resultCodeResolver);
     }
 
     /**
@@ -77,41 +171,133 @@ public abstract class MethodReturnWrapper
      * @param overrideCache      是否写入缓存。
      *
      * @return 新创建的包装器实例。
+     *
+     * @deprecated 写入缓存会覆盖全局缓存中的实例，使其它使用{@link #forMethod(Method)}的调用方也使用{@code resultCodeResolver}，
+     * 请使用{@link #scope(ResultCodeResolver)}获取独立缓存的作用域。
      */
+    @Deprecated
     public static MethodReturnWrapper create(final Method method, @Nullable final ResultCodeResolver resultCodeResolver, final boolean overrideCache)
     {
         final MethodReturnWrapper wrapper = createProcessor(method, resultCodeResolver);
         if (overrideCache)
         {
-            RETURN_WRAPPER_CACHE.put(method, wrapper);
+            GLOBAL_SCOPE.cache.put(method, wrapper);
         }
         return wrapper;
     }
 
     private static MethodReturnWrapper createProcessor(final Method method, @Nullable final ResultCodeResolver resultCodeResolver)
     {
-        final Class<?> returnType = method.getReturnType();
-        if (returnType != Object.class && !com.github.jasonnming.results.result.basic.CommonResult.class.isAssignableFrom(returnType))
+        final Class<?> methodReturnType = method.getReturnType();
+        if (methodReturnType == CompletionStage.class || methodReturnType == CompletableFuture.class)
+        {
+            final ResolvableType elementType = ResolvableType.forMethodReturnType(method).as(CompletionStage.class).getGeneric(0);
+            final Class<?> elementClass = elementType.resolve(Object.class);
+            if (CompletionStage.class.isAssignableFrom(elementClass))
+            {
+                throw new IllegalArgumentException("Nested CompletionStage is not supported");
+            }
+            return new CompletionStageWrapper(createProcessor(method, elementClass, elementType, resultCodeResolver));
+        }
+        if (Extensions.REACTOR_PRESENT && ReactiveResults.isReactiveType(methodReturnType))
         {
-            throw new IllegalArgumentException("Method return type must be Object or descendant of CommonResult");
+            return ReactiveResults.createWrapper(method, resultCodeResolver);
         }
+        return createProcessor(method, methodReturnType, null, resultCodeResolver);
+    }
 
-        final Class<?> methodReturnType = method.getReturnType();
+    /**
+     * 根据结果类型创建包装器。
+     *
+     * @param method             需要包装的方法。
+     * @param methodReturnType   结果类型。
+     * @param resolvableType     结果类型的泛型声明，为{@code null}时表示直接使用{@code method}的返回值声明（仅在需要时才解析，以免被缓存）。
+     * @param resultCodeResolver 结果码解释器。
+     */
+    static MethodReturnWrapper createProcessor(final Method method, final Class<?> methodReturnType, @Nullable final ResolvableType resolvableType,
+            @Nullable final ResultCodeResolver resultCodeResolver)
+    {
+        if (methodReturnType != Object.class && !com.github.jasonnming.results.result.basic.CommonResult.class.isAssignableFrom(methodReturnType))
+        {
+            throw new IllegalArgumentException("Method return type must be Object or descendant of CommonResult, or CompletionStage/CompletableFuture of them");
+        }
+
+        final MethodReturnWrapper wrapper;
         if (CommonResult.class.isAssignableFrom(methodReturnType))
         {
-            // TODO: Potential bug: when the processor is cached, the resolver will also be cached.
-            return new GenericResultWrapper(method, resultCodeResolver != null ? resultCodeResolver : Extensions.RESULT_CODE_RESOLVER);
+            wrapper = new GenericResultWrapper(method, resolvableType != null ? resolvableType : ResolvableType.forMethodReturnType(method),
+                    resultCodeResolver != null ? resultCodeResolver : Extensions.RESULT_CODE_RESOLVER);
         } else if (com.github.jasonnming.results.result.basic.CommonResult.class.isAssignableFrom(methodReturnType))
         {
-            return new BasicResultWrapper(methodReturnType);
+            return forResultType(methodReturnType);
         } else
         {
+            // The concrete result type of Object-returning methods can only be determined by the returned data.
             return new ObjectWrapper();
         }
+
+        return Extensions.GENERATED_WRAPPER_ENABLED ? generate(wrapper, methodReturnType) : wrapper;
+    }
+
+    /**
+     * 创建包装为{@code resultType}的包装器，结果码使用{@link ResultCodes}解释。
+     *
+     * @param resultType {@link com.github.jasonnming.results.result.basic}下的结果类型。
+     */
+    static MethodReturnWrapper forResultType(final Class<?> resultType)
+    {
+        final MethodReturnWrapper wrapper = new BasicResultWrapper(resultType);
+        return Extensions.GENERATED_WRAPPER_ENABLED ? generate(wrapper, resultType) : wrapper;
+    }
+
+    /**
+     * 为{@code wrapper}生成直接绑定结果构造器的包装器，如{@code resultType}不受支持或已通过{@link Results#registerFactory(Class, DataResultFactory)}注册了工厂，
+     * 则直接返回{@code wrapper}。
+     * <p>
+     * 生成的包装器包装时不再检查工厂的注册，此后注册的工厂由{@link #refresh()}重建包装器后生效。
+     */
+    static MethodReturnWrapper generate(final MethodReturnWrapper wrapper, final Class<?> resultType)
+    {
+        // Read before the check, a factory registered in between makes the wrapper stale.
+        final int factoryEpoch = Results.factoryEpoch();
+        if (Results.isFactoryRegistered(resultType))
+        {
+            return wrapper;
+        }
+        final DataResultFactory<?> resultFactory = ResultFactoryGenerator.generate(resultType);
+        return resultFactory != null ? new GeneratedResultWrapper(wrapper, resultType, resultFactory, factoryEpoch) : wrapper;
+    }
+
+    /**
+     * 生成模式下，如生成此包装器后又通过{@link Results#registerFactory(Class, DataResultFactory)}注册了工厂，则返回重建的包装器，否则返回自身。
+     * <p>
+     * 由{@link MethodReturnWrapperCache}在命中时调用，缓存之外持有的包装器仍使用生成时的工厂。
+     */
+    MethodReturnWrapper refresh()
+    {
+        return this;
     }
 
     abstract ResultCode resolveResultCode(String code);
 
+    /**
+     * 将已有的结果码对象转换为此包装器的结果码，{@code resultCode}可直接使用时不再重新解释。
+     */
+    ResultCode adaptResultCode(final ResultCode resultCode)
+    {
+        return this.resolveResultCode(resultCode.getCode());
+    }
+
+    ResultCode resolveSuccessCode()
+    {
+        return this.resolveResultCode(ResultCodes.SUCCESS.getCode());
+    }
+
+    ResultCode resolveSystemErrorCode()
+    {
+        return this.resolveResultCode(ResultCodes.SYSTEM_ERROR.getCode());
+    }
+
     abstract com.github.jasonnming.results.result.basic.CommonResult resolveResult(ResultCode resultCode, Object data);
 
     abstract com.github.jasonnming.results.result.basic.CommonResult resolveException(ResultCode resultCode, String message, String debugMessage);
@@ -142,6 +328,8 @@ public abstract class MethodReturnWrapper
      * @param exception   方法抛出的异常，为{@code null}时表示无异常。
      *
      * @return 包装过的数据/异常。
+     *
+     * @throws IllegalStateException 如果方法的返回值声明为异步类型（如{@link CompletionStage}），则抛出此异常，此时应使用{@link #wrapDeclaredReturn(Object, Throwable)}。
      */
     @NotNull
     public com.github.jasonnming.results.result.basic.CommonResult wrapReturn(final Object returnValue, @Nullable final Throwable exception)
@@ -158,17 +346,23 @@ public abstract class MethodReturnWrapper
             if (exception instanceof BusinessException)
             {
                 final BusinessException businessException = (BusinessException)exception;
+                if (businessException.isCached() && businessException.getResultCode() != null)
+                {
+                    // The shared exceptions carry their result code object, adapt it instead of resolving the code string again.
+                    final ResultCode resultCode = this.adaptResultCode(businessException.getResultCode());
+                    return this.resolveException(resultCode, businessException.getAlertMessage(), businessException.getDebugMessage());
+                }
                 final ResultCode resultCode = this.resolveResultCode(businessException.getCode());
                 return this.resolveException(resultCode, businessException.getAlertMessage(), businessException.getDebugMessage());
             } else
             {
-                final ResultCode resultCode = this.resolveResultCode(ResultCodes.SYSTEM_ERROR.getCode());
+                final ResultCode resultCode = this.resolveSystemErrorCode();
                 return this.resolveException(resultCode, null, exception.toString());
             }
         }
 
         // 3. When success, set result code to SUCCESS and wrap the return value into corresponding wrapper.
-        final ResultCode resultCode = this.resolveResultCode(ResultCodes.SUCCESS.getCode());
+        final ResultCode resultCode = this.resolveSuccessCode();
 
         // NOTE: The type of return value should only determine by the static declaration of method's return type.
         return this.resolveResult(resultCode, returnValue);
@@ -201,6 +395,54 @@ public abstract class MethodReturnWrapper
         return this.wrapReturn(value, exception);
     }
 
+    /**
+     * 包装方法的返回数据/异常，并以与方法声明一致的类型返回。
+     * <p>
+     * 对于同步的方法，与{@link #wrapReturn(Object, Throwable)}一致；
+     * 对于返回值声明为{@link CompletionStage}或{@link CompletableFuture}的方法，返回在原{@code returnValue}完成时完成的{@link CompletionStage}，
+     * 其结果按{@link #wrapReturn(Object, Throwable)}的规则包装（异常完成时同样按异常的规则包装），整个过程不会阻塞线程。
+     *
+     * @param returnValue 方法返回的数据。
+     * @param exception   方法抛出的异常，为{@code null}时表示无异常。
+     *
+     * @return 包装过的数据/异常，与方法声明的类型一致。
+     *
+     * @see #wrapReturn(Object, Throwable)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public Object wrapDeclaredReturn(final Object returnValue, @Nullable final Throwable exception)
+    {
+        return this.wrapReturn(returnValue, exception);
+    }
+
+    /**
+     * 包装一个执行过程，其中执行返回值和抛出的异常（仅限{@link Exception}及其子类）会被转换为与方法声明一致的类型。
+     * 返回的具体类型请参阅{@link #wrapDeclaredReturn(Object, Throwable)}。
+     *
+     * @param invocation 会抛出异常的执行内容。
+     * @param <X>        {@code invocation}声明的抛出异常的类型。
+     *
+     * @return 包装过的数据/异常，与方法声明的类型一致。
+     *
+     * @throws X {@code invocation}执行过程中抛出的非{@link Exception}类型的异常。
+     * @see #wrapDeclaredReturn(Object, Throwable)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public <X extends Throwable> Object wrapDeclaredInvocation(final FuncX<?, X> invocation) throws X
+    {
+        Object value = null;
+        Exception exception = null;
+        try
+        {
+            value = invocation.invokeX();
+        } catch (final Exception e) // Let the exceptions not derived class from Exception throw directly.
+        {
+            exception = e;
+        }
+
+        return this.wrapDeclaredReturn(value, exception);
+    }
+
     private static class ObjectWrapper extends MethodReturnWrapper
     {
         @Override
@@ -209,6 +451,13 @@ public abstract class MethodReturnWrapper
             return ResultCodes.of(code);
         }
 
+        @Override
+        ResultCode adaptResultCode(final ResultCode resultCode)
+        {
+            // Basic results accept any result code.
+            return resultCode;
+        }
+
         @Override
         public com.github.jasonnming.results.result.basic.CommonResult resolveResult(final ResultCode resultCode, final Object data)
         {
@@ -246,22 +495,218 @@ public abstract class MethodReturnWrapper
         }
     }
 
+    /**
+     * 生成模式下的包装器，结果码的解释及异常结果的创建委托给原有的包装器，带有数据的结果对象由生成的{@link DataResultFactory}直接创建。
+     */
+    private static final class GeneratedResultWrapper extends MethodReturnWrapper
+    {
+        private final MethodReturnWrapper resultCodeWrapper;
+
+        private final Class<?> resultType;
+
+        private final DataResultFactory<?> resultFactory;
+
+        /**
+         * 生成时的{@link Results#factoryEpoch()}。
+         */
+        private final int factoryEpoch;
+
+        private GeneratedResultWrapper(final MethodReturnWrapper resultCodeWrapper, final Class<?> resultType, final DataResultFactory<?> resultFactory, final int factoryEpoch)
+        {
+            this.resultCodeWrapper = resultCodeWrapper;
+            this.resultType = resultType;
+            this.resultFactory = resultFactory;
+            this.factoryEpoch = factoryEpoch;
+        }
+
+        @Override
+        MethodReturnWrapper refresh()
+        {
+            // A factory registered after generation overrides the generated one.
+            return this.factoryEpoch == Results.factoryEpoch() ? this : generate(this.resultCodeWrapper, this.resultType);
+        }
+
+        @Override
+        ResultCode resolveResultCode(final String code)
+        {
+            return this.resultCodeWrapper.resolveResultCode(code);
+        }
+
+        @Override
+        ResultCode adaptResultCode(final ResultCode resultCode)
+        {
+            return this.resultCodeWrapper.adaptResultCode(resultCode);
+        }
+
+        @Override
+        ResultCode resolveSuccessCode()
+        {
+            return this.resultCodeWrapper.resolveSuccessCode();
+        }
+
+        @Override
+        ResultCode resolveSystemErrorCode()
+        {
+            return this.resultCodeWrapper.resolveSystemErrorCode();
+        }
+
+        @Override
+        com.github.jasonnming.results.result.basic.CommonResult resolveResult(final ResultCode resultCode, final Object data)
+        {
+            return this.resultFactory.create(resultCode, null, null, data);
+        }
+
+        @Override
+        com.github.jasonnming.results.result.basic.CommonResult resolveException(final ResultCode resultCode, final String message, final String debugMessage)
+        {
+            // Results without data might be shared, let the original wrapper create them.
+            return this.resultCodeWrapper.resolveException(resultCode, message, debugMessage);
+        }
+    }
+
+    /**
+     * 将结果码及结果的创建委托给元素类型的包装器的包装器，用于返回值声明为异步类型的方法。
+     */
+    abstract static class DelegatingWrapper extends MethodReturnWrapper
+    {
+        final MethodReturnWrapper elementWrapper;
+
+        DelegatingWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            this.elementWrapper = elementWrapper;
+        }
+
+        /**
+         * 创建委托给{@code elementWrapper}的同类包装器。
+         */
+        abstract DelegatingWrapper withElementWrapper(MethodReturnWrapper elementWrapper);
+
+        @Override
+        MethodReturnWrapper refresh()
+        {
+            final MethodReturnWrapper elementWrapper = this.elementWrapper.refresh();
+            return elementWrapper == this.elementWrapper ? this : this.withElementWrapper(elementWrapper);
+        }
+
+        /**
+         * 异步类型的返回值不能包装为结果对象，只能通过{@link #wrapDeclaredReturn(Object, Throwable)}包装。
+         */
+        @NotNull
+        @Override
+        public com.github.jasonnming.results.result.basic.CommonResult wrapReturn(final Object returnValue, @Nullable final Throwable exception)
+        {
+            throw new IllegalStateException("The method returns an asynchronous type, use wrapDeclaredReturn(...) or wrapDeclaredInvocation(...) instead.");
+        }
+
+        @Override
+        ResultCode resolveResultCode(final String code)
+        {
+            return this.elementWrapper.resolveResultCode(code);
+        }
+
+        @Override
+        ResultCode adaptResultCode(final ResultCode resultCode)
+        {
+            return this.elementWrapper.adaptResultCode(resultCode);
+        }
+
+        @Override
+        ResultCode resolveSuccessCode()
+        {
+            return this.elementWrapper.resolveSuccessCode();
+        }
+
+        @Override
+        ResultCode resolveSystemErrorCode()
+        {
+            return this.elementWrapper.resolveSystemErrorCode();
+        }
+
+        @Override
+        com.github.jasonnming.results.result.basic.CommonResult resolveResult(final ResultCode resultCode, final Object data)
+        {
+            return this.elementWrapper.resolveResult(resultCode, data);
+        }
+
+        @Override
+        com.github.jasonnming.results.result.basic.CommonResult resolveException(final ResultCode resultCode, final String message, final String debugMessage)
+        {
+            return this.elementWrapper.resolveException(resultCode, message, debugMessage);
+        }
+    }
+
+    /**
+     * 返回值声明为{@link CompletionStage}或{@link CompletableFuture}的方法的包装器，{@link CompletionStage}的结果由元素类型的包装器包装。
+     */
+    private static final class CompletionStageWrapper extends DelegatingWrapper
+    {
+        private CompletionStageWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            super(elementWrapper);
+        }
+
+        @Override
+        DelegatingWrapper withElementWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            return new CompletionStageWrapper(elementWrapper);
+        }
+
+        @Override
+        public Object wrapDeclaredReturn(final Object returnValue, @Nullable final Throwable exception)
+        {
+            // The method threw before returning a stage, or returned null.
+            if (exception != null || returnValue == null)
+            {
+                return CompletableFuture.completedFuture(this.elementWrapper.wrapReturn(null, exception));
+            }
+
+            // NOTE: `handle` of CompletableFuture returns CompletableFuture, so the declared type is preserved.
+            return ((CompletionStage<?>)returnValue).handle((value, e) -> this.elementWrapper.wrapReturn(value, unwrap(e)));
+        }
+
+        @Nullable
+        private static Throwable unwrap(@Nullable final Throwable exception)
+        {
+            // Dependent stages complete with the original exception wrapped in CompletionException.
+            return exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+        }
+    }
+
+    /**
+     * 泛型结果的包装器，结果码通过{@link ResultCodeResolver}解释。
+     * <p>
+     * 解释过的结果码会按结果码字符串缓存在包装器中（假定同一{@link ResultCodeResolver}对相同的输入总是返回相同的结果），
+     * 其中{@link ResultCodes#SUCCESS}及{@link ResultCodes#SYSTEM_ERROR}在创建包装器时即预先解释，因此成功返回时不会调用{@link ResultCodeResolver}。
+     */
     private static class GenericResultWrapper extends BasicResultWrapper
     {
+        /**
+         * 每个包装器缓存的结果码数量上限，超出后新的结果码不再缓存，以免来自异常的任意结果码无限增长。
+         */
+        private static final int MAX_CACHED_RESULT_CODES = 64;
+
         private final Class<?> resultCodeType;
 
         private final ResultCodeResolver resultCodeResolver;
 
-        private GenericResultWrapper(final Method method, final ResultCodeResolver resultCodeResolver)
+        private final ConcurrentHashMap<String, ResultCode> resultCodeCache = new ConcurrentHashMap<>();
+
+        @Nullable
+        private final ResultCode successCode;
+
+        @Nullable
+        private final ResultCode systemErrorCode;
+
+        private GenericResultWrapper(final Method method, final ResolvableType resultType, final ResultCodeResolver resultCodeResolver)
         {
-            super(method.getReturnType());
+            super(resultType.resolve());
 
             if (resultCodeResolver == null)
             {
                 throw new IllegalArgumentException(
                         "To use generic version of common-results, resultCodeResolver must be specified. Otherwise, a string literal code will not be able to convert to a strong-typed result code.");
             }
-            final Class<?> resultCodeType = ResolvableType.forMethodReturnType(method).resolveGeneric(0);
+            final Class<?> resultCodeType = resultType.resolveGeneric(0);
             if (resultCodeType == null)
             {
                 throw new IllegalArgumentException("Cannot resolve resultCodeType from method ["
@@ -271,12 +716,164 @@ public abstract class MethodReturnWrapper
 
             this.resultCodeType = resultCodeType;
             this.resultCodeResolver = resultCodeResolver;
+            this.successCode = this.resolveEagerly(ResultCodes.SUCCESS.getCode());
+            this.systemErrorCode = this.resolveEagerly(ResultCodes.SYSTEM_ERROR.getCode());
+        }
+
+        /**
+         * 预先解释结果码，解释失败时返回{@code null}，留待实际使用时再解释（并抛出异常）。
+         */
+        @Nullable
+        private ResultCode resolveEagerly(final String code)
+        {
+            try
+            {
+                final ResultCode resultCode = this.resultCodeResolver.resolve(this.resultCodeType, code);
+                if (resultCode != null)
+                {
+                    this.resultCodeCache.put(code, resultCode);
+                }
+                return resultCode;
+            } catch (final Exception e)
+            {
+                return null;
+            }
         }
 
         @Override
         public ResultCode resolveResultCode(final String code)
         {
-            return Functions.propagate(() -> this.resultCodeResolver.resolve(this.resultCodeType, code));
+            if (code != null)
+            {
+                final ResultCode cached = this.resultCodeCache.get(code);
+                if (cached != null)
+                {
+                    RESULT_CODE_CACHE_HITS.increment();
+                    return cached;
+                }
+            }
+
+            RESULT_CODE_CACHE_MISSES.increment();
+            final ResultCode resultCode = Functions.propagate(() -> this.resultCodeResolver.resolve(this.resultCodeType, code));
+            if (code != null && resultCode != null && this.resultCodeCache.size() < MAX_CACHED_RESULT_CODES)
+            {
+                this.resultCodeCache.putIfAbsent(code, resultCode);
+            }
+            return resultCode;
+        }
+
+        @Override
+        ResultCode adaptResultCode(final ResultCode resultCode)
+        {
+            return this.resultCodeType.isInstance(resultCode) ? resultCode : this.resolveResultCode(resultCode.getCode());
+        }
+
+        @Override
+        ResultCode resolveSuccessCode()
+        {
+            if (this.successCode != null)
+            {
+                RESULT_CODE_CACHE_HITS.increment();
+                return this.successCode;
+            }
+            return super.resolveSuccessCode();
+        }
+
+        @Override
+        ResultCode resolveSystemErrorCode()
+        {
+            if (this.systemErrorCode != null)
+            {
+                RESULT_CODE_CACHE_HITS.increment();
+                return this.systemErrorCode;
+            }
+            return super.resolveSystemErrorCode();
+        }
+    }
+
+    /**
+     * 包装器的作用域，作用域中的包装器使用同一{@link ResultCodeResolver}，并按方法缓存。
+     *
+     * @see #scope(ResultCodeResolver)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static final class Scope
+    {
+        @Nullable
+        private final ResultCodeResolver resultCodeResolver;
+
+        /**
+         * 包装器缓存，为{@code null}时表示此作用域不缓存包装器。
+         */
+        @Nullable
+        private final MethodReturnWrapperCache cache;
+
+        private Scope(@Nullable final ResultCodeResolver resultCodeResolver, @Nullable final MethodReturnWrapperCache cache)
+        {
+            this.resultCodeResolver = resultCodeResolver;
+            this.cache = cache;
+        }
+
+        /**
+         * 根据{@code method}从此作用域的缓存中获取或创建{@link MethodReturnWrapper 包装器}实例。
+         *
+         * @param method 需要包装的方法。
+         *
+         * @return 已缓存的包装器实例，作用域不带缓存时为新创建的实例。
+         */
+        public MethodReturnWrapper forMethod(final Method method)
+        {
+            if (this.cache == null)
+            {
+                return createProcessor(method, this.resultCodeResolver);
+            }
+            return this.cache.get(method, x -> createProcessor(x, this.resultCodeResolver));
+        }
+
+        /**
+         * @return 此作用域使用的结果码解释器，为{@code null}时表示使用全局解释器。
+         */
+        @Nullable
+        public ResultCodeResolver getResultCodeResolver()
+        {
+            return this.resultCodeResolver;
+        }
+
+        /**
+         * @return 此作用域中包装器缓存的统计信息，作用域不带缓存时各项均为{@code 0}。
+         */
+        public CacheStats cacheStats()
+        {
+            if (this.cache == null)
+            {
+                return new CacheStats(0, 0, 0, 0);
+            }
+            return this.cache.stats();
+        }
+    }
+
+    /**
+     * 按引用比较{@link ResultCodeResolver}的键，解释器可能自行实现了{@link Object#equals(Object)}，但作用域只应由同一实例共享。
+     */
+    private static final class ResolverKey
+    {
+        private final ResultCodeResolver resultCodeResolver;
+
+        private ResolverKey(final ResultCodeResolver resultCodeResolver)
+        {
+            this.resultCodeResolver = resultCodeResolver;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            return o instanceof ResolverKey && ((ResolverKey)o).resultCodeResolver == this.resultCodeResolver;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(this.resultCodeResolver);
         }
     }
 }
@@ -0,0 +1,252 @@
+package com.github.jasonnming.results.result.support;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * {@link MethodReturnWrapper}的缓存。
+ * <p>
+ * 缓存按方法的声明类分段，每个分段通过{@link ClassValue}挂在声明类上，因此不会阻止类（及其类加载器）被卸载，
+ * 类被卸载后其条目随之回收，并通过{@link ReferenceQueue}从总数中扣除。
+ * 命中时只访问{@link ClassValue}及{@link ConcurrentHashMap}，不需要加锁；未命中时在锁内写入。
+ * <p>
+ * 缓存的条目总数不超过{@link #maxSize}，超出后按时钟（二次机会）策略淘汰：所有条目的弱引用排成一个环，
+ * 命中时设置条目的访问标记，写入新条目时指针沿环移动，清除遇到的访问标记，并淘汰第一个未被标记的条目。
+ * 因此频繁访问的方法会一直留在缓存中，只有冷门的方法被反复淘汰。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class MethodReturnWrapperCache
+{
+    /**
+     * 缓存条目数量上限的系统属性名。
+     */
+    static final String MAX_SIZE_PROPERTY = "results.wrapper.cache.maxSize";
+
+    /**
+     * 缓存条目数量的默认上限，通过系统属性{@value #MAX_SIZE_PROPERTY}设置，默认为{@code 4096}。
+     */
+    static final int DEFAULT_MAX_SIZE = Integer.getInteger(MAX_SIZE_PROPERTY, 4096);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final ReferenceQueue<Entry> unloadedEntries = new ReferenceQueue<>();
+
+    private final ClassValue<Segment> segments = new ClassValue<Segment>()
+    {
+        @Override
+        protected Segment computeValue(final Class<?> type)
+        {
+            return new Segment();
+        }
+    };
+
+    /**
+     * 时钟环，只持有条目的弱引用，以下字段均由{@code this.clock}保护。
+     */
+    private final EntryReference[] clock;
+
+    private int hand;
+
+    private int size;
+
+    private long evictions;
+
+    MethodReturnWrapperCache(final int maxSize)
+    {
+        this.clock = new EntryReference[Math.max(maxSize, 0)];
+    }
+
+    /**
+     * 获取{@code method}对应的包装器，不存在时通过{@code factory}创建并缓存，缓存已满时淘汰一个最近未被访问的条目。
+     */
+    MethodReturnWrapper get(final Method method, final Function<Method, MethodReturnWrapper> factory)
+    {
+        final Segment segment = this.segments.get(method.getDeclaringClass());
+        final Entry cached = segment.entries.get(method);
+        if (cached != null)
+        {
+            this.hits.increment();
+            cached.touch();
+            return Extensions.GENERATED_WRAPPER_ENABLED ? refresh(cached) : cached.wrapper;
+        }
+
+        this.misses.increment();
+        return this.insert(segment, method, factory.apply(method), false);
+    }
+
+    /**
+     * 生成模式下，以{@link MethodReturnWrapper#refresh()}替换注册了结果工厂后已过期的包装器，使包装时无需再检查工厂的注册。
+     */
+    private static MethodReturnWrapper refresh(final Entry cached)
+    {
+        final MethodReturnWrapper wrapper = cached.wrapper;
+        final MethodReturnWrapper refreshed = wrapper.refresh();
+        if (refreshed != wrapper)
+        {
+            // Concurrent refreshes build equivalent wrappers, any of them may win.
+            cached.wrapper = refreshed;
+        }
+        return refreshed;
+    }
+
+    /**
+     * 写入（或覆盖）{@code method}对应的包装器，缓存已满时淘汰一个最近未被访问的条目。
+     */
+    void put(final Method method, final MethodReturnWrapper wrapper)
+    {
+        this.insert(this.segments.get(method.getDeclaringClass()), method, wrapper, true);
+    }
+
+    CacheStats stats()
+    {
+        synchronized (this.clock)
+        {
+            this.expungeUnloadedEntries();
+            return new CacheStats(this.hits.sum(), this.misses.sum(), this.size, this.evictions);
+        }
+    }
+
+    private MethodReturnWrapper insert(final Segment segment, final Method method, final MethodReturnWrapper wrapper, final boolean overwrite)
+    {
+        synchronized (this.clock)
+        {
+            this.expungeUnloadedEntries();
+
+            final Entry existing = segment.entries.get(method);
+            if (existing != null)
+            {
+                if (!overwrite)
+                {
+                    return existing.wrapper;
+                }
+                existing.wrapper = wrapper;
+                return wrapper;
+            }
+            if (this.clock.length == 0)
+            {
+                return wrapper;
+            }
+
+            final int slot = this.acquireSlot();
+            final Entry entry = new Entry(segment, method, wrapper);
+            segment.entries.put(method, entry);
+            this.clock[slot] = new EntryReference(entry, slot, this.unloadedEntries);
+            this.size++;
+            return wrapper;
+        }
+    }
+
+    /**
+     * 沿时钟环寻找可写入的位置，缓存已满时淘汰指针遇到的第一个未被标记的条目。
+     */
+    private int acquireSlot()
+    {
+        final boolean full = this.size >= this.clock.length;
+        while (true)
+        {
+            final int slot = this.hand;
+            this.hand = slot + 1 == this.clock.length ? 0 : slot + 1;
+
+            final EntryReference reference = this.clock[slot];
+            if (reference == null)
+            {
+                return slot;
+            }
+            if (!full)
+            {
+                continue;
+            }
+
+            final Entry entry = reference.get();
+            if (entry != null)
+            {
+                if (entry.referenced)
+                {
+                    entry.referenced = false;
+                    continue;
+                }
+                entry.segment.entries.remove(entry.method, entry);
+            }
+            // The entry of an unloaded class that is not enqueued yet is evicted here as well.
+            reference.clear();
+            this.clock[slot] = null;
+            this.size--;
+            this.evictions++;
+            return slot;
+        }
+    }
+
+    private void expungeUnloadedEntries()
+    {
+        Reference<? extends Entry> reference;
+        while ((reference = this.unloadedEntries.poll()) != null)
+        {
+            final EntryReference entryReference = (EntryReference)reference;
+            if (this.clock[entryReference.slot] == entryReference)
+            {
+                this.clock[entryReference.slot] = null;
+                this.size--;
+                this.evictions++;
+            }
+        }
+    }
+
+    /**
+     * 单个声明类中方法的包装器，注意不能引用{@link MethodReturnWrapperCache}，否则声明类将无法卸载。
+     */
+    private static final class Segment
+    {
+        final ConcurrentHashMap<Method, Entry> entries = new ConcurrentHashMap<>();
+    }
+
+    private static final class Entry
+    {
+        final Segment segment;
+
+        final Method method;
+
+        volatile MethodReturnWrapper wrapper;
+
+        /**
+         * 访问标记，命中时设置，被时钟指针经过时清除。
+         */
+        volatile boolean referenced;
+
+        Entry(final Segment segment, final Method method, final MethodReturnWrapper wrapper)
+        {
+            this.segment = segment;
+            this.method = method;
+            this.wrapper = wrapper;
+        }
+
+        void touch()
+        {
+            // Avoid writing the shared cache line on every hit.
+            if (!this.referenced)
+            {
+                this.referenced = true;
+            }
+        }
+    }
+
+    private static final class EntryReference extends WeakReference<Entry>
+    {
+        final int slot;
+
+        EntryReference(final Entry entry, final int slot, final ReferenceQueue<Entry> queue)
+        {
+            super(entry, queue);
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.github.jasonnming.results.result.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SingleResult;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactor（{@link Mono}/{@link Flux}）的结果包装工具，需要classpath中存在reactor-core组件。
+ * <p>
+ * 所有方法都只组装操作符，不会订阅或阻塞；异常（包括异常完成）按{@link MethodReturnWrapper#wrapReturn(Object, Throwable)}的规则包装为结果。
+ * <p>
+ * {@link ResultInterceptor}及{@link MethodReturnWrapper#wrapDeclaredReturn(Object, Throwable)}对返回值声明为{@link Mono}或{@link Flux}的方法的处理如下：
+ * <table border="1" cellpadding="5px">
+ * <tr>
+ * <th style="padding-right:5px">返回值声明</th>
+ * <td>包装后</td>
+ * </tr>
+ * <tr>
+ * <td align="right" style="padding-right:5px">{@code Mono<CommonResult+>}</td>
+ * <td>{@code Mono<CommonResult+>}，与元素的声明一致</td>
+ * </tr>
+ * <tr>
+ * <td align="right" style="padding-right:5px">{@code Mono<T>}</td>
+ * <td>{@code Mono<SingleResult<T>>}，为空时数据为{@code null}</td>
+ * </tr>
+ * <tr>
+ * <td align="right" style="padding-right:5px">{@code Flux<CommonResult+>}</td>
+ * <td>{@code Flux<CommonResult+>}，逐个元素包装，异常时以一个异常结果结束</td>
+ * </tr>
+ * <tr>
+ * <td align="right" style="padding-right:5px">{@code Flux<T>}</td>
+ * <td>只包含一个{@code ListResult<T>}的{@code Flux}；设置了系统属性{@code results.reactive.pageSize}时，为按此大小分页的{@code Flux<PagedListResult<T>>}</td>
+ * </tr>
+ * </table>
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+public final class ReactiveResults
+{
+    /**
+     * 分页时标记上游结束的哨兵，仅按引用比较。
+     */
+    private static final List<Object> END_OF_PAGES = new ArrayList<>(0);
+
+    /**
+     * 第一页的页码，与{@link com.github.jasonnming.results.page.Pages}一致。
+     */
+    private static final long FIRST_PAGE = 1L;
+
+    private ReactiveResults() { }
+
+    /**
+     * 将{@code mono}的元素包装为{@link SingleResult}，{@code mono}为空时数据为{@code null}。
+     *
+     * @param mono       数据。
+     * @param <TElement> 数据类型。
+     *
+     * @return 包含一个结果的{@link Mono}。
+     */
+    @SuppressWarnings("unchecked")
+    public static <TElement> Mono<SingleResult<TElement>> singleResult(final Mono<? extends TElement> mono)
+    {
+        return (Mono<SingleResult<TElement>>)(Mono<?>)wrapMono(mono, MethodReturnWrapper.forResultType(SingleResult.class));
+    }
+
+    /**
+     * 将{@code flux}的所有元素收集为一个{@link ListResult}。
+     *
+     * @param flux       数据。
+     * @param <TElement> 数据类型。
+     *
+     * @return 包含一个结果的{@link Mono}。
+     */
+    @SuppressWarnings("unchecked")
+    public static <TElement> Mono<ListResult<TElement>> listResult(final Flux<? extends TElement> flux)
+    {
+        return (Mono<ListResult<TElement>>)(Mono<?>)collect(flux, MethodReturnWrapper.forResultType(ListResult.class));
+    }
+
+    /**
+     * 将{@code flux}的元素按{@code pageSize}分为多个{@link PagedListResult}，页码从{@code 1}开始。
+     * <p>
+     * 分页遵循下游的背压，每页只会请求{@code pageSize}个元素；为确定{@link PagedListResult#hasNextPage()}，每一页都会在下一页开始（或上游结束）时才发出。
+     * 上游为空时发出一个空的第一页；上游异常时，已发出的页之后会以一个不含数据的异常结果结束，尚未发出的页将被丢弃。
+     *
+     * @param flux       数据。
+     * @param pageSize   每页数据量，必须大于{@code 0}。
+     * @param <TElement> 数据类型。
+     *
+     * @return 按顺序发出每一页结果的{@link Flux}。
+     */
+    @SuppressWarnings("unchecked")
+    public static <TElement> Flux<PagedListResult<TElement>> pagedListResults(final Flux<? extends TElement> flux, final int pageSize)
+    {
+        return (Flux<PagedListResult<TElement>>)(Flux<?>)paginate(flux, pageSize, MethodReturnWrapper.forResultType(PagedListResult.class));
+    }
+
+    // region: Integration with MethodReturnWrapper
+
+    static boolean isReactiveType(final Class<?> type)
+    {
+        return type == Mono.class || type == Flux.class;
+    }
+
+    /**
+     * 为返回值声明为{@link Mono}或{@link Flux}的方法创建包装器。
+     */
+    static MethodReturnWrapper createWrapper(final Method method, @Nullable final ResultCodeResolver resultCodeResolver)
+    {
+        final ResolvableType elementType = ResolvableType.forMethodReturnType(method).as(Publisher.class).getGeneric(0);
+        final Class<?> elementClass = elementType.resolve(Object.class);
+        if (Publisher.class.isAssignableFrom(elementClass) || CompletionStage.class.isAssignableFrom(elementClass))
+        {
+            throw new IllegalArgumentException("Nested Publisher/CompletionStage is not supported");
+        }
+
+        final boolean resultElement = CommonResult.class.isAssignableFrom(elementClass);
+        if (method.getReturnType() == Mono.class)
+        {
+            return new MonoWrapper(resultElement
+                    ? MethodReturnWrapper.createProcessor(method, elementClass, elementType, resultCodeResolver)
+                    : MethodReturnWrapper.forResultType(SingleResult.class));
+        }
+
+        if (resultElement)
+        {
+            return new FluxWrapper(MethodReturnWrapper.createProcessor(method, elementClass, elementType, resultCodeResolver), false, 0);
+        }
+        return Extensions.REACTIVE_PAGE_SIZE > 0
+                ? new FluxWrapper(MethodReturnWrapper.forResultType(PagedListResult.class), true, Extensions.REACTIVE_PAGE_SIZE)
+                : new FluxWrapper(MethodReturnWrapper.forResultType(ListResult.class), true, 0);
+    }
+
+    private static Mono<CommonResult> wrapMono(final Mono<?> mono, final MethodReturnWrapper wrapper)
+    {
+        return mono
+                .map(x -> wrapper.wrapReturn(x, null))
+                .switchIfEmpty(Mono.fromSupplier(() -> wrapper.wrapReturn(null, null)))
+                .onErrorResume(e -> Mono.fromSupplier(() -> wrapper.wrapReturn(null, e)));
+    }
+
+    private static Flux<CommonResult> wrapEach(final Flux<?> flux, final MethodReturnWrapper wrapper)
+    {
+        return flux
+                .map(x -> wrapper.wrapReturn(x, null))
+                .onErrorResume(e -> Mono.fromSupplier(() -> wrapper.wrapReturn(null, e)));
+    }
+
+    private static Mono<CommonResult> collect(final Flux<?> flux, final MethodReturnWrapper wrapper)
+    {
+        return flux
+                .collectList()
+                .map(x -> wrapper.wrapReturn(x, null))
+                .onErrorResume(e -> Mono.fromSupplier(() -> wrapper.wrapReturn(null, e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Flux<CommonResult> paginate(final Flux<?> flux, final int pageSize, final MethodReturnWrapper wrapper)
+    {
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("pageSize must be greater than 0.");
+        }
+
+        // Slide over [current, next] to know whether the current page has a next page.
+        return ((Flux<Object>)flux)
+                .buffer(pageSize)
+                .concatWith(Mono.just(END_OF_PAGES))
+                .buffer(2, 1)
+                .index()
+                .filter(x -> x.getT2().get(0) != END_OF_PAGES)
+                .map(x -> newPage(wrapper, FIRST_PAGE + x.getT1(), pageSize, x.getT2().get(0), x.getT2().size() > 1 && x.getT2().get(1) != END_OF_PAGES))
+                .switchIfEmpty(Mono.fromSupplier(() -> newPage(wrapper, FIRST_PAGE, pageSize, Collections.emptyList(), false)))
+                .onErrorResume(e -> Mono.fromSupplier(() -> wrapper.wrapReturn(null, e)));
+    }
+
+    private static CommonResult newPage(final MethodReturnWrapper wrapper, final long page, final long pageSize, final List<Object> data, final boolean hasNextPage)
+    {
+        final ResultCode resultCode = wrapper.resolveSuccessCode();
+        return new DefaultPagedListResult<>(resultCode, null, null, data,
+                DefaultPagedListResult.HAS_PAGE | DefaultPagedListResult.HAS_PAGE_SIZE | DefaultPagedListResult.PREDICTABLE, page, pageSize, hasNextPage, 0, 0);
+    }
+
+    /**
+     * 返回值声明为{@link Mono}的方法的包装器。
+     */
+    private static final class MonoWrapper extends MethodReturnWrapper.DelegatingWrapper
+    {
+        private MonoWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            super(elementWrapper);
+        }
+
+        @Override
+        MethodReturnWrapper.DelegatingWrapper withElementWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            return new MonoWrapper(elementWrapper);
+        }
+
+        @Override
+        public Object wrapDeclaredReturn(final Object returnValue, @Nullable final Throwable exception)
+        {
+            // The method threw before returning a publisher, or returned null.
+            if (exception != null || returnValue == null)
+            {
+                return Mono.just(this.elementWrapper.wrapReturn(null, exception));
+            }
+            return wrapMono((Mono<?>)returnValue, this.elementWrapper);
+        }
+    }
+
+    /**
+     * 返回值声明为{@link Flux}的方法的包装器。
+     */
+    private static final class FluxWrapper extends MethodReturnWrapper.DelegatingWrapper
+    {
+        /**
+         * 是否将元素收集为列表结果，否则逐个元素包装。
+         */
+        private final boolean collecting;
+
+        /**
+         * 收集时的分页大小，为{@code 0}时表示不分页。
+         */
+        private final int pageSize;
+
+        private FluxWrapper(final MethodReturnWrapper elementWrapper, final boolean collecting, final int pageSize)
+        {
+            super(elementWrapper);
+            this.collecting = collecting;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        MethodReturnWrapper.DelegatingWrapper withElementWrapper(final MethodReturnWrapper elementWrapper)
+        {
+            return new FluxWrapper(elementWrapper, this.collecting, this.pageSize);
+        }
+
+        @Override
+        public Object wrapDeclaredReturn(final Object returnValue, @Nullable final Throwable exception)
+        {
+            // The method threw before returning a publisher, or returned null.
+            if (exception != null || returnValue == null)
+            {
+                return this.pageSize > 0 && exception == null
+                        ? paginate(Flux.empty(), this.pageSize, this.elementWrapper)
+                        : Flux.just(this.elementWrapper.wrapReturn(null, exception));
+            }
+
+            final Flux<?> flux = (Flux<?>)returnValue;
+            if (!this.collecting)
+            {
+                return wrapEach(flux, this.elementWrapper);
+            }
+            return this.pageSize > 0
+                    ? paginate(flux, this.pageSize, this.elementWrapper)
+                    : Flux.from(collect(flux, this.elementWrapper));
+        }
+    }
+
+    // endregion: Integration with MethodReturnWrapper
+}
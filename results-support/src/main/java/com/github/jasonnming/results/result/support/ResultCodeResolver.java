@@ -1,7 +1,5 @@
 package com.github.jasonnming.results.result.support;
 
-import java.lang.reflect.Method;
-
 import com.github.jasonnming.results.result.basic.ResultCode;
 
 /**
@@ -9,12 +7,13 @@ import com.github.jasonnming.results.result.basic.ResultCode;
  * 在使用{@link com.github.jasonnming.results.result.generic}下的{@code CommonResult<TResultCode>}（及其子类）时，
  * 如果指定了非{@link DefaultResultCode}类型的结果码类型，则需要实现此类。
  * <p>
- * 如果classpath中存在spring-core组件，在使用时会自动扫描并且加载第一个{@link ResultCodeResolver}的实现类。<br>
- * 如果没有，则会使用JDK的{@link java.util.ServiceLoader}进行加载。<br>
+ * 实现类在编译时会由{@code results-support}自带的注解处理器写入{@code META-INF/services}索引，运行时通过JDK的{@link java.util.ServiceLoader}加载第一个实现类。<br>
+ * 如果索引中没有，且设置了系统属性{@code results.resolver.scan=true}并且classpath中存在spring-core组件，则会扫描整个classpath加载第一个实现类。<br>
  * <p>
- * 另外，可以在使用处{@link MethodReturnWrapper#forMethod(Method, ResultCodeResolver)}指定具体的{@link ResultCodeResolver}来覆盖某次调用中的全局配置。
+ * 另外，可以通过{@link MethodReturnWrapper#scope(ResultCodeResolver)}指定具体的{@link ResultCodeResolver}来覆盖全局配置，
+ * 或在{@link ResultInterceptor#ResultInterceptor(ResultCodeResolver)}中为某个拦截器单独指定。
  *
- * @see MethodReturnWrapper#forMethod(Method, ResultCodeResolver)
+ * @see MethodReturnWrapper#scope(ResultCodeResolver)
  *
  * @author MiNG
  * @version 1.0.0
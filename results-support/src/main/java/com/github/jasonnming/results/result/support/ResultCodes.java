@@ -1,10 +1,9 @@
 package com.github.jasonnming.results.result.support;
 
 import java.util.Arrays;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.jasonnming.results.result.basic.ResultCode;
 
@@ -18,43 +17,93 @@ import com.github.jasonnming.results.result.basic.ResultCode;
 @API(status = API.Status.STABLE, since = "1.0.0")
 public final class ResultCodes
 {
-    public static final ResultCode SUCCESS = new DefaultResultCode("SUCCESS", "操作成功");
+    public static final ResultCode SUCCESS = ResultCodeRegistry.SUCCESS;
 
-    public static final ResultCode SYSTEM_ERROR = new DefaultResultCode("SYSTEM_ERROR", "系统错误");
+    public static final ResultCode SYSTEM_ERROR = ResultCodeRegistry.SYSTEM_ERROR;
 
-    public static final ResultCode REMOTE_ERROR = new DefaultResultCode("REMOTE_ERROR", "远程错误");
+    public static final ResultCode REMOTE_ERROR = ResultCodeRegistry.REMOTE_ERROR;
 
-    public static final ResultCode ILLEGAL_ARGUMENT = new DefaultResultCode("ILLEGAL_ARGUMENT", "非法参数");
+    public static final ResultCode ILLEGAL_ARGUMENT = ResultCodeRegistry.ILLEGAL_ARGUMENT;
 
-    public static final ResultCode DATA_NOT_EXIST = new DefaultResultCode("DATA_NOT_EXIST", "数据不存在");
+    public static final ResultCode DATA_NOT_EXIST = ResultCodeRegistry.DATA_NOT_EXIST;
+
+    /**
+     * 预定义的结果码，不能被{@link #register(ResultCode)}覆盖。
+     */
+    private static final ResultCode[] PREDEFINED;
+
+    static
+    {
+        PREDEFINED = Arrays.stream(ResultCodes.class.getFields())
+                .filter(x -> x.getType() == ResultCode.class) // NOTE: Should we use `isAssignableFrom`?
+                .map(x -> {
+                    try
+                    {
+                        return (ResultCode)x.get(null);
+                    } catch (IllegalAccessException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toArray(ResultCode[]::new);
+    }
 
     private ResultCodes() { }
 
+    /**
+     * 获取{@code code}对应的结果码对象。
+     * <p>
+     * 预定义的及通过{@link #register(ResultCode)}注册的结果码总是返回同一实例，其它结果码在数量上限内也会被规范化为同一实例，
+     * 因此通常可以使用{@code ==}进行比较，但超出上限时会返回新的实例，故需要严格判断时仍应使用{@link Object#equals(Object)}。
+     *
+     * @param code 结果码字符串。
+     *
+     * @return {@code code}对应的结果码对象。
+     */
     public static ResultCode of(final String code)
     {
-        return Holder.PREDEFINED_CODES.containsKey(code)
-                ? Holder.PREDEFINED_CODES.get(code)
-                : new DefaultResultCode(code);
+        return ResultCodeRegistry.of(code);
     }
 
-    private static final class Holder
+    /**
+     * 获取{@code code}对应的预定义的或已规范化的结果码对象，不存在时返回新的实例，与{@link #of(String)}不同，此方法不会规范化新的结果码。
+     * <p>
+     * 结果码来自远程数据等不可信来源时应使用此方法，避免任意的结果码字符串被永久缓存。
+     *
+     * @param code 结果码字符串。
+     *
+     * @return {@code code}对应的结果码对象。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static ResultCode lookup(@Nullable final String code)
     {
-        static final Map<String, ResultCode> PREDEFINED_CODES;
+        return ResultCodeRegistry.lookup(code);
+    }
 
-        static
+    /**
+     * 注册规范化的结果码实例，此后{@link #of(String)}将返回此实例，已存在相同结果码时将被覆盖，但预定义的结果码不能被覆盖。
+     *
+     * @param resultCode    结果码对象。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@code resultCode}。
+     *
+     * @throws IllegalArgumentException {@code resultCode}或其结果码为{@code null}，或与预定义的结果码相同。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode> TResultCode register(final TResultCode resultCode)
+    {
+        if (resultCode == null || resultCode.getCode() == null)
+        {
+            throw new IllegalArgumentException("\"resultCode\" and its code cannot be null.");
+        }
+        for (final ResultCode predefined : PREDEFINED)
         {
-            PREDEFINED_CODES = Arrays.stream(ResultCodes.class.getFields())
-                    .filter(x -> x.getType() == ResultCode.class) // NOTE: Should we use `isAssignableFrom`?
-                    .map(x -> {
-                        try
-                        {
-                            return (ResultCode)x.get(null);
-                        } catch (IllegalAccessException e)
-                        {
-                            throw new IllegalStateException(e);
-                        }
-                    })
-                    .collect(Collectors.toMap(x -> x.getCode(), x -> x, (l, r) -> l));
+            if (predefined != resultCode && predefined.getCode().equals(resultCode.getCode()))
+            {
+                throw new IllegalArgumentException("Predefined result code [" + resultCode.getCode() + "] cannot be overridden.");
+            }
         }
+        return ResultCodeRegistry.register(resultCode);
     }
 }
@@ -0,0 +1,127 @@
+package com.github.jasonnming.results.result.support;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jasonnming.results.result.basic.CollectionResult;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.MapResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.SetResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+
+/**
+ * 通过{@link LambdaMetafactory}为指定的结果类型生成{@link DataResultFactory}，生成的工厂直接绑定对应{@code Default*Result}的构造器，
+ * 调用时不再经过{@link Results#of(Class, ResultCode, String, String, Object)}中的类型分派。
+ * <p>
+ * 每次调用{@link #generate(Class)}都会生成一个新的类，因此只应在创建{@link MethodReturnWrapper}时调用，不应在每次请求中调用。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class ResultFactoryGenerator
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultFactoryGenerator.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(DataResultFactory.class);
+
+    private static final MethodType CREATE_TYPE = MethodType.methodType(CommonResult.class, ResultCode.class, String.class, String.class, Object.class);
+
+    private ResultFactoryGenerator() { }
+
+    /**
+     * 为{@code resultType}生成直接绑定构造器的{@link DataResultFactory}。
+     *
+     * @param resultType 期望创建的结果对象类型，取值范围与{@link Results#of(Class, ResultCode, String, String, Object)}一致。
+     *
+     * @return 生成的工厂，如{@code resultType}不受支持或生成失败则返回{@code null}。
+     */
+    @Nullable
+    static DataResultFactory<?> generate(final Class<?> resultType)
+    {
+        try
+        {
+            final MethodHandle target = resolveTarget(resultType);
+            if (target == null)
+            {
+                return null;
+            }
+
+            final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "create", FACTORY_TYPE, CREATE_TYPE, target, target.type());
+            return (DataResultFactory<?>)callSite.getTarget().invoke();
+        } catch (final Throwable e)
+        {
+            LOGGER.warn("Cannot generate result factory for [{}], fallback to Results.of(...).", resultType.getName(), e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle resolveTarget(final Class<?> resultType) throws ReflectiveOperationException
+    {
+        if (resultType == SingleResult.class || resultType == com.github.jasonnming.results.result.generic.SingleResult.class)
+        {
+            return constructor(DefaultSingleResult.class, Object.class);
+        }
+        if (resultType == PagedListResult.class || resultType == com.github.jasonnming.results.result.generic.PagedListResult.class)
+        {
+            return LOOKUP.findStatic(ResultFactoryGenerator.class, "newPagedListResult",
+                    MethodType.methodType(DefaultPagedListResult.class, ResultCode.class, String.class, String.class, Object.class));
+        }
+        if (resultType == ListResult.class || resultType == com.github.jasonnming.results.result.generic.ListResult.class
+                || resultType == CollectionResult.class || resultType == com.github.jasonnming.results.result.generic.CollectionResult.class)
+        {
+            // Use ListResult as CollectionResult by default.
+            return constructor(DefaultListResult.class, List.class);
+        }
+        if (resultType == SetResult.class || resultType == com.github.jasonnming.results.result.generic.SetResult.class)
+        {
+            return constructor(DefaultSetResult.class, Set.class);
+        }
+        if (resultType == MapResult.class || resultType == com.github.jasonnming.results.result.generic.MapResult.class)
+        {
+            return constructor(DefaultMapResult.class, Map.class);
+        }
+        if (resultType == CommonResult.class || resultType == com.github.jasonnming.results.result.generic.CommonResult.class)
+        {
+            return LOOKUP.findStatic(ResultFactoryGenerator.class, "newCommonResult",
+                    MethodType.methodType(DefaultCommonResult.class, ResultCode.class, String.class, String.class, Object.class));
+        }
+        return null;
+    }
+
+    private static MethodHandle constructor(final Class<?> type, final Class<?> dataType) throws ReflectiveOperationException
+    {
+        return LOOKUP.findConstructor(type, MethodType.methodType(void.class, ResultCode.class, String.class, String.class, dataType));
+    }
+
+    // region: Adapters for the types whose constructors cannot be bound directly
+
+    private static DefaultCommonResult<ResultCode> newCommonResult(final ResultCode resultCode, final String message, final String debugMessage, final Object data)
+    {
+        return new DefaultCommonResult<>(resultCode, message, debugMessage);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DefaultPagedListResult<ResultCode, Object> newPagedListResult(final ResultCode resultCode, final String message, final String debugMessage, final Object data)
+    {
+        return new DefaultPagedListResult<>(resultCode, message, debugMessage, (List<Object>)data, null, null, null, null, null);
+    }
+
+    // endregion: Adapters for the types whose constructors cannot be bound directly
+}
@@ -3,9 +3,12 @@ package com.github.jasonnming.results.result.support;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apiguardian.api.API;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * 返回值及异常包装拦截器。
+ * <p>
+ * 返回值声明为{@link java.util.concurrent.CompletionStage}或{@link java.util.concurrent.CompletableFuture}的方法将被异步包装，不会阻塞线程。
  *
  * @author MiNG
  * @version 1.0.0
@@ -14,11 +17,32 @@ import org.apiguardian.api.API;
 @API(status = API.Status.STABLE, since = "1.0.0")
 public class ResultInterceptor implements MethodInterceptor
 {
+    private final MethodReturnWrapper.Scope scope;
+
+    /**
+     * 使用全局的{@link ResultCodeResolver}。
+     */
+    public ResultInterceptor()
+    {
+        this(null);
+    }
+
+    /**
+     * 使用指定的{@link ResultCodeResolver}，其包装器缓存与全局缓存互不影响。
+     *
+     * @param resultCodeResolver 结果码解释器，为{@code null}时使用全局的{@link ResultCodeResolver}。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public ResultInterceptor(@Nullable final ResultCodeResolver resultCodeResolver)
+    {
+        this.scope = MethodReturnWrapper.scope(resultCodeResolver);
+    }
+
     @Override
     public Object invoke(final MethodInvocation invocation) throws Throwable
     {
-        return MethodReturnWrapper
+        return this.scope
                 .forMethod(invocation.getMethod())
-                .wrapInvocation(invocation::proceed);
+                .wrapDeclaredInvocation(invocation::proceed);
     }
 }
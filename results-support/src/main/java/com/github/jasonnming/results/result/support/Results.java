@@ -3,17 +3,29 @@ package com.github.jasonnming.results.result.support;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.jasonnming.results.internal.InternalUtils;
 import com.github.jasonnming.results.page.Page;
@@ -24,12 +36,19 @@ import com.github.jasonnming.results.result.builder.CollectionResultBuilder;
 import com.github.jasonnming.results.result.builder.CommonResultBuilder;
 import com.github.jasonnming.results.result.builder.ListResultBuilder;
 import com.github.jasonnming.results.result.builder.MapResultBuilder;
+import com.github.jasonnming.results.result.builder.MapResultLayout;
 import com.github.jasonnming.results.result.builder.PagedListResultBuilder;
 import com.github.jasonnming.results.result.builder.SetResultBuilder;
 import com.github.jasonnming.results.result.builder.SingleResultBuilder;
 import com.github.jasonnming.results.result.generic.CollectionResult;
 import com.github.jasonnming.results.result.generic.CommonResult;
+import com.github.jasonnming.results.result.generic.DoubleListResult;
+import com.github.jasonnming.results.result.generic.DoublePagedListResult;
+import com.github.jasonnming.results.result.generic.IntListResult;
+import com.github.jasonnming.results.result.generic.IntPagedListResult;
 import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.LongListResult;
+import com.github.jasonnming.results.result.generic.LongPagedListResult;
 import com.github.jasonnming.results.result.generic.MapResult;
 import com.github.jasonnming.results.result.generic.PagedListResult;
 import com.github.jasonnming.results.result.generic.SetResult;
@@ -43,6 +62,9 @@ import com.github.jasonnming.results.result.generic.SingleResult;
  * <li>{@code builder(...)}</li>
  * 通过构建器的方式创建完整的{@link Result}对象。
  * </ul>
+ * <p>
+ * 内置的结果对象都是不可变的，不含数据且只使用结果码默认消息的结果（包括{@code emptyXxxResult(...)}）将返回按结果码共享的实例，不会产生分配，
+ * 因此不应依赖结果对象的实例标识。
  *
  * @author MiNG
  * @version 1.0.0
@@ -58,6 +80,29 @@ public final class Results
      */
     public static final WithMessage EMPTY_MESSAGE = () -> null;
 
+    /**
+     * 通过{@link #registerFactory(Class, DataResultFactory)}注册的结果工厂。
+     */
+    private static final ConcurrentHashMap<Class<?>, DataResultFactory<?>> REGISTERED_FACTORIES = new ConcurrentHashMap<>();
+
+    /**
+     * 结果工厂的注册代数，每次注册时递增，{@link MethodReturnWrapper}的生成模式据此判断生成的包装器是否已过期。
+     */
+    private static final AtomicInteger FACTORY_EPOCH = new AtomicInteger();
+
+    /**
+     * 结果类型到结果工厂的分派表，每个结果类型只会计算一次，此后的查找不会再进行任何类型判断。
+     */
+    private static final ClassValue<DataResultFactory<?>> RESULT_FACTORIES = new ClassValue<DataResultFactory<?>>()
+    {
+        @Override
+        protected DataResultFactory<?> computeValue(final Class<?> type)
+        {
+            final DataResultFactory<?> registered = REGISTERED_FACTORIES.get(type);
+            return registered != null ? registered : builtinFactory(type);
+        }
+    };
+
     private Results() {}
 
     // region: CommonResult
@@ -74,7 +119,7 @@ public final class Results
     public static <TResultCode extends ResultCode>
     CommonResult<TResultCode> commonResult(final TResultCode resultCode)
     {
-        return new DefaultCommonResult<>(resultCode);
+        return SharedResults.COMMON.get(resultCode);
     }
 
     /**
@@ -90,7 +135,7 @@ public final class Results
     public static <TResultCode extends ResultCode> CommonResult<TResultCode>
     commonResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultCommonResult<>(resultCode, message, null);
+        return SharedResults.COMMON.get(resultCode, message, null);
     }
 
     /**
@@ -106,7 +151,7 @@ public final class Results
     public static <TResultCode extends ResultCode> CommonResult<TResultCode>
     commonResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultCommonResult<>(resultCode, message, debugMessage);
+        return SharedResults.COMMON.get(resultCode, message, debugMessage);
     }
 
     // endregion: CommonResult
@@ -127,7 +172,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TResult>
     SingleResult<TResultCode, TResult> singleResult(final TResultCode resultCode)
     {
-        return new DefaultSingleResult<>(resultCode);
+        return SharedResults.SINGLE.get(resultCode);
     }
 
     /**
@@ -144,7 +189,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TResult>
     SingleResult<TResultCode, TResult> singleResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultSingleResult<>(resultCode, message, null);
+        return SharedResults.SINGLE.get(resultCode, message, null);
     }
 
     /**
@@ -161,7 +206,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TResult>
     SingleResult<TResultCode, TResult> singleResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultSingleResult<>(resultCode, message, debugMessage);
+        return SharedResults.SINGLE.get(resultCode, message, debugMessage);
     }
 
     /**
@@ -244,7 +289,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     ListResult<TResultCode, TElement> listResult(final TResultCode resultCode)
     {
-        return new DefaultListResult<>(resultCode);
+        return SharedResults.LIST.get(resultCode);
     }
 
     /**
@@ -261,7 +306,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     ListResult<TResultCode, TElement> listResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultListResult<>(resultCode, message, null);
+        return SharedResults.LIST.get(resultCode, message, null);
     }
 
     /**
@@ -278,7 +323,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     ListResult<TResultCode, TElement> listResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultListResult<>(resultCode, message, debugMessage);
+        return SharedResults.LIST.get(resultCode, message, debugMessage);
     }
 
     /**
@@ -334,6 +379,42 @@ public final class Results
         return new DefaultListResult<>(resultCode, message, debugMessage, data);
     }
 
+    /**
+     * 获取只包含代码、消息及空列表的{@link ListResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * <p>
+     * 返回按结果码共享的实例，其数据为不可修改的空列表。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param <TResultCode> 结果码类型。
+     * @param <TElement>    列表中装载数据的类型。
+     *
+     * @return {@link DefaultListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode, TElement>
+    ListResult<TResultCode, TElement> emptyListResult(final TResultCode resultCode)
+    {
+        return SharedResults.EMPTY_LIST.get(resultCode);
+    }
+
+    /**
+     * 关闭{@code result}中以{@link com.github.jasonnming.results.result.builder.CommonResultBuilder#dataStream(Stream)}等方法提供的延迟求值的数据。
+     * <p>
+     * 延迟求值的数据在遍历完毕后自动关闭，但如果结果对象未被遍历（如序列化前出错或被丢弃），则需要调用此方法关闭其数据源。
+     * 对其它结果对象及{@code null}无效，重复调用无效，等同于{@link com.github.jasonnming.results.result.basic.StreamingListResult#close()}。
+     *
+     * @param result 结果对象，可以为{@code null}。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static void closeData(@Nullable final com.github.jasonnming.results.result.basic.ListResult<?> result)
+    {
+        if (result instanceof com.github.jasonnming.results.result.basic.StreamingListResult)
+        {
+            ((com.github.jasonnming.results.result.basic.StreamingListResult<?>)result).close();
+        }
+    }
+
     // endregion: ListResult
 
 
@@ -352,7 +433,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     PagedListResult<TResultCode, TElement> pagedListResult(final TResultCode resultCode)
     {
-        return new DefaultPagedListResult<>(resultCode);
+        return SharedResults.PAGED_LIST.get(resultCode);
     }
 
     /**
@@ -369,7 +450,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     PagedListResult<TResultCode, TElement> pagedListResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultPagedListResult<>(resultCode, message, null);
+        return SharedResults.PAGED_LIST.get(resultCode, message, null);
     }
 
     /**
@@ -386,7 +467,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     PagedListResult<TResultCode, TElement> pagedListResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultPagedListResult<>(resultCode, message, debugMessage);
+        return SharedResults.PAGED_LIST.get(resultCode, message, debugMessage);
     }
 
     /**
@@ -542,6 +623,241 @@ public final class Results
 
     // endregion: PagedListResult
 
+    // region: Primitive ListResult
+
+    /**
+     * 创建包含代码、消息及{@code int[]}数据的{@link IntListResult}，数据不会被装箱，{@link IntListResult#getData()}返回其只读的{@link List}视图，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultIntListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    IntListResult<TResultCode> intListResult(final TResultCode resultCode, final int[] data)
+    {
+        return new DefaultIntListResult<>(resultCode, null, null, data);
+    }
+
+    /**
+     * 创建包含代码、消息及{@code int[]}数据的{@link IntListResult}，数据不会被装箱，{@link IntListResult#getData()}返回其只读的{@link List}视图。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultIntListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    IntListResult<TResultCode> intListResult(final TResultCode resultCode, final String message, final String debugMessage, final int[] data)
+    {
+        return new DefaultIntListResult<>(resultCode, message, debugMessage, data);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code int[]}数据的{@link IntPagedListResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultIntPagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    IntPagedListResult<TResultCode> intPagedListResult(final TResultCode resultCode, final int[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode).buildIntPagedListResult(data, page, totalSize);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code int[]}数据的{@link IntPagedListResult}。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultIntPagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    IntPagedListResult<TResultCode> intPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final int[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode)
+                .message(message)
+                .debugMessage(debugMessage)
+                .buildIntPagedListResult(data, page, totalSize);
+    }
+
+    /**
+     * 创建包含代码、消息及{@code long[]}数据的{@link LongListResult}，数据不会被装箱，{@link LongListResult#getData()}返回其只读的{@link List}视图，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultLongListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    LongListResult<TResultCode> longListResult(final TResultCode resultCode, final long[] data)
+    {
+        return new DefaultLongListResult<>(resultCode, null, null, data);
+    }
+
+    /**
+     * 创建包含代码、消息及{@code long[]}数据的{@link LongListResult}，数据不会被装箱，{@link LongListResult#getData()}返回其只读的{@link List}视图。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultLongListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    LongListResult<TResultCode> longListResult(final TResultCode resultCode, final String message, final String debugMessage, final long[] data)
+    {
+        return new DefaultLongListResult<>(resultCode, message, debugMessage, data);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code long[]}数据的{@link LongPagedListResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultLongPagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    LongPagedListResult<TResultCode> longPagedListResult(final TResultCode resultCode, final long[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode).buildLongPagedListResult(data, page, totalSize);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code long[]}数据的{@link LongPagedListResult}。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultLongPagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    LongPagedListResult<TResultCode> longPagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final long[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode)
+                .message(message)
+                .debugMessage(debugMessage)
+                .buildLongPagedListResult(data, page, totalSize);
+    }
+
+    /**
+     * 创建包含代码、消息及{@code double[]}数据的{@link DoubleListResult}，数据不会被装箱，{@link DoubleListResult#getData()}返回其只读的{@link List}视图，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultDoubleListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    DoubleListResult<TResultCode> doubleListResult(final TResultCode resultCode, final double[] data)
+    {
+        return new DefaultDoubleListResult<>(resultCode, null, null, data);
+    }
+
+    /**
+     * 创建包含代码、消息及{@code double[]}数据的{@link DoubleListResult}，数据不会被装箱，{@link DoubleListResult#getData()}返回其只读的{@link List}视图。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultDoubleListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    DoubleListResult<TResultCode> doubleListResult(final TResultCode resultCode, final String message, final String debugMessage, final double[] data)
+    {
+        return new DefaultDoubleListResult<>(resultCode, message, debugMessage, data);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code double[]}数据的{@link DoublePagedListResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultDoublePagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    DoublePagedListResult<TResultCode> doublePagedListResult(final TResultCode resultCode, final double[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode).buildDoublePagedListResult(data, page, totalSize);
+    }
+
+    /**
+     * 创建包含代码、消息及带有分页信息的{@code double[]}数据的{@link DoublePagedListResult}。
+     *
+     * @param resultCode    结果码对象。
+     * @param message       用户可读消息。
+     * @param debugMessage  调试诊断消息。
+     * @param data          装载的数据，不会被复制。
+     * @param page          分页信息，包含{@link Page#getPage() 页码}及{@link Page#getPageSize() 每页数量}（此参数通常从请求处获取）。
+     * @param totalSize     符合当前查询的所有记录总数。
+     * @param <TResultCode> 结果码类型。
+     *
+     * @return {@link DefaultDoublePagedListResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode>
+    DoublePagedListResult<TResultCode> doublePagedListResult(final TResultCode resultCode, final String message, final String debugMessage, final double[] data, final Page page, final long totalSize)
+    {
+        return builder(resultCode)
+                .message(message)
+                .debugMessage(debugMessage)
+                .buildDoublePagedListResult(data, page, totalSize);
+    }
+
+    // endregion: Primitive ListResult
+
 
     // region: SetResult
 
@@ -558,7 +874,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     SetResult<TResultCode, TElement> setResult(final TResultCode resultCode)
     {
-        return new DefaultSetResult<>(resultCode);
+        return SharedResults.SET.get(resultCode);
     }
 
     /**
@@ -575,7 +891,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     SetResult<TResultCode, TElement> setResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultSetResult<>(resultCode, message, null);
+        return SharedResults.SET.get(resultCode, message, null);
     }
 
     /**
@@ -592,7 +908,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TElement>
     SetResult<TResultCode, TElement> setResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultSetResult<>(resultCode, message, debugMessage);
+        return SharedResults.SET.get(resultCode, message, debugMessage);
     }
 
     /**
@@ -648,6 +964,25 @@ public final class Results
         return new DefaultSetResult<>(resultCode, message, debugMessage, data);
     }
 
+    /**
+     * 获取只包含代码、消息及空集合的{@link SetResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * <p>
+     * 返回按结果码共享的实例，其数据为不可修改的空集合。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param <TResultCode> 结果码类型。
+     * @param <TElement>    集合中装载数据的类型。
+     *
+     * @return {@link DefaultSetResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode, TElement>
+    SetResult<TResultCode, TElement> emptySetResult(final TResultCode resultCode)
+    {
+        return SharedResults.EMPTY_SET.get(resultCode);
+    }
+
     // endregion: SetResult
 
 
@@ -667,7 +1002,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TKey, TValue>
     MapResult<TResultCode, TKey, TValue> mapResult(final TResultCode resultCode)
     {
-        return new DefaultMapResult<>(resultCode);
+        return SharedResults.MAP.get(resultCode);
     }
 
     /**
@@ -685,7 +1020,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TKey, TValue>
     MapResult<TResultCode, TKey, TValue> mapResult(final TResultCode resultCode, final String message)
     {
-        return new DefaultMapResult<>(resultCode, message, null);
+        return SharedResults.MAP.get(resultCode, message, null);
     }
 
     /**
@@ -703,7 +1038,7 @@ public final class Results
     public static <TResultCode extends ResultCode, TKey, TValue>
     MapResult<TResultCode, TKey, TValue> mapResult(final TResultCode resultCode, final String message, final String debugMessage)
     {
-        return new DefaultMapResult<>(resultCode, message, debugMessage);
+        return SharedResults.MAP.get(resultCode, message, debugMessage);
     }
 
     /**
@@ -762,6 +1097,26 @@ public final class Results
         return new DefaultMapResult<>(resultCode, message, debugMessage, data);
     }
 
+    /**
+     * 获取只包含代码、消息及空映射表的{@link MapResult}，
+     * 如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * <p>
+     * 返回按结果码共享的实例，其数据为不可修改的空映射表。
+     *
+     * @param resultCode    结果码对象，如果{@link TResultCode}实现了{@link WithMessage}接口，此结果的用户消息及调试消息将会从{@code resultCode}中获取。
+     * @param <TResultCode> 结果码类型。
+     * @param <TKey>        key类型。
+     * @param <TValue>      value类型。
+     *
+     * @return {@link DefaultMapResult}实例。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResultCode extends ResultCode, TKey, TValue>
+    MapResult<TResultCode, TKey, TValue> emptyMapResult(final TResultCode resultCode)
+    {
+        return SharedResults.EMPTY_MAP.get(resultCode);
+    }
+
     // endregion: MapResult
 
 
@@ -778,7 +1133,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -807,7 +1162,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -836,7 +1191,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -851,47 +1206,7 @@ public final class Results
     public static <TResult extends com.github.jasonnming.results.result.basic.CommonResult, TResultCode extends ResultCode>
     TResult of(final Class<? extends TResult> resultType, final TResultCode resultCode, final String message, final String debugMessage)
     {
-        // SingleResult
-        if (resultType == SingleResult.class || resultType == com.github.jasonnming.results.result.basic.SingleResult.class)
-        {
-            return (TResult)singleResult(resultCode, message, debugMessage);
-        }
-
-        // CollectionResult and subtype results
-        if (com.github.jasonnming.results.result.basic.CollectionResult.class.isAssignableFrom(resultType))
-        {
-            if (resultType == PagedListResult.class || resultType == com.github.jasonnming.results.result.basic.PagedListResult.class)
-            {
-                return (TResult)pagedListResult(resultCode, message, debugMessage);
-            }
-            if (resultType == ListResult.class || resultType == com.github.jasonnming.results.result.basic.ListResult.class)
-            {
-                return (TResult)listResult(resultCode, message, debugMessage);
-            }
-            if (resultType == SetResult.class || resultType == com.github.jasonnming.results.result.basic.SetResult.class)
-            {
-                return (TResult)setResult(resultCode, message, debugMessage);
-            }
-            if (resultType == CollectionResult.class || resultType == com.github.jasonnming.results.result.basic.CollectionResult.class)
-            {
-                // Use ListResult as CollectionResult by default.
-                return (TResult)listResult(resultCode, message, debugMessage);
-            }
-        }
-
-        // MapResult
-        if (resultType == MapResult.class || resultType == com.github.jasonnming.results.result.basic.MapResult.class)
-        {
-            return (TResult)mapResult(resultCode, message, debugMessage);
-        }
-
-        // CommonResult
-        if (resultType == CommonResult.class || resultType == com.github.jasonnming.results.result.basic.CommonResult.class)
-        {
-            return (TResult)commonResult(resultCode, message, debugMessage);
-        }
-
-        throw resultTypeOutOfRange();
+        return (TResult)RESULT_FACTORIES.get(resultType).create(resultCode, message, debugMessage, null);
     }
 
     /**
@@ -906,7 +1221,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -937,7 +1252,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -968,7 +1283,7 @@ public final class Results
      *
      * @return {@code resultType}指定的结果对象实例。
      *
-     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中：
+     * @throws IllegalArgumentException 当{@code resultType}不在以下类型中，且未通过{@link #registerFactory(Class, DataResultFactory)}注册：
      *                                  <ul>
      *                                  <li>{@link CommonResult}</li>
      *                                  <li>{@link SingleResult}</li>
@@ -984,48 +1299,7 @@ public final class Results
     public static <TResult extends com.github.jasonnming.results.result.basic.CommonResult, TResultCode extends ResultCode>
     TResult of(final Class<? extends TResult> resultType, final TResultCode resultCode, final String message, final String debugMessage, final Object data)
     {
-        // SingleResult
-        if (resultType == SingleResult.class || resultType == com.github.jasonnming.results.result.basic.SingleResult.class)
-        {
-            return (TResult)singleResult(resultCode, message, debugMessage, data);
-        }
-
-        // CollectionResult and subtype results
-        if (com.github.jasonnming.results.result.basic.CollectionResult.class.isAssignableFrom(resultType))
-        {
-            if (resultType == PagedListResult.class || resultType == com.github.jasonnming.results.result.basic.PagedListResult.class)
-            {
-                // TODO: support PagedListResult
-                throw new UnsupportedOperationException("TODO");
-            }
-            if (resultType == ListResult.class || resultType == com.github.jasonnming.results.result.basic.ListResult.class)
-            {
-                return (TResult)listResult(resultCode, message, debugMessage, (List<?>)data);
-            }
-            if (resultType == SetResult.class || resultType == com.github.jasonnming.results.result.basic.SetResult.class)
-            {
-                return (TResult)setResult(resultCode, message, debugMessage, (Set<?>)data);
-            }
-            if (resultType == CollectionResult.class || resultType == com.github.jasonnming.results.result.basic.CollectionResult.class)
-            {
-                // Use ListResult as CollectionResult by default.
-                return (TResult)listResult(resultCode, message, debugMessage, (List<?>)data);
-            }
-        }
-
-        // MapResult
-        if (resultType == MapResult.class || resultType == com.github.jasonnming.results.result.basic.MapResult.class)
-        {
-            return (TResult)mapResult(resultCode, message, debugMessage, (Map<?, ?>)data);
-        }
-
-        // CommonResult
-        if (resultType == CommonResult.class || resultType == com.github.jasonnming.results.result.basic.CommonResult.class)
-        {
-            return (TResult)commonResult(resultCode, message, debugMessage);
-        }
-
-        throw resultTypeOutOfRange();
+        return (TResult)RESULT_FACTORIES.get(resultType).create(resultCode, message, debugMessage, data);
     }
 
     /**
@@ -1115,6 +1389,15 @@ public final class Results
         if (data == null)
         {
             return Results.commonResult(resultCode, message, debugMessage);
+        } else if (data instanceof int[])
+        {
+            return Results.intListResult(resultCode, message, debugMessage, (int[])data);
+        } else if (data instanceof long[])
+        {
+            return Results.longListResult(resultCode, message, debugMessage, (long[])data);
+        } else if (data instanceof double[])
+        {
+            return Results.doubleListResult(resultCode, message, debugMessage, (double[])data);
         } else if (data.getClass().isArray())
         {
             return Results.listResult(resultCode, message, debugMessage, Arrays.asList((Object[])data));
@@ -1133,20 +1416,122 @@ public final class Results
         }
     }
 
+    /**
+     * 为自定义的结果类型注册工厂，注册后{@link #of(Class, ResultCode, String, String, Object)}及{@link MethodReturnWrapper}即可创建此类型的结果对象。
+     * <p>
+     * 重复注册同一类型时，后注册的工厂将覆盖先前注册的工厂（包括内置的结果类型）。
+     *
+     * @param resultType 结果对象类型，通常为{@link com.github.jasonnming.results.result.basic.CommonResult}的自定义子接口。
+     * @param factory    创建{@code resultType}实例的工厂。
+     * @param <TResult>  结果对象类型。
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.0.0")
+    public static <TResult extends com.github.jasonnming.results.result.basic.CommonResult>
+    void registerFactory(final Class<TResult> resultType, final DataResultFactory<? extends TResult> factory)
+    {
+        if (resultType == null || factory == null)
+        {
+            throw new IllegalArgumentException("\"resultType\" and \"factory\" cannot be null.");
+        }
+
+        REGISTERED_FACTORIES.put(resultType, factory);
+        // Drop the computed value, let it be re-computed from the registered factory.
+        RESULT_FACTORIES.remove(resultType);
+        // Published after the registration, so a wrapper generated from a stale epoch is always rebuilt.
+        FACTORY_EPOCH.incrementAndGet();
+    }
+
+    /**
+     * 返回结果工厂的注册代数，{@link #registerFactory(Class, DataResultFactory)}每次注册时递增。
+     */
+    static int factoryEpoch()
+    {
+        return FACTORY_EPOCH.get();
+    }
+
+    /**
+     * 判断是否为{@code resultType}注册了工厂，{@link MethodReturnWrapper}的生成模式据此让注册的工厂优先于生成的工厂。
+     *
+     * @param resultType 结果对象类型。
+     *
+     * @return 是否注册了工厂。
+     */
+    static boolean isFactoryRegistered(final Class<?> resultType)
+    {
+        return REGISTERED_FACTORIES.containsKey(resultType);
+    }
+
+    /**
+     * 内置结果类型的工厂，未命中时抛出{@link #resultTypeOutOfRange(Class)}；不含数据时返回{@link SharedResults}中的共享实例。
+     */
+    @SuppressWarnings("unchecked")
+    private static DataResultFactory<?> builtinFactory(final Class<?> resultType)
+    {
+        // SingleResult
+        if (resultType == SingleResult.class || resultType == com.github.jasonnming.results.result.basic.SingleResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> data == null
+                    ? SharedResults.SINGLE.get(resultCode, message, debugMessage)
+                    : new DefaultSingleResult<>(resultCode, message, debugMessage, data);
+        }
+
+        // CollectionResult and subtype results
+        if (resultType == PagedListResult.class || resultType == com.github.jasonnming.results.result.basic.PagedListResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> data == null
+                    ? SharedResults.PAGED_LIST.get(resultCode, message, debugMessage)
+                    : new DefaultPagedListResult<>(resultCode, message, debugMessage, (List<Object>)data, null, null, null, null, null);
+        }
+        if (resultType == ListResult.class || resultType == com.github.jasonnming.results.result.basic.ListResult.class
+                // Use ListResult as CollectionResult by default.
+                || resultType == CollectionResult.class || resultType == com.github.jasonnming.results.result.basic.CollectionResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> data == null
+                    ? SharedResults.LIST.get(resultCode, message, debugMessage)
+                    : new DefaultListResult<>(resultCode, message, debugMessage, (List<Object>)data);
+        }
+        if (resultType == SetResult.class || resultType == com.github.jasonnming.results.result.basic.SetResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> data == null
+                    ? SharedResults.SET.get(resultCode, message, debugMessage)
+                    : new DefaultSetResult<>(resultCode, message, debugMessage, (Set<Object>)data);
+        }
+
+        // MapResult
+        if (resultType == MapResult.class || resultType == com.github.jasonnming.results.result.basic.MapResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> data == null
+                    ? SharedResults.MAP.get(resultCode, message, debugMessage)
+                    : new DefaultMapResult<>(resultCode, message, debugMessage, (Map<Object, Object>)data);
+        }
+
+        // CommonResult
+        if (resultType == CommonResult.class || resultType == com.github.jasonnming.results.result.basic.CommonResult.class)
+        {
+            return (resultCode, message, debugMessage, data) -> SharedResults.COMMON.get(resultCode, message, debugMessage);
+        }
+
+        throw resultTypeOutOfRange(resultType);
+    }
+
     @NotNull
-    private static IllegalArgumentException resultTypeOutOfRange()
-    {
-        return new IllegalArgumentException("resultType must be exactly in following types: " + Stream
-                .of(
-                        CommonResult.class,
-                        SingleResult.class,
-                        CollectionResult.class,
-                        ListResult.class,
-                        PagedListResult.class,
-                        SetResult.class,
-                        MapResult.class
+    private static IllegalArgumentException resultTypeOutOfRange(final Class<?> resultType)
+    {
+        return new IllegalArgumentException("resultType [" + resultType.getName() + "] must be exactly in following types: " + Stream
+                .concat(
+                        Stream.of(
+                                CommonResult.class,
+                                SingleResult.class,
+                                CollectionResult.class,
+                                ListResult.class,
+                                PagedListResult.class,
+                                SetResult.class,
+                                MapResult.class
+                        ),
+                        REGISTERED_FACTORIES.keySet().stream()
                 )
                 .map(x -> x.getSimpleName())
+                .distinct()
                 .collect(Collectors.joining(",", "[", "].")));
     }
 
@@ -1235,6 +1620,30 @@ public final class Results
             return new ListResultBuilderImpl<>(InternalUtils.toList(data), this);
         }
 
+        @Override
+        public <TElement> ListResultBuilder<TResultCode, TElement> dataOwned(final List<TElement> data)
+        {
+            return new ListResultBuilderImpl<>(data, this);
+        }
+
+        @Override
+        public <TElement> ListResultBuilder<TResultCode, TElement> dataView(final List<TElement> data)
+        {
+            return new ListResultBuilderImpl<>(data != null ? Collections.unmodifiableList(data) : null, this);
+        }
+
+        @Override
+        public <TElement> ListResultBuilder<TResultCode, TElement> dataStream(final Stream<TElement> data)
+        {
+            return new ListResultBuilderImpl<>(data != null ? new StreamingData<>(data.spliterator(), -1, data) : null, this);
+        }
+
+        @Override
+        public <TElement> ListResultBuilder<TResultCode, TElement> dataStream(final Iterator<TElement> data, final long sizeHint)
+        {
+            return new ListResultBuilderImpl<>(data != null ? new StreamingData<>(Spliterators.spliteratorUnknownSize(data, Spliterator.ORDERED), sizeHint, null) : null, this);
+        }
+
         @Override
         public <TElement> SetResultBuilder<TResultCode, TElement> data(final Set<TElement> data)
         {
@@ -1316,9 +1725,61 @@ public final class Results
             return this.data(data).build();
         }
 
+
+        @Override
+        public IntListResult<TResultCode> buildIntListResult(final int... data)
+        {
+            return new DefaultIntListResult<>(this.resultCode, this.message, this.debugMessage, data);
+        }
+
+        @Override
+        public IntPagedListResult<TResultCode> buildIntPagedListResult(final int[] data, final Page page, final long totalSize)
+        {
+            return new PagedListResultBuilderImpl<TResultCode, Integer>(null, null, this).paging(page, totalSize).build(
+                    (resultCode, message, debugMessage, present, pageNumber, pageSize, hasNextPage, totalPage, total) ->
+                            new DefaultIntPagedListResult<>(resultCode, message, debugMessage, data, present, pageNumber, pageSize, hasNextPage, totalPage, total));
+        }
+
+        @Override
+        public LongListResult<TResultCode> buildLongListResult(final long... data)
+        {
+            return new DefaultLongListResult<>(this.resultCode, this.message, this.debugMessage, data);
+        }
+
+        @Override
+        public LongPagedListResult<TResultCode> buildLongPagedListResult(final long[] data, final Page page, final long totalSize)
+        {
+            return new PagedListResultBuilderImpl<TResultCode, Long>(null, null, this).paging(page, totalSize).build(
+                    (resultCode, message, debugMessage, present, pageNumber, pageSize, hasNextPage, totalPage, total) ->
+                            new DefaultLongPagedListResult<>(resultCode, message, debugMessage, data, present, pageNumber, pageSize, hasNextPage, totalPage, total));
+        }
+
+        @Override
+        public DoubleListResult<TResultCode> buildDoubleListResult(final double... data)
+        {
+            return new DefaultDoubleListResult<>(this.resultCode, this.message, this.debugMessage, data);
+        }
+
+        @Override
+        public DoublePagedListResult<TResultCode> buildDoublePagedListResult(final double[] data, final Page page, final long totalSize)
+        {
+            return new PagedListResultBuilderImpl<TResultCode, Double>(null, null, this).paging(page, totalSize).build(
+                    (resultCode, message, debugMessage, present, pageNumber, pageSize, hasNextPage, totalPage, total) ->
+                            new DefaultDoublePagedListResult<>(resultCode, message, debugMessage, data, present, pageNumber, pageSize, hasNextPage, totalPage, total));
+        }
         // endregion: Shortcut methods
     }
 
+    /**
+     * {@link CollectionResultBuilder#parallel()}的并行阈值的系统属性名。
+     */
+    static final String PARALLEL_THRESHOLD_PROPERTY = "results.collection.parallelThreshold";
+
+    /**
+     * {@link CollectionResultBuilder#parallel()}的并行阈值，通过系统属性{@value #PARALLEL_THRESHOLD_PROPERTY}设置，默认为{@code 10000}。
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 10000);
+
     private static class CollectionResultBuilderImpl<TResultCode extends ResultCode, TElement, TContainer extends Collection<TElement>>
             implements CollectionResultBuilder<TResultCode, TContainer, TElement>
     {
@@ -1326,12 +1787,49 @@ public final class Results
 
         final CommonResultBuilderImpl<TResultCode> delegatedBuilder;
 
+        /**
+         * 数据个数达到此值时并行转换，默认不并行。
+         */
+        private int parallelThreshold = Integer.MAX_VALUE;
+
+        private MapResultLayout layout = MapResultLayout.HASH;
+
         private CollectionResultBuilderImpl(final TContainer data, final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
         {
             this.data = data;
             this.delegatedBuilder = delegatedBuilder;
         }
 
+        @Override
+        public CollectionResultBuilder<TResultCode, TContainer, TElement> parallel()
+        {
+            return this.parallel(DEFAULT_PARALLEL_THRESHOLD);
+        }
+
+        @Override
+        public CollectionResultBuilder<TResultCode, TContainer, TElement> parallel(final int threshold)
+        {
+            if (threshold < 0)
+            {
+                throw new IllegalArgumentException("Property [threshold] must start from 0.");
+            }
+
+            this.parallelThreshold = threshold;
+            return this;
+        }
+
+        @Override
+        public CollectionResultBuilder<TResultCode, TContainer, TElement> layout(final MapResultLayout layout)
+        {
+            if (layout == null)
+            {
+                throw new IllegalArgumentException("Property [layout] must not be null.");
+            }
+
+            this.layout = layout;
+            return this;
+        }
+
         @Override
         public ListResultBuilder<TResultCode, TElement> toListResult()
         {
@@ -1378,8 +1876,134 @@ public final class Results
                                                                                       final Function<TElement, TValue> valueExtractor)
         {
             return () -> this.delegatedBuilder.build((resultCode, message, debugMessage) ->
-                    new DefaultMapResult<>(resultCode, message, debugMessage, this.data.stream()
-                            .collect(Collectors.toMap(keyExtractor, valueExtractor))));
+                    new DefaultMapResult<>(resultCode, message, debugMessage, this.toMap(keyExtractor, valueExtractor)));
+        }
+
+        /**
+         * 与{@link Collectors#toMap(Function, Function)}语义一致（重复的key及{@code null}值将抛出异常），但按数据个数预先分配容量，
+         * key按{@link MapResultLayout}的约束检查，
+         * 并按{@link #layout}选择Map的实现，{@link MapResultLayout#HASH}布局在数据个数达到{@link #parallelThreshold}时并行转换（见{@link #toMapParallel}）。
+         */
+        @SuppressWarnings("unchecked")
+        private <TKey, TValue> Map<TKey, TValue> toMap(final Function<TElement, TKey> keyExtractor, final Function<TElement, TValue> valueExtractor)
+        {
+            final int size = this.data.size();
+            switch (this.layout)
+            {
+                case COMPACT:
+                {
+                    final CompactMaps.OfObject<TKey, TValue> map = new CompactMaps.OfObject<>(size);
+                    for (final TElement element : this.data)
+                    {
+                        final TValue value = valueExtractor.apply(element);
+                        final TValue previous = map.add(this.checkKey(keyExtractor.apply(element)), value);
+                        if (previous != null)
+                        {
+                            throw duplicateKey(previous, value);
+                        }
+                    }
+                    return map;
+                }
+                case LONG_KEYED:
+                {
+                    final CompactMaps.OfLong<TValue> map = new CompactMaps.OfLong<>(size);
+                    for (final TElement element : this.data)
+                    {
+                        final TValue value = valueExtractor.apply(element);
+                        final TValue previous = map.add((Long)this.checkKey(keyExtractor.apply(element)), value);
+                        if (previous != null)
+                        {
+                            throw duplicateKey(previous, value);
+                        }
+                    }
+                    return (Map<TKey, TValue>)map;
+                }
+                case SORTED:
+                    return this.fill(new TreeMap<>(), keyExtractor, valueExtractor);
+                case INSERTION_ORDERED:
+                    return this.fill(new LinkedHashMap<>(InternalUtils.hashCapacity(size)), keyExtractor, valueExtractor);
+                case HASH:
+                default:
+                    if (size >= this.parallelThreshold)
+                    {
+                        return this.toMapParallel(keyExtractor, valueExtractor);
+                    }
+                    return this.fill(new HashMap<>(InternalUtils.hashCapacity(size)), keyExtractor, valueExtractor);
+            }
+        }
+
+        /**
+         * 并行转换：只有{@code keyExtractor}及{@code valueExtractor}并行执行，结果按下标存入数组，
+         * 之后在当前线程中一次性填充预先分配容量的{@link HashMap}，与顺序转换一样检查重复的key及{@code null}值，
+         * 以免并行的Map再整体复制一次。
+         */
+        @SuppressWarnings("unchecked")
+        private <TKey, TValue> Map<TKey, TValue> toMapParallel(final Function<TElement, TKey> keyExtractor, final Function<TElement, TValue> valueExtractor)
+        {
+            // Index the data by a random access view, copying it only when it is not one already.
+            final List<TElement> elements = (this.data instanceof List && this.data instanceof RandomAccess)
+                    ? (List<TElement>)this.data
+                    : (List<TElement>)Arrays.asList(this.data.toArray());
+            final int size = elements.size();
+            final Object[] keys = new Object[size];
+            final Object[] values = new Object[size];
+            IntStream.range(0, size).parallel().forEach(i -> {
+                final TElement element = elements.get(i);
+                keys[i] = keyExtractor.apply(element);
+                values[i] = valueExtractor.apply(element);
+            });
+
+            final Map<TKey, TValue> map = new HashMap<>(InternalUtils.hashCapacity(size));
+            for (int i = 0; i < size; i++)
+            {
+                final TKey key = this.checkKey((TKey)keys[i]);
+                final TValue value = Objects.requireNonNull((TValue)values[i]);
+                final TValue previous = map.putIfAbsent(key, value);
+                if (previous != null)
+                {
+                    throw duplicateKey(previous, value);
+                }
+            }
+            return map;
+        }
+
+        private <TKey, TValue> Map<TKey, TValue> fill(final Map<TKey, TValue> map,
+                                                      final Function<TElement, TKey> keyExtractor, final Function<TElement, TValue> valueExtractor)
+        {
+            for (final TElement element : this.data)
+            {
+                final TKey key = this.checkKey(keyExtractor.apply(element));
+                final TValue value = Objects.requireNonNull(valueExtractor.apply(element));
+                final TValue previous = map.putIfAbsent(key, value);
+                if (previous != null)
+                {
+                    throw duplicateKey(previous, value);
+                }
+            }
+            return map;
+        }
+
+        /**
+         * 检查{@link #layout}是否接受{@code key}，见{@link MapResultLayout}。
+         */
+        private <TKey> TKey checkKey(@Nullable final TKey key)
+        {
+            if (key == null)
+            {
+                if (this.layout != MapResultLayout.HASH && this.layout != MapResultLayout.INSERTION_ORDERED)
+                {
+                    throw new IllegalArgumentException("Layout [" + this.layout + "] does not accept null keys.");
+                }
+            } else if (this.layout == MapResultLayout.LONG_KEYED && !(key instanceof Long))
+            {
+                throw new IllegalArgumentException("Layout [LONG_KEYED] requires keys of [java.lang.Long] but found [" + key.getClass().getName() + "].");
+            }
+            return key;
+        }
+
+        private static IllegalStateException duplicateKey(final Object previous, final Object value)
+        {
+            return new IllegalStateException(String.format("Duplicate key (attempted merging values %s and %s)", previous, value));
         }
     }
 
@@ -1388,21 +2012,39 @@ public final class Results
     {
         final List<TElement> data;
 
+        /**
+         * 延迟求值的数据源，存在时忽略{@link #data}。
+         */
+        @Nullable
+        final StreamingData<TElement> source;
+
         final CommonResultBuilderImpl<TResultCode> delegatedBuilder;
 
         ListResultBuilderImpl(final List<TElement> data, final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
+        {
+            this(data, null, delegatedBuilder);
+        }
+
+        ListResultBuilderImpl(@Nullable final StreamingData<TElement> source, final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
+        {
+            this(null, source, delegatedBuilder);
+        }
+
+        private ListResultBuilderImpl(final List<TElement> data, @Nullable final StreamingData<TElement> source, final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
         {
             this.data = data;
+            this.source = source;
             this.delegatedBuilder = delegatedBuilder;
         }
 
-        private PagedListResultBuilderImpl<TResultCode, TElement> convertAndSet(final Consumer<PagedListResultBuilderImpl> setter)
+        /**
+         * 转换为分页列表的构建器，分页属性直接在返回的构建器上设置，以免每次设置都分配捕获参数的lambda。
+         */
+        private PagedListResultBuilderImpl<TResultCode, TElement> toPaged()
         {
-            final PagedListResultBuilderImpl<TResultCode, TElement> ret = (this instanceof PagedListResultBuilderImpl)
+            return (this instanceof PagedListResultBuilderImpl)
                     ? (PagedListResultBuilderImpl<TResultCode, TElement>)this
-                    : new PagedListResultBuilderImpl<>(this.data, this.delegatedBuilder);
-            setter.accept(ret);
-            return ret;
+                    : new PagedListResultBuilderImpl<>(this.data, this.source, this.delegatedBuilder);
         }
 
         @Override
@@ -1413,11 +2055,11 @@ public final class Results
                 throw new IllegalArgumentException("Property [page] and [pageSize] must start from 1.");
             }
 
-            return this.convertAndSet(x ->
-            {
-                x.page = page;
-                x.pageSize = pageSize;
-            });
+            final PagedListResultBuilderImpl<TResultCode, TElement> ret = this.toPaged();
+            ret.page = page;
+            ret.pageSize = pageSize;
+            ret.present |= DefaultPagedListResult.HAS_PAGE | DefaultPagedListResult.HAS_PAGE_SIZE;
+            return ret;
         }
 
         @Override
@@ -1428,18 +2070,19 @@ public final class Results
                 return this.page(pageRequest.getPage(), pageRequest.getPageSize());
             } else
             {
-                return this.convertAndSet(x ->
-                {
-                    x.page = null;
-                    x.pageSize = null;
-                });
+                final PagedListResultBuilderImpl<TResultCode, TElement> ret = this.toPaged();
+                ret.present &= ~(DefaultPagedListResult.HAS_PAGE | DefaultPagedListResult.HAS_PAGE_SIZE);
+                return ret;
             }
         }
 
         @Override
         public PagedListResultBuilder<TResultCode, TElement> hasNextPage(final boolean hasNextPage)
         {
-            return this.convertAndSet(x -> x.hasNextPage = hasNextPage);
+            final PagedListResultBuilderImpl<TResultCode, TElement> ret = this.toPaged();
+            ret.hasNextPage = hasNextPage;
+            ret.present |= DefaultPagedListResult.PREDICTABLE;
+            return ret;
         }
 
         @Override
@@ -1450,7 +2093,10 @@ public final class Results
                 throw new IllegalArgumentException("Property [totalPage] must start from 0.");
             }
 
-            return this.convertAndSet(x -> x.totalPage = totalPage);
+            final PagedListResultBuilderImpl<TResultCode, TElement> ret = this.toPaged();
+            ret.totalPage = totalPage;
+            ret.present |= DefaultPagedListResult.HAS_TOTAL_PAGE;
+            return ret;
         }
 
         @Override
@@ -1461,12 +2107,20 @@ public final class Results
                 throw new IllegalArgumentException("Property [totalSize] must start from 0.");
             }
 
-            return this.convertAndSet(x -> x.totalSize = totalSize);
+            final PagedListResultBuilderImpl<TResultCode, TElement> ret = this.toPaged();
+            ret.totalSize = totalSize;
+            ret.present |= DefaultPagedListResult.HAS_TOTAL_SIZE;
+            return ret;
         }
 
         @Override
         public ListResult<TResultCode, TElement> build()
         {
+            if (this.source != null)
+            {
+                return this.delegatedBuilder.build((resultCode, message, debugMessage) ->
+                        new DefaultStreamingListResult<>(resultCode, message, debugMessage, this.source));
+            }
             return this.delegatedBuilder.build((resultCode, message, debugMessage) ->
                     new DefaultListResult<>(resultCode, message, debugMessage, this.data));
         }
@@ -1478,19 +2132,25 @@ public final class Results
     {
         private boolean restricted;
 
-        private Long page = null;
+        /**
+         * 已设置的分页信息，标记位与{@link DefaultPagedListResult}一致。
+         */
+        private int present;
+
+        private long page;
 
-        private Long pageSize = null;
+        private long pageSize;
 
-        private Long totalPage = null;
+        private long totalPage;
 
-        private Long totalSize = null;
+        private long totalSize;
 
-        private Boolean hasNextPage = null;
+        private boolean hasNextPage;
 
-        private PagedListResultBuilderImpl(final List<TElement> data, final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
+        private PagedListResultBuilderImpl(final List<TElement> data, @Nullable final StreamingData<TElement> source,
+                                           final CommonResultBuilderImpl<TResultCode> delegatedBuilder)
         {
-            super(data, delegatedBuilder);
+            super(data, source, delegatedBuilder);
         }
 
         @Override
@@ -1500,21 +2160,27 @@ public final class Results
             return this;
         }
 
+        private boolean isPresent(final int flag)
+        {
+            return (this.present & flag) != 0;
+        }
+
         private void check()
         {
             // Check unexpected cases
-            if ((this.page == null) ^ (this.pageSize == null))
+            if (this.isPresent(DefaultPagedListResult.HAS_PAGE) ^ this.isPresent(DefaultPagedListResult.HAS_PAGE_SIZE))
             {
                 throw new IllegalArgumentException("Property [page] and [pageSize] must be null/not-null at the same time.");
             }
 
             // Try calculate totalPage
-            if (this.pageSize != null && this.totalSize != null)
+            if (this.isPresent(DefaultPagedListResult.HAS_PAGE_SIZE) && this.isPresent(DefaultPagedListResult.HAS_TOTAL_SIZE))
             {
-                if (this.totalPage == null)
+                if (!this.isPresent(DefaultPagedListResult.HAS_TOTAL_PAGE))
                 {
                     // Calculates totalPage via pageSize and totalSize.
                     this.totalPage = (this.totalSize / this.pageSize) + Math.min(0, this.totalSize % this.pageSize);
+                    this.present |= DefaultPagedListResult.HAS_TOTAL_PAGE;
                 } else
                 {
                     if (this.restricted)
@@ -1527,12 +2193,13 @@ public final class Results
             }
 
             // Try calculate hasNextPage
-            if (this.page != null && this.totalPage != null)
+            if (this.isPresent(DefaultPagedListResult.HAS_PAGE) && this.isPresent(DefaultPagedListResult.HAS_TOTAL_PAGE))
             {
-                if (this.hasNextPage == null)
+                if (!this.isPresent(DefaultPagedListResult.PREDICTABLE))
                 {
                     // Calculates hasNextPage via page and totalPage.
                     this.hasNextPage = this.page < this.totalPage;
+                    this.present |= DefaultPagedListResult.PREDICTABLE;
                 } else
                 {
                     if (this.restricted)
@@ -1547,14 +2214,47 @@ public final class Results
 
         @Override
         public PagedListResult<TResultCode, TElement> build()
+        {
+            if (this.source != null)
+            {
+                return this.build((resultCode, message, debugMessage, present, page, pageSize, hasNextPage, totalPage, totalSize) ->
+                        new DefaultStreamingPagedListResult<>(resultCode, message, debugMessage, this.source, present, page, pageSize, hasNextPage, totalPage, totalSize));
+            }
+            return this.build((resultCode, message, debugMessage, present, page, pageSize, hasNextPage, totalPage, totalSize) ->
+                    new DefaultPagedListResult<>(resultCode, message, debugMessage, this.data, present, page, pageSize, hasNextPage, totalPage, totalSize));
+        }
+
+        /**
+         * 设置分页信息，供不经过{@link #data}的构建方式（如原始类型数组）使用。
+         */
+        private PagedListResultBuilderImpl<TResultCode, TElement> paging(final Page page, final long totalSize)
+        {
+            this.page(page);
+            this.totalSize(totalSize);
+            return this;
+        }
+
+        /**
+         * 校验并推断分页信息后，通过{@code factory}创建结果对象。
+         */
+        private <TConcreteResult extends CommonResult<TResultCode>> TConcreteResult build(final PagedResultFactory<TResultCode, TConcreteResult> factory)
         {
             this.check();
             return this.delegatedBuilder.build((resultCode, message, debugMessage) ->
-                    new DefaultPagedListResult<>(resultCode, message, debugMessage, this.data,
-                            this.page, this.pageSize, this.hasNextPage, this.totalPage, this.totalSize));
+                    factory.create(resultCode, message, debugMessage, this.present, this.page, this.pageSize, this.hasNextPage, this.totalPage, this.totalSize));
         }
     }
 
+    /**
+     * 以原始类型接收分页信息的结果工厂，{@code present}的标记位与{@link DefaultPagedListResult}一致。
+     */
+    @FunctionalInterface
+    private interface PagedResultFactory<TResultCode extends ResultCode, TConcreteResult extends CommonResult<TResultCode>>
+    {
+        TConcreteResult create(TResultCode resultCode, String message, String debugMessage, int present,
+                               long page, long pageSize, boolean hasNextPage, long totalPage, long totalSize);
+    }
+
     // endregion: Builder Implements
 
     // endregion: Builders
@@ -0,0 +1,149 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.WithMessage;
+
+/**
+ * 不含数据（或只含空集合）的结果对象的共享实例，每种结果类型按结果码各缓存一个实例。
+ * <p>
+ * 内置的结果对象都是不可变的，因此只有代码及默认消息（从{@link WithMessage}中获取）的结果可以安全地共享。
+ * 缓存以结果码对象的实例区分，而非{@link ResultCode#equals(Object)}，以免代码相同但消息不同的结果码共享同一结果。
+ * 结果码的默认消息可能随语言环境等上下文变化，因此只有共享实例中的消息与结果码当前的默认消息相同时才返回共享实例，否则创建新的实例。
+ * 缓存按结果码的类型分段，通过{@link ClassValue}挂在结果码类型上，因此不会阻止结果码类型（及其类加载器）被卸载。
+ * 每种结果类型中每种结果码类型缓存的数量上限通过系统属性{@value #MAX_SIZE_PROPERTY}设置，默认为{@code 256}，超出后将创建新的实例。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+final class SharedResults
+{
+    static final String MAX_SIZE_PROPERTY = "results.shared.maxSize";
+
+    static final int DEFAULT_MAX_SIZE = Integer.getInteger(MAX_SIZE_PROPERTY, 256);
+
+    static final SharedResults COMMON = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultCommonResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults SINGLE = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultSingleResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults LIST = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultListResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults PAGED_LIST = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultPagedListResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults SET = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultSetResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults MAP = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultMapResult<>(resultCode, message, debugMessage));
+
+    static final SharedResults EMPTY_LIST = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultListResult<>(resultCode, message, debugMessage, Collections.emptyList()));
+
+    static final SharedResults EMPTY_SET = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultSetResult<>(resultCode, message, debugMessage, Collections.emptySet()));
+
+    static final SharedResults EMPTY_MAP = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultMapResult<>(resultCode, message, debugMessage, Collections.emptyMap()));
+
+    private final DataResultFactory<?> factory;
+
+    private final int maxSize;
+
+    private final ClassValue<ConcurrentHashMap<ResultCode, CommonResult>> results = new ClassValue<ConcurrentHashMap<ResultCode, CommonResult>>()
+    {
+        @Override
+        protected ConcurrentHashMap<ResultCode, CommonResult> computeValue(final Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    SharedResults(final DataResultFactory<?> factory)
+    {
+        this(factory, DEFAULT_MAX_SIZE);
+    }
+
+    SharedResults(final DataResultFactory<?> factory, final int maxSize)
+    {
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取只包含{@code resultCode}及其默认消息的结果对象。
+     */
+    <TResult> TResult get(final ResultCode resultCode)
+    {
+        return this.get(resultCode, null, null);
+    }
+
+    /**
+     * 获取结果对象，{@code message}及{@code debugMessage}均为{@code resultCode}的默认消息时返回共享实例，否则创建新的实例。
+     */
+    @SuppressWarnings("unchecked")
+    <TResult> TResult get(final ResultCode resultCode, @Nullable final String message, @Nullable final String debugMessage)
+    {
+        if (resultCode == null || !isDefaultMessage(resultCode, message, debugMessage))
+        {
+            return (TResult)this.factory.create(resultCode, message, debugMessage, null);
+        }
+
+        final ConcurrentHashMap<ResultCode, CommonResult> results = this.results.get(resultCode.getClass());
+        final CommonResult shared = results.get(resultCode);
+        // Only the very same result code instance can share the result, the equal ones might carry different messages,
+        // and only while its messages are still the current default ones (e.g. not resolved for another locale).
+        if (shared != null && shared.getResultCode() == resultCode && isCurrent(shared, resultCode))
+        {
+            return (TResult)shared;
+        }
+
+        final CommonResult created = this.factory.create(resultCode, null, null, null);
+        if (shared == null && results.size() < this.maxSize)
+        {
+            final CommonResult previous = results.putIfAbsent(resultCode, created);
+            if (previous != null && previous.getResultCode() == resultCode && isCurrent(previous, resultCode))
+            {
+                return (TResult)previous;
+            }
+        }
+        return (TResult)created;
+    }
+
+    /**
+     * @return 结果码类型为{@code resultCodeType}的已缓存的实例数。
+     */
+    int size(final Class<? extends ResultCode> resultCodeType)
+    {
+        return this.results.get(resultCodeType).size();
+    }
+
+    private static boolean isCurrent(final CommonResult shared, final ResultCode resultCode)
+    {
+        if (!(resultCode instanceof WithMessage))
+        {
+            return true;
+        }
+
+        final WithMessage defaultMessage = (WithMessage)resultCode;
+        return Objects.equals(shared.getMessage(), defaultMessage.getMessage())
+                && Objects.equals(shared.getDebugMessage(), defaultMessage.getDebugMessage());
+    }
+
+    private static boolean isDefaultMessage(final ResultCode resultCode, @Nullable final String message, @Nullable final String debugMessage)
+    {
+        if (message == null && debugMessage == null)
+        {
+            return true;
+        }
+        if (!(resultCode instanceof WithMessage))
+        {
+            return false;
+        }
+
+        final WithMessage defaultMessage = (WithMessage)resultCode;
+        return (message == null || message.equals(defaultMessage.getMessage()))
+                && (debugMessage == null || debugMessage.equals(defaultMessage.getDebugMessage()));
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.jasonnming.results.exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class BusinessExceptionTest
+{
+    @Test
+    void test_getMessage()
+    {
+        Assertions.assertEquals("foo:\"bar\"", new BusinessException("foo", "bar").getMessage());
+        Assertions.assertEquals("foo:\"baz\"", new BusinessException("foo", "bar", "baz").getMessage());
+        Assertions.assertEquals("SUCCESS:\"" + TestResultCode.SUCCESS.getDebugMessage() + "\"", new BusinessException(TestResultCode.SUCCESS).getMessage());
+
+        final IllegalStateException cause = new IllegalStateException();
+        Assertions.assertSame(cause, new BusinessException(TestResultCode.SUCCESS, "foo", "bar", cause).getCause());
+    }
+
+    @Test
+    void test_stackless()
+    {
+        Assertions.assertNotEquals(0, new BusinessException(TestResultCode.SUCCESS).getStackTrace().length);
+
+        final BusinessException stackless = new StacklessException(TestResultCode.ILLEGAL_ARGUMENT);
+        Assertions.assertEquals(0, stackless.getStackTrace().length);
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getCode(), stackless.getCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getMessage(), stackless.getAlertMessage());
+    }
+
+    @Test
+    void test_cached()
+    {
+        final BusinessException cached = BusinessException.cached(TestResultCode.ILLEGAL_ARGUMENT);
+        Assertions.assertSame(cached, BusinessException.cached(TestResultCode.ILLEGAL_ARGUMENT));
+        Assertions.assertTrue(cached.isCached());
+        Assertions.assertFalse(new BusinessException(TestResultCode.ILLEGAL_ARGUMENT).isCached());
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, cached.getResultCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getMessage(), cached.getAlertMessage());
+        Assertions.assertEquals(0, cached.getStackTrace().length);
+
+        // Immutable.
+        cached.addSuppressed(new IllegalStateException());
+        cached.setStackTrace(new Throwable().getStackTrace());
+        Assertions.assertEquals(0, cached.getSuppressed().length);
+        Assertions.assertEquals(0, cached.getStackTrace().length);
+        Assertions.assertThrows(IllegalStateException.class, () -> cached.initCause(new IllegalStateException()));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BusinessException.cached(null));
+    }
+
+    @Test
+    void test_cached_identity()
+    {
+        final EqualResultCode foo = new EqualResultCode("foo");
+        final EqualResultCode bar = new EqualResultCode("bar");
+        Assertions.assertEquals(foo, bar);
+
+        Assertions.assertSame(BusinessException.cached(foo), BusinessException.cached(foo));
+        Assertions.assertEquals("foo", BusinessException.cached(foo).getAlertMessage());
+        Assertions.assertSame(bar, BusinessException.cached(bar).getResultCode());
+        Assertions.assertEquals("bar", BusinessException.cached(bar).getAlertMessage());
+        Assertions.assertEquals(0, BusinessException.cached(bar).getStackTrace().length);
+    }
+
+    @Test
+    void test_serialization() throws Exception
+    {
+        final IllegalStateException cause = new IllegalStateException("cause");
+        final BusinessException exception = new BusinessException("foo", "bar", "baz", cause);
+        exception.addSuppressed(new IllegalArgumentException("suppressed"));
+
+        final BusinessException copy = (BusinessException)deserialize(serialize(exception), false);
+        Assertions.assertEquals(BusinessException.class, copy.getClass());
+        Assertions.assertEquals("foo:\"baz\"", copy.getMessage());
+        Assertions.assertEquals("bar", copy.getAlertMessage());
+        Assertions.assertEquals("cause", copy.getCause().getMessage());
+        Assertions.assertEquals(1, copy.getSuppressed().length);
+        Assertions.assertArrayEquals(exception.getStackTrace(), copy.getStackTrace());
+
+        // Versions without the getMessage() override read the message written as the detail message of Throwable.
+        final com.github.jasonnming.results.exception.legacy.BusinessException legacy =
+                (com.github.jasonnming.results.exception.legacy.BusinessException)deserialize(serialize(exception), true);
+        Assertions.assertEquals("foo:\"baz\"", legacy.getMessage());
+        Assertions.assertEquals("foo", legacy.getCode());
+        Assertions.assertEquals("cause", legacy.getCause().getMessage());
+        Assertions.assertArrayEquals(exception.getStackTrace(), legacy.getStackTrace());
+
+        final com.github.jasonnming.results.exception.legacy.BusinessException cached =
+                (com.github.jasonnming.results.exception.legacy.BusinessException)deserialize(serialize(BusinessException.cached(TestResultCode.ILLEGAL_ARGUMENT)), true);
+        Assertions.assertEquals("ILLEGAL_ARGUMENT:\"" + TestResultCode.ILLEGAL_ARGUMENT.getDebugMessage() + "\"", cached.getMessage());
+        Assertions.assertEquals(0, cached.getStackTrace().length);
+    }
+
+    private static byte[] serialize(final Object object) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param legacy 是否以{@link com.github.jasonnming.results.exception.legacy.BusinessException}读取业务异常。
+     */
+    private static Object deserialize(final byte[] bytes, final boolean legacy) throws Exception
+    {
+        try (final ObjectInputStream in = new LegacyObjectInputStream(new ByteArrayInputStream(bytes), legacy))
+        {
+            return in.readObject();
+        }
+    }
+
+    private static final class LegacyObjectInputStream extends ObjectInputStream
+    {
+        private final boolean legacy;
+
+        private LegacyObjectInputStream(final InputStream in, final boolean legacy) throws IOException
+        {
+            super(in);
+            this.legacy = legacy;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException
+        {
+            return this.legacy && desc.getName().equals(BusinessException.class.getName())
+                   ? com.github.jasonnming.results.exception.legacy.BusinessException.class
+                   : super.resolveClass(desc);
+        }
+    }
+
+    private static final class StacklessException extends BusinessException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private StacklessException(final ResultCode resultCode)
+        {
+            super(resultCode, null, null, null, false);
+        }
+    }
+
+    private static final class EqualResultCode implements ResultCode, WithMessage
+    {
+        private final String message;
+
+        private EqualResultCode(final String message)
+        {
+            this.message = message;
+        }
+
+        @Override
+        public String getCode()
+        {
+            return "EQUAL";
+        }
+
+        @Override
+        public String getMessage()
+        {
+            return this.message;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            return o instanceof EqualResultCode;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.jasonnming.results.exception.legacy;
+
+/**
+ * 格式化消息仍保存在{@link Throwable}中的旧版本{@link com.github.jasonnming.results.exception.BusinessException}，
+ * 没有覆盖{@link #getMessage()}，用于检查序列化的兼容性。
+ *
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+public class BusinessException extends RuntimeException
+{
+    private static final long serialVersionUID = 0x55e59d806dec3766L;
+
+    private String code;
+
+    private String alertMessage;
+
+    private String debugMessage;
+
+    public String getCode()
+    {
+        return this.code;
+    }
+
+    public String getAlertMessage()
+    {
+        return this.alertMessage;
+    }
+
+    public String getDebugMessage()
+    {
+        return this.debugMessage;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.jasonnming.results.internal.processing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultCodeResolverIndexProcessorTest
+{
+    @Test
+    void test_process() throws IOException
+    {
+        final Path sources = Files.createTempDirectory("results-index-sources");
+        final Path handWritten = sources.resolve(ResultCodeResolverIndexProcessor.INDEX_LOCATION);
+        Files.createDirectories(handWritten.getParent());
+        Files.write(handWritten, Collections.singletonList("foo.ExistingResolver # hand-written"), StandardCharsets.UTF_8);
+
+        // The index left by a previous compilation is not merged, its resolvers might have been removed since.
+        final Path output = Files.createTempDirectory("results-index");
+        final Path index = output.resolve(ResultCodeResolverIndexProcessor.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList("foo.StaleResolver"), StandardCharsets.UTF_8);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final Boolean success = compiler
+                .getTask(null, null, diagnostics,
+                        Arrays.asList("-d", output.toString(), "-sourcepath", sources.toString(), "-classpath", System.getProperty("java.class.path"),
+                                "-processor", ResultCodeResolverIndexProcessor.class.getName()),
+                        null,
+                        Arrays.asList(
+                                source("foo.FooResolver", "package foo; public class FooResolver implements com.github.jasonnming.results.result.support.ResultCodeResolver {"
+                                        + " public com.github.jasonnming.results.result.basic.ResultCode resolve(Class<?> t, String c) { return null; }"
+                                        + " public static class Nested extends FooResolver { }"
+                                        + " public class Inner extends FooResolver { } }"),
+                                source("foo.ArgResolver", "package foo; public class ArgResolver extends FooResolver { public ArgResolver(String arg) { } }"),
+                                source("foo.AbstractResolver", "package foo; public abstract class AbstractResolver implements com.github.jasonnming.results.result.support.ResultCodeResolver { }"),
+                                source("foo.Bar", "package foo; public class Bar { }")))
+                .call();
+        Assertions.assertTrue(success);
+
+        final List<String> entries = Files.readAllLines(index, StandardCharsets.UTF_8);
+        Assertions.assertEquals(Arrays.asList("foo.ExistingResolver", "foo.FooResolver", "foo.FooResolver$Nested"), entries);
+
+        // Classes that ServiceLoader cannot instantiate are reported.
+        final List<String> warnings = diagnostics.getDiagnostics().stream()
+                .filter(x -> x.getKind() == Diagnostic.Kind.WARNING)
+                .map(x -> x.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(2, warnings.size(), warnings::toString);
+        Assertions.assertTrue(warnings.stream().anyMatch(x -> x.contains("foo.FooResolver.Inner") && x.contains("non-static inner class")), warnings::toString);
+        Assertions.assertTrue(warnings.stream().anyMatch(x -> x.contains("foo.ArgResolver") && x.contains("no public no-arg constructor")), warnings::toString);
+    }
+
+    private static JavaFileObject source(final String className, final String content)
+    {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE)
+        {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors)
+            {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultCommonResultTest
+{
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(final Object object) throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(object);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            return (T)in.readObject();
+        }
+    }
+
+    /**
+     * 默认消息在构建时从结果码中取出并保存，而不是在读取时延迟求值：两个消息字段也用于调用方提供的消息，无法省去，
+     * 以压缩指针计，通用、单个及列表结果分别为24、32、32字节，延迟求值并不能减少占用。
+     */
+    @Test
+    @DisplayName("Default messages are shared with the result code rather than copied")
+    void test_footprint()
+    {
+        final DefaultCommonResult<TestResultCode> common = new DefaultCommonResult<>(TestResultCode.SUCCESS, null, null);
+        final DefaultSingleResult<TestResultCode, Object> single = new DefaultSingleResult<>(TestResultCode.SUCCESS, null, null, null);
+        final DefaultListResult<TestResultCode, Object> list = new DefaultListResult<>(TestResultCode.SUCCESS, null, null, null);
+
+        // The code and both messages, then the data.
+        Assertions.assertEquals(shallowSize(3), ClassLayout.parseInstance(common).instanceSize());
+        Assertions.assertEquals(shallowSize(4), ClassLayout.parseInstance(single).instanceSize());
+        Assertions.assertEquals(shallowSize(4), ClassLayout.parseInstance(list).instanceSize());
+
+        final long codeSize = GraphLayout.parseInstance(TestResultCode.SUCCESS).totalSize();
+        for (final DefaultCommonResult<?> result : Arrays.asList(common, single, list))
+        {
+            Assertions.assertSame(TestResultCode.SUCCESS.getMessage(), result.getMessage());
+            Assertions.assertEquals(ClassLayout.parseInstance(result).instanceSize() + codeSize, GraphLayout.parseInstance(result).totalSize());
+        }
+    }
+
+    /**
+     * 只有{@code references}个引用字段的对象的大小。
+     */
+    private static long shallowSize(final int references)
+    {
+        final long size = VM.current().objectHeaderSize() + references * VM.current().sizeOfField("java.lang.Object");
+        final int alignment = VM.current().objectAlignment();
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    @Test
+    @DisplayName("Results are serialized through the compact proxy")
+    void test_serializationProxy() throws Exception
+    {
+        final DefaultCommonResult<?> common = copy(new DefaultCommonResult<>(ResultCodes.SUCCESS, null, "foo"));
+        Assertions.assertSame(ResultCodes.SUCCESS, common.getResultCode());
+        Assertions.assertEquals(ResultCodes.SUCCESS.getCode(), common.getCode());
+        Assertions.assertEquals("foo", common.getDebugMessage());
+
+        final DefaultPagedListResult<?, ?> paged = copy(new DefaultPagedListResult<>(TestResultCode.SUCCESS, null, null, Arrays.asList("foo", null),
+                1L, 2L, true, null, null));
+        Assertions.assertEquals(DefaultPagedListResult.class, paged.getClass());
+        Assertions.assertSame(TestResultCode.SUCCESS, paged.getResultCode());
+        Assertions.assertEquals(Arrays.asList("foo", null), paged.getData());
+        Assertions.assertEquals(1L, paged.getPage());
+        Assertions.assertEquals(2L, paged.getPageSize());
+        Assertions.assertTrue(paged.hasNextPage());
+        Assertions.assertFalse(paged.hasTotalPage());
+        Assertions.assertFalse(paged.hasTotalSize());
+
+        final TreeSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+        set.addAll(Arrays.asList("a", "b"));
+        final DefaultSetResult<?, ?> sorted = copy(new DefaultSetResult<>(TestResultCode.SUCCESS, null, null, set));
+        Assertions.assertEquals(Arrays.asList("b", "a"), new ArrayList<>(sorted.getData()));
+
+        Assertions.assertNull(DefaultCommonResultTest.<DefaultListResult<?, ?>>copy(new DefaultListResult<>(TestResultCode.SUCCESS)).getData());
+        Assertions.assertEquals("foo", DefaultCommonResultTest.<DefaultSingleResult<?, ?>>copy(new DefaultSingleResult<>(TestResultCode.SUCCESS, null, null, "foo")).getData());
+    }
+
+    @Test
+    @DisplayName("Deserialized result codes are replaced by the canonical instances")
+    void test_resultCodeCanonical() throws Exception
+    {
+        Assertions.assertSame(ResultCodes.SYSTEM_ERROR, copy(new DefaultResultCode("SYSTEM_ERROR", "系统错误")));
+
+        final DefaultResultCode customMessage = copy(new DefaultResultCode("SYSTEM_ERROR", "foo"));
+        Assertions.assertNotSame(ResultCodes.SYSTEM_ERROR, customMessage);
+        Assertions.assertEquals("foo", customMessage.getMessage());
+
+        final DefaultResultCode unknown = copy(new DefaultResultCode("SERIALIZATION_PROXY_UNKNOWN", "bar"));
+        Assertions.assertEquals("SERIALIZATION_PROXY_UNKNOWN", unknown.getCode());
+        Assertions.assertEquals("bar", unknown.getDebugMessage());
+    }
+
+    @Test
+    @DisplayName("Deserialized result codes are canonical before ResultCodes is initialized")
+    void test_resultCodeCanonicalUninitialized() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(new DefaultResultCode("SYSTEM_ERROR", "系统错误"));
+        }
+
+        // Load the classes again in an isolated class loader, where ResultCodes has not been initialized yet.
+        final List<URL> urls = new ArrayList<>();
+        for (final String path : System.getProperty("java.class.path").split(File.pathSeparator))
+        {
+            urls.add(new File(path).toURI().toURL());
+        }
+        urls.add(DefaultResultCode.class.getProtectionDomain().getCodeSource().getLocation());
+        urls.add(ResultCodes.class.getProtectionDomain().getCodeSource().getLocation());
+        urls.add(DefaultCommonResultTest.class.getProtectionDomain().getCodeSource().getLocation());
+        try (final URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent()))
+        {
+            final Class<?> probe = Class.forName(CanonicalProbe.class.getName(), true, loader);
+            Assertions.assertNotSame(CanonicalProbe.class, probe);
+            Assertions.assertEquals(Boolean.TRUE, probe.getDeclaredMethod("isCanonical", byte[].class).invoke(null, (Object)bytes.toByteArray()));
+        }
+    }
+
+    /**
+     * 在隔离的类加载器中反序列化结果码，读取完成后才初始化{@link ResultCodes}。
+     */
+    public static final class CanonicalProbe
+    {
+        public static boolean isCanonical(final byte[] bytes) throws Exception
+        {
+            final Object resultCode;
+            try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)))
+            {
+                resultCode = in.readObject();
+            }
+            return resultCode == ResultCodes.SYSTEM_ERROR;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class DefaultPagedListResultTest
+{
+    /**
+     * 字段仍为装箱类型时以默认格式序列化的{@code new DefaultPagedListResult<>(TestResultCode.SUCCESS, null, null, ["foo", "bar"], 2L, 2L, true, null, 100L)}。
+     */
+    private static final String LEGACY_FORM = "rO0ABXNyAENjb20uZ2l0aHViLmphc29ubm1pbmcucmVzdWx0cy5yZXN1bHQuc3VwcG9ydC5EZWZhdWx0UGFnZWRMaXN0UmVzdWx0D4S/hqor3jICAAVMAAto"
+            + "YXNOZXh0UGFnZXQAE0xqYXZhL2xhbmcvQm9vbGVhbjtMAARwYWdldAAQTGphdmEvbGFuZy9Mb25nO0wACHBhZ2VTaXplcQB+AAJMAAl0b3RhbFBhZ2VxAH4A"
+            + "AkwACXRvdGFsU2l6ZXEAfgACeHIAPmNvbS5naXRodWIuamFzb25ubWluZy5yZXN1bHRzLnJlc3VsdC5zdXBwb3J0LkRlZmF1bHRMaXN0UmVzdWx0rFvj89/V"
+            + "rx0CAAFMAARkYXRhdAAQTGphdmEvdXRpbC9MaXN0O3hyAEBjb20uZ2l0aHViLmphc29ubm1pbmcucmVzdWx0cy5yZXN1bHQuc3VwcG9ydC5EZWZhdWx0Q29t"
+            + "bW9uUmVzdWx0+DuRPQCKJR8CAANMAARjb2RldAA3TGNvbS9naXRodWIvamFzb25ubWluZy9yZXN1bHRzL3Jlc3VsdC9iYXNpYy9SZXN1bHRDb2RlO0wADGRl"
+            + "YnVnTWVzc2FnZXQAEkxqYXZhL2xhbmcvU3RyaW5nO0wAB21lc3NhZ2VxAH4AB3hwfnIAOGNvbS5naXRodWIuamFzb25ubWluZy5yZXN1bHRzLnJlc3VsdC50"
+            + "ZXN0LlRlc3RSZXN1bHRDb2RlAAAAAAAAAAASAAB4cgAOamF2YS5sYW5nLkVudW0AAAAAAAAAABIAAHhwdAAHU1VDQ0VTU3QABuaIkOWKn3EAfgANc3IAE2ph"
+            + "dmEudXRpbC5BcnJheUxpc3R4gdIdmcdhnQMAAUkABHNpemV4cAAAAAJ3BAAAAAJ0AANmb290AANiYXJ4c3IAEWphdmEubGFuZy5Cb29sZWFuzSBygNWc+u4C"
+            + "AAFaAAV2YWx1ZXhwAXNyAA5qYXZhLmxhbmcuTG9uZzuL5JDMjyPfAgABSgAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAAAAAAA"
+            + "AnEAfgAWcHNxAH4AFAAAAAAAAABk";
+
+    @Test
+    @DisplayName("Paging properties are kept without boxed objects")
+    void test_footprint()
+    {
+        final DefaultPagedListResult<TestResultCode, Object> result = new DefaultPagedListResult<>(TestResultCode.SUCCESS, null, null, null,
+                5000L, 20L, true, 50000L, 1000000L);
+        Assertions.assertEquals(
+                ClassLayout.parseInstance(result).instanceSize() + GraphLayout.parseInstance(TestResultCode.SUCCESS).totalSize(),
+                GraphLayout.parseInstance(result).totalSize());
+
+        Assertions.assertEquals(5000L, result.getPage());
+        Assertions.assertEquals(Long.valueOf(20L), result.getPageSizeOrNull());
+        Assertions.assertTrue(result.hasNextPage());
+        Assertions.assertEquals(50000L, result.getTotalPage());
+        Assertions.assertEquals(1000000L, result.getTotalSize());
+    }
+
+    @Test
+    @DisplayName("Absent paging properties")
+    void test_absent()
+    {
+        final DefaultPagedListResult<TestResultCode, Object> result = new DefaultPagedListResult<>(TestResultCode.SUCCESS, null, null, null,
+                null, null, false, 3L, null);
+        Assertions.assertFalse(result.hasPage());
+        Assertions.assertNull(result.getPageOrNull());
+        Assertions.assertThrows(IllegalStateException.class, result::getPage);
+        Assertions.assertFalse(result.hasPageSize());
+        Assertions.assertThrows(IllegalStateException.class, result::getPageSize);
+        Assertions.assertTrue(result.isPredictable());
+        Assertions.assertFalse(result.hasNextPage());
+        Assertions.assertEquals(3L, result.getTotalPage());
+        Assertions.assertFalse(result.hasTotalSize());
+        Assertions.assertNull(result.getTotalSizeOrNull());
+
+        final DefaultPagedListResult<TestResultCode, Object> empty = new DefaultPagedListResult<>(TestResultCode.SUCCESS);
+        Assertions.assertFalse(empty.isPredictable());
+        Assertions.assertThrows(IllegalStateException.class, empty::hasNextPage);
+        Assertions.assertThrows(IllegalStateException.class, empty::getTotalPage);
+    }
+
+    @Test
+    @DisplayName("Paging properties are final and serialized through the proxy")
+    void test_serialization() throws Exception
+    {
+        Assertions.assertTrue(Arrays.stream(DefaultPagedListResult.class.getDeclaredFields())
+                .filter(x -> !Modifier.isStatic(x.getModifiers()))
+                .allMatch(x -> Modifier.isFinal(x.getModifiers())));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(new DefaultPagedListResult<>(TestResultCode.SUCCESS, null, null, Arrays.asList("foo", "bar"), 2L, 2L, null, null, 100L));
+        }
+
+        final DefaultPagedListResult<?, ?> result;
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            result = (DefaultPagedListResult<?, ?>)in.readObject();
+        }
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), result.getData());
+        Assertions.assertEquals(2L, result.getPage());
+        Assertions.assertEquals(2L, result.getPageSize());
+        Assertions.assertFalse(result.isPredictable());
+        Assertions.assertFalse(result.hasTotalPage());
+        Assertions.assertEquals(100L, result.getTotalSize());
+    }
+
+    @Test
+    @DisplayName("Results in the legacy default form are still readable")
+    void test_legacy() throws Exception
+    {
+        final DefaultPagedListResult<?, ?> result;
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(LEGACY_FORM))))
+        {
+            result = (DefaultPagedListResult<?, ?>)in.readObject();
+        }
+        Assertions.assertSame(TestResultCode.SUCCESS, result.getResultCode());
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), result.getData());
+        Assertions.assertEquals(2L, result.getPage());
+        Assertions.assertEquals(2L, result.getPageSize());
+        Assertions.assertTrue(result.isPredictable());
+        Assertions.assertTrue(result.hasNextPage());
+        Assertions.assertFalse(result.hasTotalPage());
+        Assertions.assertEquals(100L, result.getTotalSize());
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ExtensionsTest
+{
+    @Test
+    @DisplayName("Index entries that cannot be loaded are skipped")
+    void test_loadResultCodeResolverByJdk() throws IOException
+    {
+        final Path classes = Files.createTempDirectory("results-extensions");
+        final Boolean success = ToolProvider.getSystemJavaCompiler()
+                .getTask(null, null, null,
+                        Arrays.asList("-d", classes.toString(), "-classpath", System.getProperty("java.class.path"), "-proc:none"),
+                        null,
+                        Arrays.asList(
+                                source("foo.ArgResolver", "package foo; public class ArgResolver implements com.github.jasonnming.results.result.support.ResultCodeResolver {"
+                                        + " public ArgResolver(String arg) { }"
+                                        + " public com.github.jasonnming.results.result.basic.ResultCode resolve(Class<?> t, String c) { return null; } }"),
+                                source("foo.FooResolver", "package foo; public class FooResolver implements com.github.jasonnming.results.result.support.ResultCodeResolver {"
+                                        + " public com.github.jasonnming.results.result.basic.ResultCode resolve(Class<?> t, String c) { return null; } }")))
+                .call();
+        Assertions.assertTrue(success);
+
+        final Path index = classes.resolve("META-INF/services/" + ResultCodeResolver.class.getName());
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList("foo.MissingResolver", "foo.ArgResolver", "foo.FooResolver"), StandardCharsets.UTF_8);
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ExtensionsTest.class.getClassLoader()))
+        {
+            final ResultCodeResolver resolver = Extensions.loadResultCodeResolverByJdk(classLoader);
+            Assertions.assertNotNull(resolver);
+            Assertions.assertEquals("foo.FooResolver", resolver.getClass().getName());
+        }
+
+        Files.write(index, Collections.singletonList("foo.MissingResolver"), StandardCharsets.UTF_8);
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ExtensionsTest.class.getClassLoader()))
+        {
+            Assertions.assertNull(Extensions.loadResultCodeResolverByJdk(classLoader));
+        }
+    }
+
+    private static JavaFileObject source(final String className, final String content)
+    {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE)
+        {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors)
+            {
+                return content;
+            }
+        };
+    }
+}
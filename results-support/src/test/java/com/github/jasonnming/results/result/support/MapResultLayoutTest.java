@@ -0,0 +1,194 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.github.jasonnming.results.result.builder.MapResultLayout;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class MapResultLayoutTest
+{
+    @ParameterizedTest
+    @EnumSource(MapResultLayout.class)
+    @DisplayName("All layouts hold the same mappings")
+    void test_layout(final MapResultLayout layout)
+    {
+        final List<Long> data = LongStream.range(0, 1000).map(x -> x * 7919 % 1000 - 500).boxed().collect(Collectors.toList());
+        final Map<Long, String> expected = data.stream().collect(Collectors.toMap(x -> x, String::valueOf));
+
+        final Map<Long, ? extends String> map = this.toMap(data, layout);
+        Assertions.assertEquals(expected, map);
+        Assertions.assertEquals(expected.hashCode(), map.hashCode());
+        Assertions.assertEquals("-500", map.get(-500L));
+        Assertions.assertNull(map.get(1000L));
+        if (layout != MapResultLayout.SORTED)
+        {
+            // TreeMap compares the key, so it rejects keys of other types.
+            Assertions.assertNull(map.get("foo"));
+        }
+        Assertions.assertFalse(map.containsKey(1000L));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.toMap(Arrays.asList(1L, 2L, 1L), layout));
+        Assertions.assertTrue(this.toMap(Collections.emptyList(), layout).isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MapResultLayout.class, names = {"SORTED", "INSERTION_ORDERED"})
+    @DisplayName("Ordered layouts")
+    void test_ordered(final MapResultLayout layout)
+    {
+        final List<Long> data = Arrays.asList(3L, 1L, 2L);
+        final List<Long> keys = new ArrayList<>(this.toMap(data, layout).keySet());
+        Assertions.assertEquals(layout == MapResultLayout.SORTED ? Arrays.asList(1L, 2L, 3L) : data, keys);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MapResultLayout.class, names = {"COMPACT", "LONG_KEYED"})
+    @DisplayName("Compact layouts are read-only and survive Java serialization")
+    @SuppressWarnings("unchecked")
+    void test_compact(final MapResultLayout layout) throws Exception
+    {
+        final List<Long> data = LongStream.range(0, 100).boxed().collect(Collectors.toList());
+        final Map<Long, ? extends String> map = this.toMap(data, layout);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((Map<Long, String>)map).put(100L, "100"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((Map<Long, String>)map).entrySet().iterator().next().setValue("foo"));
+
+        final Object copy = deserialize(serialize(map));
+        Assertions.assertEquals(map.getClass(), copy.getClass());
+        Assertions.assertEquals(map, copy);
+        Assertions.assertEquals("42", ((Map<?, ?>)copy).get(42L));
+    }
+
+    @Test
+    @DisplayName("The size of compact maps in the stream is not trusted")
+    void test_compact_size() throws Exception
+    {
+        final List<Long> data = LongStream.range(0, 5000).boxed().collect(Collectors.toList());
+        final Map<Long, ? extends String> large = this.toMap(data, MapResultLayout.COMPACT);
+        Assertions.assertEquals(large, deserialize(serialize(large)));
+
+        final byte[] bytes = serialize(this.toMap(Collections.singletonList(1L), MapResultLayout.COMPACT));
+        // The size is written as block data: TC_BLOCKDATA, length 4, then the int.
+        final int offset = indexOf(bytes, new byte[]{0x77, 4, 0, 0, 0, 1}) + 2;
+        Assertions.assertTrue(offset > 1);
+        for (final int size : new int[]{-1, 1 << 30, Integer.MAX_VALUE})
+        {
+            Assertions.assertThrows(InvalidObjectException.class, () -> deserialize(withInt(bytes, offset, size)));
+        }
+        // Fewer entries than declared fail fast instead of allocating a table for the declared size.
+        Assertions.assertThrows(IOException.class, () -> deserialize(withInt(bytes, offset, CompactMaps.MAX_SIZE)));
+    }
+
+    @Test
+    @DisplayName("Compact maps grow beyond the expected size instead of probing a full table")
+    void test_compact_grow() throws Exception
+    {
+        final CompactMaps.OfObject<Long, String> objects = new CompactMaps.OfObject<>(1);
+        final CompactMaps.OfLong<String> longs = new CompactMaps.OfLong<>(1);
+        for (long i = 0; i < 100; i++)
+        {
+            Assertions.assertNull(objects.add(i, String.valueOf(i)));
+            Assertions.assertNull(longs.add(i, String.valueOf(i)));
+        }
+        Assertions.assertEquals("0", longs.add(0L, "duplicate"));
+        Assertions.assertEquals(100, longs.size());
+        Assertions.assertEquals(objects, longs);
+        Assertions.assertNull(longs.get(100L));
+        Assertions.assertEquals(longs, deserialize(serialize(longs)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapResultLayout.class)
+    @DisplayName("Keys are checked against the layout")
+    void test_key(final MapResultLayout layout)
+    {
+        final List<Long> data = Arrays.asList(1L, null);
+        if (layout == MapResultLayout.HASH || layout == MapResultLayout.INSERTION_ORDERED)
+        {
+            Assertions.assertEquals("null", this.toMap(data, layout).get(null));
+        } else
+        {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> this.toMap(data, layout));
+        }
+
+        final Collection<Integer> ints = Arrays.asList(1, 2);
+        if (layout == MapResultLayout.LONG_KEYED)
+        {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> this.toMap(ints, layout));
+        } else
+        {
+            Assertions.assertEquals("2", this.toMap(ints, layout).get(2));
+        }
+    }
+
+    private static byte[] serialize(final Object object) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException
+    {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)))
+        {
+            return in.readObject();
+        }
+    }
+
+    private static int indexOf(final byte[] bytes, final byte[] pattern)
+    {
+        for (int i = 0; i + pattern.length <= bytes.length; i++)
+        {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + pattern.length), pattern))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] withInt(final byte[] bytes, final int offset, final int value)
+    {
+        final byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy, offset, 4).putInt(value);
+        return copy;
+    }
+
+    private <TKey> Map<TKey, ? extends String> toMap(final Collection<TKey> data, final MapResultLayout layout)
+    {
+        return Results.builder(TestResultCode.SUCCESS)
+                .data(data)
+                .layout(layout)
+                .<TKey, String>toMapResult(x -> x, String::valueOf)
+                .build()
+                .getData();
+    }
+}
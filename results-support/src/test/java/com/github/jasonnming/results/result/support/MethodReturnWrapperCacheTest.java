@@ -0,0 +1,140 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+import com.github.jasonnming.results.result.basic.ListResult;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class MethodReturnWrapperCacheTest
+{
+    @Test
+    void test_get() throws NoSuchMethodException
+    {
+        final MethodReturnWrapperCache cache = new MethodReturnWrapperCache(1);
+        final AtomicInteger createCount = new AtomicInteger();
+
+        final Method foo = SampleService.class.getDeclaredMethod("foo");
+        final Method bar = SampleService.class.getDeclaredMethod("bar");
+        final MethodReturnWrapper first = cache.get(foo, x -> create(x, createCount));
+        Assertions.assertSame(first, cache.get(foo, x -> create(x, createCount)));
+        Assertions.assertEquals(1, createCount.get());
+
+        // Exceeds the bound, the previous one is evicted.
+        Assertions.assertSame(cache.get(bar, x -> create(x, createCount)), cache.get(bar, x -> create(x, createCount)));
+        Assertions.assertEquals(2, createCount.get());
+        Assertions.assertNotSame(first, cache.get(foo, x -> create(x, createCount)));
+        Assertions.assertEquals(3, createCount.get());
+
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(2, stats.getHitCount());
+        Assertions.assertEquals(3, stats.getMissCount());
+        Assertions.assertEquals(1, stats.getSize());
+        Assertions.assertEquals(2, stats.getEvictionCount());
+    }
+
+    @Test
+    void test_secondChance() throws NoSuchMethodException
+    {
+        final MethodReturnWrapperCache cache = new MethodReturnWrapperCache(2);
+        final AtomicInteger createCount = new AtomicInteger();
+
+        final Method foo = SampleService.class.getDeclaredMethod("foo");
+        final Method bar = SampleService.class.getDeclaredMethod("bar");
+        final Method baz = SampleService.class.getDeclaredMethod("baz");
+        final MethodReturnWrapper hot = cache.get(foo, x -> create(x, createCount));
+        cache.get(bar, x -> create(x, createCount));
+        Assertions.assertSame(hot, cache.get(foo, x -> create(x, createCount)));
+
+        // The cold one is evicted, the hot one stays cached.
+        cache.get(baz, x -> create(x, createCount));
+        Assertions.assertSame(hot, cache.get(foo, x -> create(x, createCount)));
+        Assertions.assertEquals(3, createCount.get());
+        cache.get(bar, x -> create(x, createCount));
+        Assertions.assertEquals(4, createCount.get());
+        Assertions.assertEquals(2, cache.stats().getSize());
+    }
+
+    @Test
+    void test_unload() throws Exception
+    {
+        final MethodReturnWrapperCache cache = new MethodReturnWrapperCache(1);
+        cacheIsolatedMethod(cache);
+        Assertions.assertEquals(1, cache.stats().getSize());
+
+        for (int i = 0; i < 50 && cache.stats().getSize() != 0; i++)
+        {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(0, stats.getSize());
+        Assertions.assertEquals(1, stats.getEvictionCount());
+    }
+
+    private static void cacheIsolatedMethod(final MethodReturnWrapperCache cache) throws Exception
+    {
+        final Class<?> isolated = new IsolatingClassLoader(SampleService.class).loadClass(SampleService.class.getName());
+        Assertions.assertNotSame(SampleService.class, isolated);
+        cache.get(isolated.getDeclaredMethods()[0], x -> MethodReturnWrapper.create(x, null));
+    }
+
+    private static MethodReturnWrapper create(final Method method, final AtomicInteger createCount)
+    {
+        createCount.incrementAndGet();
+        return MethodReturnWrapper.create(method, null);
+    }
+
+    interface SampleService
+    {
+        ListResult<String> foo();
+
+        ListResult<String> bar();
+
+        ListResult<String> baz();
+    }
+
+    /**
+     * 单独加载指定类的类加载器，其它类委托给父加载器。
+     */
+    private static final class IsolatingClassLoader extends ClassLoader
+    {
+        private final Class<?> isolated;
+
+        IsolatingClassLoader(final Class<?> isolated)
+        {
+            super(isolated.getClassLoader());
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.equals(this.isolated.getName()))
+            {
+                return super.loadClass(name, resolve);
+            }
+
+            try (final InputStream in = this.isolated.getResourceAsStream(this.isolated.getName().substring(this.isolated.getName().lastIndexOf('.') + 1) + ".class"))
+            {
+                final byte[] bytes = StreamUtils.copyToByteArray(in);
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (final IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
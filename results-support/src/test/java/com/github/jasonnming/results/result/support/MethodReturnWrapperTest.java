@@ -0,0 +1,208 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.exception.BusinessException;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class MethodReturnWrapperTest
+{
+    @Test
+    @DisplayName("MethodReturnWrapper uses the result code of cached BusinessException directly")
+    void test_cachedException() throws NoSuchMethodException
+    {
+        final BusinessException cached = BusinessException.cached(TestResultCode.ILLEGAL_ARGUMENT);
+
+        final CommonResult basic = MethodReturnWrapper.forResultType(com.github.jasonnming.results.result.basic.CommonResult.class).wrapReturn(null, cached);
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, basic.getResultCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getMessage(), basic.getMessage());
+
+        final AtomicInteger resolveCount = new AtomicInteger();
+        final ResultCodeResolver resolver = (resultCodeType, code) -> {
+            resolveCount.incrementAndGet();
+            return TestResultCode.valueOf(code);
+        };
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.create(SampleService.class.getMethod("list"), resolver);
+        final int eagerResolveCount = resolveCount.get();
+        final CommonResult generic = wrapper.wrapReturn(null, cached);
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, generic.getResultCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getDebugMessage(), generic.getDebugMessage());
+        Assertions.assertEquals(eagerResolveCount, resolveCount.get());
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper keeps the messages of cached BusinessException like the non-cached ones")
+    void test_cachedExceptionMessages() throws NoSuchMethodException
+    {
+        final DefaultResultCode code = new DefaultResultCode(TestResultCode.ILLEGAL_ARGUMENT.getCode(), "foo", "bar");
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.create(SampleService.class.getMethod("list"), (resultCodeType, x) -> TestResultCode.valueOf(x));
+
+        final CommonResult cached = wrapper.wrapReturn(null, BusinessException.cached(code));
+        final CommonResult created = wrapper.wrapReturn(null, new BusinessException(code));
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, cached.getResultCode());
+        Assertions.assertEquals("foo", cached.getMessage());
+        Assertions.assertEquals("bar", cached.getDebugMessage());
+        Assertions.assertEquals(created.getMessage(), cached.getMessage());
+        Assertions.assertEquals(created.getDebugMessage(), cached.getDebugMessage());
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper wraps deserialized cached BusinessException by its code")
+    void test_cachedExceptionSerialized() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(BusinessException.cached(TestResultCode.ILLEGAL_ARGUMENT));
+        }
+        final BusinessException exception;
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            exception = (BusinessException)in.readObject();
+        }
+        Assertions.assertFalse(exception.isCached());
+        Assertions.assertNull(exception.getResultCode());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+
+        final CommonResult basic = MethodReturnWrapper.forResultType(com.github.jasonnming.results.result.basic.CommonResult.class).wrapReturn(null, exception);
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getCode(), basic.getCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getMessage(), basic.getMessage());
+
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.create(SampleService.class.getMethod("list"), (resultCodeType, code) -> TestResultCode.valueOf(code));
+        final CommonResult generic = wrapper.wrapReturn(null, exception);
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, generic.getResultCode());
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getDebugMessage(), generic.getDebugMessage());
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper caches resolved result codes")
+    void test_resultCodeCache() throws NoSuchMethodException
+    {
+        final AtomicInteger resolveCount = new AtomicInteger();
+        final ResultCodeResolver resolver = (resultCodeType, code) -> {
+            resolveCount.incrementAndGet();
+            return TestResultCode.valueOf(code);
+        };
+        final Method method = SampleService.class.getMethod("list");
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.create(method, resolver);
+
+        // SUCCESS is resolved eagerly, SYSTEM_ERROR is not resolvable by this resolver.
+        Assertions.assertEquals(2, resolveCount.get());
+
+        final CacheStats before = MethodReturnWrapper.resultCodeCacheStats();
+        final List<String> data = Arrays.asList("foo", "bar");
+        for (int i = 0; i < 3; i++)
+        {
+            final CommonResult result = wrapper.wrapReturn(data, null);
+            Assertions.assertSame(TestResultCode.SUCCESS, result.getResultCode());
+        }
+        Assertions.assertEquals(2, resolveCount.get());
+
+        for (int i = 0; i < 3; i++)
+        {
+            final CommonResult result = wrapper.wrapReturn(null, new BusinessException(TestResultCode.ILLEGAL_ARGUMENT));
+            Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, result.getResultCode());
+        }
+        Assertions.assertEquals(3, resolveCount.get());
+
+        final CacheStats after = MethodReturnWrapper.resultCodeCacheStats();
+        Assertions.assertTrue(after.getHitCount() - before.getHitCount() >= 5);
+        Assertions.assertTrue(after.getMissCount() - before.getMissCount() >= 1);
+
+        // The failure of the eager resolution is deferred to the actual use.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wrapper.wrapReturn(null, new IllegalStateException()));
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper.scope(ResultCodeResolver)")
+    void test_scope() throws NoSuchMethodException
+    {
+        final ResultCodeResolver foo = (resultCodeType, code) -> TestResultCode.valueOf(code);
+        final ResultCodeResolver bar = (resultCodeType, code) -> TestResultCode.ILLEGAL_ARGUMENT;
+        final Method method = SampleService.class.getMethod("list");
+
+        final MethodReturnWrapper.Scope fooScope = MethodReturnWrapper.scope(foo);
+        Assertions.assertSame(fooScope, MethodReturnWrapper.scope(foo));
+        Assertions.assertSame(foo, fooScope.getResultCodeResolver());
+        Assertions.assertSame(fooScope.forMethod(method), MethodReturnWrapper.scope(foo).forMethod(method));
+        Assertions.assertEquals(1, fooScope.cacheStats().getSize());
+
+        final MethodReturnWrapper.Scope barScope = MethodReturnWrapper.scope(bar);
+        Assertions.assertNotSame(fooScope, barScope);
+        Assertions.assertSame(TestResultCode.SUCCESS, fooScope.forMethod(method).wrapReturn(null, null).getResultCode());
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, barScope.forMethod(method).wrapReturn(null, null).getResultCode());
+
+        Assertions.assertSame(MethodReturnWrapper.scope(null), MethodReturnWrapper.scope(null));
+
+        // Beyond the limit per resolver type the scopes are not cached and do not cache wrappers.
+        final List<MethodReturnWrapper.Scope> scopes = new ArrayList<>();
+        for (int i = 0; i <= 64; i++)
+        {
+            final TestResultCode resultCode = i % 2 == 0 ? TestResultCode.SUCCESS : TestResultCode.ILLEGAL_ARGUMENT;
+            scopes.add(MethodReturnWrapper.scope((resultCodeType, code) -> resultCode));
+        }
+        final MethodReturnWrapper.Scope uncached = scopes.get(64);
+        Assertions.assertNotSame(uncached.forMethod(method), uncached.forMethod(method));
+        Assertions.assertSame(TestResultCode.SUCCESS, uncached.forMethod(method).wrapReturn(null, null).getResultCode());
+        Assertions.assertEquals(0, uncached.cacheStats().getRequestCount());
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper.wrapDeclaredReturn(Object, Throwable) with CompletableFuture")
+    void test_wrapDeclaredReturn_async() throws Exception
+    {
+        final ResultCodeResolver resolver = (resultCodeType, code) -> "SYSTEM_ERROR".equals(code) ? TestResultCode.UNKNOWN_ERROR : TestResultCode.valueOf(code);
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.scope(resolver).forMethod(SampleService.class.getMethod("asyncList"));
+
+        final CompletableFuture<List<String>> future = new CompletableFuture<>();
+        final CompletableFuture<?> wrapped = (CompletableFuture<?>)wrapper.wrapDeclaredReturn(future, null);
+        Assertions.assertFalse(wrapped.isDone());
+        future.complete(Arrays.asList("foo", "bar"));
+        final ListResult<?, ?> success = (ListResult<?, ?>)wrapped.get();
+        Assertions.assertSame(TestResultCode.SUCCESS, success.getResultCode());
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), success.getData());
+
+        final CompletableFuture<?> business = (CompletableFuture<?>)wrapper.wrapDeclaredReturn(
+                CompletableFuture.supplyAsync(() -> {
+                    throw new BusinessException(TestResultCode.ILLEGAL_ARGUMENT);
+                }), null);
+        Assertions.assertSame(TestResultCode.ILLEGAL_ARGUMENT, ((CommonResult)business.get()).getResultCode());
+
+        final CompletableFuture<?> error = (CompletableFuture<?>)wrapper.wrapDeclaredInvocation(() -> {
+            throw new IllegalStateException();
+        });
+        Assertions.assertTrue(error.isDone());
+        Assertions.assertSame(TestResultCode.UNKNOWN_ERROR, ((CommonResult)error.get()).getResultCode());
+
+        // The stage itself cannot be wrapped as a result.
+        Assertions.assertThrows(IllegalStateException.class, () -> wrapper.wrapReturn(future, null));
+        Assertions.assertThrows(IllegalStateException.class, () -> wrapper.wrapInvocation(() -> future));
+    }
+
+    interface SampleService
+    {
+        ListResult<TestResultCode, String> list();
+
+        CompletableFuture<ListResult<TestResultCode, String>> asyncList();
+    }
+}
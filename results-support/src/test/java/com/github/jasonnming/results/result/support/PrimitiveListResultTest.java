@@ -0,0 +1,117 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.page.Pages;
+import com.github.jasonnming.results.result.generic.CommonResult;
+import com.github.jasonnming.results.result.generic.DoubleListResult;
+import com.github.jasonnming.results.result.generic.DoublePagedListResult;
+import com.github.jasonnming.results.result.generic.IntListResult;
+import com.github.jasonnming.results.result.generic.IntPagedListResult;
+import com.github.jasonnming.results.result.generic.LongListResult;
+import com.github.jasonnming.results.result.generic.LongPagedListResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class PrimitiveListResultTest
+{
+    @Test
+    @DisplayName("Primitive list results expose both primitive accessors and a boxed view")
+    void test_view()
+    {
+        final long[] data = {1L, 2L, 3L};
+        final LongListResult<TestResultCode> result = Results.longListResult(TestResultCode.SUCCESS, data);
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(2L, result.getLong(1));
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), result.getData());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> result.getData().add(4L));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> result.getLong(3));
+
+        final long[] copy = result.toLongArray();
+        Assertions.assertArrayEquals(data, copy);
+        Assertions.assertNotSame(data, copy);
+
+        final IntListResult<TestResultCode> empty = Results.builder(TestResultCode.SUCCESS).buildIntListResult((int[])null);
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertNull(empty.getData());
+        Assertions.assertNull(empty.toIntArray());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> empty.getInt(0));
+
+        final DoubleListResult<TestResultCode> doubles = Results.builder(TestResultCode.SUCCESS).message("foo").buildDoubleListResult(0.5, 1.5);
+        Assertions.assertEquals("foo", doubles.getMessage());
+        Assertions.assertEquals(1.5, doubles.getDouble(1));
+    }
+
+    @Test
+    @DisplayName("Paging properties of primitive paged list results are inferred like the boxed ones")
+    void test_paged()
+    {
+        final LongPagedListResult<TestResultCode> result = Results.longPagedListResult(TestResultCode.SUCCESS, new long[]{1L, 2L}, Pages.page(2, 2), 6L);
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals(2L, result.getPage());
+        Assertions.assertEquals(2L, result.getPageSize());
+        Assertions.assertEquals(3L, result.getTotalPage());
+        Assertions.assertTrue(result.hasNextPage());
+        Assertions.assertEquals(6L, result.getTotalSize());
+    }
+
+    @Test
+    @DisplayName("Results.of(...) accepts primitive arrays")
+    void test_of()
+    {
+        final CommonResult<TestResultCode> result = Results.of(TestResultCode.SUCCESS, null, null, new int[]{1, 2});
+        Assertions.assertTrue(result instanceof IntListResult);
+        Assertions.assertEquals(Arrays.asList(1, 2), ((IntListResult<?>)result).getData());
+    }
+
+    @Test
+    @DisplayName("Primitive list results keep their types when serialized")
+    void test_serialization() throws Exception
+    {
+        final Object list = this.copy(Results.longListResult(TestResultCode.SUCCESS, new long[]{1L, 2L}));
+        Assertions.assertEquals(DefaultLongListResult.class, list.getClass());
+        Assertions.assertArrayEquals(new long[]{1L, 2L}, ((LongListResult<?>)list).toLongArray());
+
+        final Object paged = this.copy(Results.intPagedListResult(TestResultCode.SUCCESS, new int[]{1, 2}, Pages.page(1, 2), 4L));
+        Assertions.assertEquals(DefaultIntPagedListResult.class, paged.getClass());
+        Assertions.assertArrayEquals(new int[]{1, 2}, ((IntPagedListResult<?>)paged).toIntArray());
+        Assertions.assertEquals(2L, ((IntPagedListResult<?>)paged).getTotalPage());
+        Assertions.assertTrue(((IntPagedListResult<?>)paged).hasNextPage());
+
+        final Object empty = this.copy(new DefaultDoubleListResult<>(TestResultCode.SUCCESS, null, null, null));
+        Assertions.assertEquals(DefaultDoubleListResult.class, empty.getClass());
+        Assertions.assertNull(((DoubleListResult<?>)empty).toDoubleArray());
+
+        // Longer than the initial capacity used while reading.
+        final Object large = this.copy(new DefaultDoublePagedListResult<>(TestResultCode.SUCCESS, null, null, new double[3000],
+                DefaultPagedListResult.HAS_PAGE, 1L, 0L, false, 0L, 0L));
+        Assertions.assertEquals(3000, ((DoublePagedListResult<?>)large).size());
+        Assertions.assertEquals(1L, ((DoublePagedListResult<?>)large).getPage());
+        Assertions.assertFalse(((DoublePagedListResult<?>)large).isPredictable());
+    }
+
+    private Object copy(final Object object) throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(object);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            return in.readObject();
+        }
+    }
+}
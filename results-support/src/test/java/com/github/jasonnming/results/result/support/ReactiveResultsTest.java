@@ -0,0 +1,135 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import com.github.jasonnming.results.exception.BusinessException;
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ListResult;
+import com.github.jasonnming.results.result.basic.PagedListResult;
+import com.github.jasonnming.results.result.basic.SingleResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ReactiveResultsTest
+{
+    @Test
+    @DisplayName("ReactiveResults.singleResult(Mono<? extends TElement>)")
+    void test_singleResult()
+    {
+        final SingleResult<String> success = ReactiveResults.singleResult(Mono.just("foo")).block();
+        Assertions.assertEquals(ResultCodes.SUCCESS, success.getResultCode());
+        Assertions.assertEquals("foo", success.getData());
+
+        final SingleResult<String> empty = ReactiveResults.<String>singleResult(Mono.empty()).block();
+        Assertions.assertEquals(ResultCodes.SUCCESS, empty.getResultCode());
+        Assertions.assertNull(empty.getData());
+
+        final SingleResult<String> business = ReactiveResults.<String>singleResult(Mono.error(new BusinessException(TestResultCode.ILLEGAL_ARGUMENT))).block();
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getCode(), business.getCode());
+
+        final SingleResult<String> error = ReactiveResults.<String>singleResult(Mono.error(new IllegalStateException())).block();
+        Assertions.assertEquals(ResultCodes.SYSTEM_ERROR, error.getResultCode());
+    }
+
+    @Test
+    @DisplayName("ReactiveResults.listResult(Flux<? extends TElement>)")
+    void test_listResult()
+    {
+        final ListResult<String> success = ReactiveResults.listResult(Flux.just("foo", "bar")).block();
+        Assertions.assertEquals(ResultCodes.SUCCESS, success.getResultCode());
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), success.getData());
+
+        final ListResult<String> error = ReactiveResults.listResult(Flux.concat(Flux.just("foo"), Flux.error(new IllegalStateException()))).block();
+        Assertions.assertEquals(ResultCodes.SYSTEM_ERROR, error.getResultCode());
+    }
+
+    @Test
+    @DisplayName("ReactiveResults.pagedListResults(Flux<? extends TElement>, int)")
+    void test_pagedListResults()
+    {
+        final AtomicInteger requested = new AtomicInteger();
+        final Flux<Integer> source = Flux.range(1, 5).doOnRequest(x -> requested.addAndGet((int)Math.min(x, Integer.MAX_VALUE)));
+
+        final List<PagedListResult<Integer>> pages = ReactiveResults.pagedListResults(source, 2).collectList().block();
+        Assertions.assertEquals(3, pages.size());
+        Assertions.assertEquals(Arrays.asList(1, 2), pages.get(0).getData());
+        Assertions.assertEquals(1, pages.get(0).getPage());
+        Assertions.assertEquals(2, pages.get(0).getPageSize());
+        Assertions.assertTrue(pages.get(0).hasNextPage());
+        Assertions.assertEquals(Collections.singletonList(5), pages.get(2).getData());
+        Assertions.assertEquals(3, pages.get(2).getPage());
+        Assertions.assertFalse(pages.get(2).hasNextPage());
+
+        // Only the first page (and the next one for look-ahead) is requested.
+        requested.set(0);
+        final List<PagedListResult<Integer>> received = new ArrayList<>();
+        ReactiveResults.pagedListResults(Flux.range(1, 100).doOnRequest(x -> requested.addAndGet((int)Math.min(x, Integer.MAX_VALUE))), 2)
+                .subscribe(new BaseSubscriber<PagedListResult<Integer>>()
+                {
+                    @Override
+                    protected void hookOnSubscribe(final Subscription subscription)
+                    {
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnNext(final PagedListResult<Integer> value)
+                    {
+                        received.add(value);
+                    }
+                });
+        Assertions.assertEquals(1, received.size());
+        Assertions.assertTrue(requested.get() <= 8, "requested: " + requested.get());
+
+        final List<PagedListResult<Integer>> empty = ReactiveResults.<Integer>pagedListResults(Flux.empty(), 2).collectList().block();
+        Assertions.assertEquals(1, empty.size());
+        Assertions.assertEquals(Collections.emptyList(), empty.get(0).getData());
+        Assertions.assertFalse(empty.get(0).hasNextPage());
+    }
+
+    @Test
+    @DisplayName("MethodReturnWrapper.wrapDeclaredReturn(Object, Throwable) with Mono/Flux")
+    void test_wrapDeclaredReturn() throws NoSuchMethodException
+    {
+        final MethodReturnWrapper monoWrapper = MethodReturnWrapper.forMethod(SampleService.class.getMethod("mono"));
+        final Mono<?> mono = (Mono<?>)monoWrapper.wrapDeclaredReturn(Mono.just("foo"), null);
+        Assertions.assertEquals("foo", ((SingleResult<?>)mono.block()).getData());
+
+        final MethodReturnWrapper fluxWrapper = MethodReturnWrapper.forMethod(SampleService.class.getMethod("flux"));
+        final Flux<?> flux = (Flux<?>)fluxWrapper.wrapDeclaredInvocation(() -> Flux.just("foo", "bar"));
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), ((ListResult<?>)flux.blockLast()).getData());
+
+        final Flux<?> thrown = (Flux<?>)fluxWrapper.wrapDeclaredInvocation(() -> {
+            throw new BusinessException(TestResultCode.ILLEGAL_ARGUMENT);
+        });
+        Assertions.assertEquals(TestResultCode.ILLEGAL_ARGUMENT.getCode(), ((CommonResult)thrown.blockLast()).getCode());
+
+        // The publisher itself cannot be wrapped as a result.
+        Assertions.assertThrows(IllegalStateException.class, () -> monoWrapper.wrapReturn(Mono.just("foo"), null));
+        Assertions.assertThrows(IllegalStateException.class, () -> fluxWrapper.wrapInvocation(() -> Flux.just("foo")));
+    }
+
+    interface SampleService
+    {
+        Mono<String> mono();
+
+        Flux<String> flux();
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.jasonnming.results.result.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.result.basic.ResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultCodesTest
+{
+    @Test
+    @DisplayName("ResultCodes.of(String)")
+    void test_of()
+    {
+        Assertions.assertSame(ResultCodes.SUCCESS, ResultCodes.of("SUCCESS"));
+        Assertions.assertSame(ResultCodes.DATA_NOT_EXIST, ResultCodes.of("DATA_NOT_EXIST"));
+
+        final ResultCode foo = ResultCodes.of("RESULT_CODES_TEST_FOO");
+        Assertions.assertEquals("RESULT_CODES_TEST_FOO", foo.getCode());
+        Assertions.assertSame(foo, ResultCodes.of("RESULT_CODES_TEST_FOO"));
+
+        Assertions.assertNull(ResultCodes.of(null).getCode());
+    }
+
+    @Test
+    @DisplayName("ResultCodeRegistry.of(String, int)")
+    void test_of_bounded()
+    {
+        final ResultCode overflow = ResultCodeRegistry.of("RESULT_CODES_TEST_OVERFLOW", 0);
+        Assertions.assertNotSame(overflow, ResultCodeRegistry.of("RESULT_CODES_TEST_OVERFLOW", 0));
+        Assertions.assertEquals(overflow, ResultCodeRegistry.of("RESULT_CODES_TEST_OVERFLOW", 0));
+
+        // Registered codes are always returned.
+        Assertions.assertSame(ResultCodes.SUCCESS, ResultCodeRegistry.of("SUCCESS", 0));
+    }
+
+    @Test
+    @DisplayName("ResultCodes.register(TResultCode)")
+    void test_register()
+    {
+        final ResultCode bar = ResultCodes.register(new DefaultResultCode("RESULT_CODES_TEST_BAR", "bar"));
+        Assertions.assertSame(bar, ResultCodes.of("RESULT_CODES_TEST_BAR"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ResultCodes.register(null));
+
+        // Predefined result codes cannot be overridden.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ResultCodes.register(new DefaultResultCode("SUCCESS", "foo")));
+        Assertions.assertSame(ResultCodes.SUCCESS, ResultCodes.register(ResultCodes.SUCCESS));
+        Assertions.assertSame(ResultCodes.SUCCESS, ResultCodes.of("SUCCESS"));
+    }
+
+    @Test
+    @DisplayName("ResultCodes.lookup(String)")
+    void test_lookup()
+    {
+        Assertions.assertSame(ResultCodes.SUCCESS, ResultCodes.lookup("SUCCESS"));
+        Assertions.assertSame(ResultCodes.of("RESULT_CODES_TEST_INTERNED"), ResultCodes.lookup("RESULT_CODES_TEST_INTERNED"));
+
+        // Unknown codes are not interned.
+        final ResultCode unknown = ResultCodes.lookup("RESULT_CODES_TEST_UNKNOWN");
+        Assertions.assertEquals("RESULT_CODES_TEST_UNKNOWN", unknown.getCode());
+        Assertions.assertNull(ResultCodeRegistry.get("RESULT_CODES_TEST_UNKNOWN"));
+        Assertions.assertNull(ResultCodes.lookup(null).getCode());
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.DataContainer;
+import com.github.jasonnming.results.result.generic.CollectionResult;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.generic.SetResult;
+import com.github.jasonnming.results.result.generic.SingleResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class ResultFactoryGeneratorTest
+{
+    @ParameterizedTest
+    @MethodSource("args_generate")
+    @DisplayName("ResultFactoryGenerator.generate(Class<?>)")
+    void test_generate(final Class<? extends CommonResult> resultType, final Class<?> concreteType, final Object data)
+    {
+        final DataResultFactory<?> factory = ResultFactoryGenerator.generate(resultType);
+        Assertions.assertNotNull(factory);
+
+        final CommonResult result = factory.create(TestResultCode.SUCCESS, null, "bar", data);
+        Assertions.assertTrue(concreteType.isInstance(result));
+        Assertions.assertEquals(TestResultCode.SUCCESS, result.getResultCode());
+        Assertions.assertEquals(TestResultCode.SUCCESS.getMessage(), result.getMessage());
+        Assertions.assertEquals("bar", result.getDebugMessage());
+        if (result instanceof DataContainer)
+        {
+            Assertions.assertSame(data, ((DataContainer<?>)result).getData());
+        }
+    }
+
+    @Test
+    void test_generate_unsupported()
+    {
+        Assertions.assertNull(ResultFactoryGenerator.generate(Object.class));
+    }
+
+    @Test
+    @DisplayName("Registered factories take precedence over generated factories")
+    @SuppressWarnings("unchecked")
+    void test_generate_registered()
+    {
+        final Class<com.github.jasonnming.results.result.basic.SetResult> resultType = com.github.jasonnming.results.result.basic.SetResult.class;
+        final MethodReturnWrapper wrapper = MethodReturnWrapper.forResultType(resultType);
+        final MethodReturnWrapper generated = MethodReturnWrapper.generate(wrapper, resultType);
+        Assertions.assertNotSame(wrapper, generated);
+
+        // The registered factory creates the same results as the builtin one, so other tests are not affected.
+        final AtomicInteger created = new AtomicInteger();
+        Results.registerFactory(resultType, (resultCode, message, debugMessage, data) -> {
+            created.incrementAndGet();
+            return (com.github.jasonnming.results.result.basic.SetResult<Object>)(Object)new DefaultSetResult<>(resultCode, message, debugMessage, (Set<Object>)data);
+        });
+
+        // The generated wrapper does not check the registration, it is rebuilt on refresh.
+        generated.resolveResult(TestResultCode.SUCCESS, Collections.singleton("foo"));
+        Assertions.assertEquals(0, created.get());
+        final MethodReturnWrapper refreshed = generated.refresh();
+        Assertions.assertSame(wrapper, refreshed);
+        Assertions.assertSame(refreshed, refreshed.refresh());
+        refreshed.resolveResult(TestResultCode.SUCCESS, Collections.singleton("foo"));
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertSame(wrapper, MethodReturnWrapper.generate(wrapper, resultType));
+    }
+
+    private static Stream<Arguments> args_generate()
+    {
+        final List<String> list = Arrays.asList("foo", "bar");
+        return Stream.of(
+                Arguments.of(com.github.jasonnming.results.result.basic.CommonResult.class, DefaultCommonResult.class, null),
+                Arguments.of(com.github.jasonnming.results.result.basic.SingleResult.class, DefaultSingleResult.class, "foo"),
+                Arguments.of(com.github.jasonnming.results.result.basic.PagedListResult.class, DefaultPagedListResult.class, list),
+                Arguments.of(com.github.jasonnming.results.result.generic.CommonResult.class, DefaultCommonResult.class, null),
+                Arguments.of(SingleResult.class, DefaultSingleResult.class, "foo"),
+                Arguments.of(CollectionResult.class, DefaultListResult.class, list),
+                Arguments.of(ListResult.class, DefaultListResult.class, list),
+                Arguments.of(PagedListResult.class, DefaultPagedListResult.class, list),
+                Arguments.of(SetResult.class, DefaultSetResult.class, Collections.singleton("foo")),
+                Arguments.of(MapResult.class, DefaultMapResult.class, Collections.singletonMap("foo", "bar"))
+        );
+    }
+}
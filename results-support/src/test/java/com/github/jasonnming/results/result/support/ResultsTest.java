@@ -1,13 +1,25 @@
 package com.github.jasonnming.results.result.support;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.github.jasonnming.results.result.basic.DataContainer;
+import com.github.jasonnming.results.result.basic.ResultCode;
 import com.github.jasonnming.results.result.generic.CollectionResult;
 import com.github.jasonnming.results.result.generic.CommonResult;
 import com.github.jasonnming.results.result.generic.ListResult;
@@ -63,6 +75,112 @@ class ResultsTest
         Assertions.assertEquals("bar", result.getDebugMessage());
     }
 
+    @ParameterizedTest
+    @MethodSource("args_of")
+    @DisplayName("Results.of(java.lang.Class<? extends TResult>, TResultCode, String, String, Object)")
+    void test_of_data(final Class<? extends com.github.jasonnming.results.result.basic.CommonResult> resultType, final Class<?> concreteType)
+    {
+        final Object data = data(concreteType);
+        final com.github.jasonnming.results.result.basic.CommonResult result = Results.of(resultType, TestResultCode.SUCCESS, "foo", "bar", data);
+        Assertions.assertTrue(concreteType.isInstance(result));
+        Assertions.assertEquals(TestResultCode.SUCCESS, result.getResultCode());
+        Assertions.assertEquals("foo", result.getMessage());
+        Assertions.assertEquals("bar", result.getDebugMessage());
+        if (result instanceof DataContainer)
+        {
+            Assertions.assertSame(data, ((DataContainer<?>)result).getData());
+        }
+    }
+
+    @Test
+    @DisplayName("Results.registerFactory(java.lang.Class<TResult>, DataResultFactory<? extends TResult>)")
+    void test_registerFactory()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Results.of(CustomResult.class, TestResultCode.SUCCESS));
+
+        Results.registerFactory(CustomResult.class, (resultCode, message, debugMessage, data) -> new CustomResult(resultCode, message, debugMessage));
+        final CustomResult result = Results.of(CustomResult.class, TestResultCode.SUCCESS, "foo", "bar", null);
+        Assertions.assertEquals(TestResultCode.SUCCESS, result.getResultCode());
+        Assertions.assertEquals("foo", result.getMessage());
+        Assertions.assertEquals("bar", result.getDebugMessage());
+    }
+
+    @Test
+    @DisplayName("CommonResultBuilder.data/dataOwned/dataView(java.util.List<TElement>)")
+    void test_builder_list()
+    {
+        final List<String> data = new ArrayList<>(Arrays.asList("foo", "bar"));
+
+        final ListResult<TestResultCode, String> copied = Results.builder(TestResultCode.SUCCESS).data(data).build();
+        Assertions.assertNotSame(data, copied.getData());
+        Assertions.assertEquals(data, copied.getData());
+
+        Assertions.assertSame(data, Results.builder(TestResultCode.SUCCESS).dataOwned(data).build().getData());
+        Assertions.assertSame(data, Results.builder(TestResultCode.SUCCESS).dataOwned(data).page(1, 2).totalSize(2).build().getData());
+        Assertions.assertNull(Results.builder(TestResultCode.SUCCESS).dataOwned(null).build().getData());
+
+        final ListResult<TestResultCode, String> view = Results.builder(TestResultCode.SUCCESS).dataView(data).build();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.getData().add("baz"));
+        data.add("baz");
+        Assertions.assertEquals(Arrays.asList("foo", "bar", "baz"), view.getData());
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), copied.getData());
+        Assertions.assertNull(Results.builder(TestResultCode.SUCCESS).dataView(null).build().getData());
+    }
+
+    @Test
+    @DisplayName("CollectionResultBuilder.parallel(int).toMapResult(Function<TElement, TKey>)")
+    void test_builder_toMapResult()
+    {
+        final Collection<Integer> data = IntStream.range(0, 1000).boxed().collect(Collectors.toSet());
+        final Map<Integer, Integer> expected = data.stream().collect(Collectors.toMap(x -> x, x -> x * 2));
+
+        final MapResult<TestResultCode, Integer, Integer> sequential = Results.builder(TestResultCode.SUCCESS).data(data).parallel(1001).toMapResult(x -> x, x -> x * 2).build();
+        Assertions.assertEquals(HashMap.class, sequential.getData().getClass());
+        Assertions.assertEquals(expected, sequential.getData());
+
+        final MapResult<TestResultCode, Integer, Integer> parallel = Results.builder(TestResultCode.SUCCESS).data(data).parallel(1000).toMapResult(x -> x, x -> x * 2).build();
+        Assertions.assertEquals(HashMap.class, parallel.getData().getClass());
+        Assertions.assertEquals(expected, parallel.getData());
+        Assertions.assertNull(parallel.getData().get(null));
+        Assertions.assertFalse(parallel.getData().containsKey(null));
+
+        // Random access lists are indexed in place instead of being copied.
+        final MapResult<TestResultCode, Integer, Integer> parallelList = Results.builder(TestResultCode.SUCCESS).data((Collection<Integer>)new ArrayList<>(data)).parallel(0).toMapResult(x -> x, x -> x * 2).build();
+        Assertions.assertEquals(expected, parallelList.getData());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> Results.builder(TestResultCode.SUCCESS).data(data).toMapResult(x -> x % 10).build());
+        Assertions.assertThrows(IllegalStateException.class, () -> Results.builder(TestResultCode.SUCCESS).data(data).parallel(0).toMapResult(x -> x % 10).build());
+        Assertions.assertThrows(NullPointerException.class, () -> Results.builder(TestResultCode.SUCCESS).data(data).toMapResult(x -> x, x -> null).build());
+        Assertions.assertThrows(NullPointerException.class, () -> Results.builder(TestResultCode.SUCCESS).data(data).parallel(0).toMapResult(x -> x, x -> null).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Results.builder(TestResultCode.SUCCESS).data(data).parallel(-1));
+
+        // Null keys are accepted by both paths.
+        final MapResult<TestResultCode, Integer, Integer> nullKeyedResult = Results.builder(TestResultCode.SUCCESS).data(data).parallel(0).toMapResult(x -> x != 0 ? x : null, x -> x * 2).build();
+        final Map<Integer, ? extends Integer> nullKeyed = nullKeyedResult.getData();
+        Assertions.assertEquals(sequential.getData().size(), nullKeyed.size());
+        Assertions.assertEquals(Integer.valueOf(0), nullKeyed.get(null));
+        Assertions.assertEquals(Integer.valueOf(2), nullKeyed.get(1));
+        final MapResult<TestResultCode, Integer, Integer> sequentialNullKeyed = Results.builder(TestResultCode.SUCCESS).data(data).toMapResult(x -> x != 0 ? x : null, x -> x * 2).build();
+        Assertions.assertEquals(nullKeyed, sequentialNullKeyed.getData());
+    }
+
+    private static Object data(final Class<?> concreteType)
+    {
+        if (concreteType == DefaultSetResult.class)
+        {
+            return Collections.singleton("foo");
+        }
+        if (concreteType == DefaultMapResult.class)
+        {
+            return Collections.singletonMap("foo", "bar");
+        }
+        if (concreteType == DefaultCommonResult.class)
+        {
+            return null;
+        }
+        return Arrays.asList("foo", "bar");
+    }
+
     private static Stream<Arguments> args_of()
     {
         return Stream.of(
@@ -82,4 +200,14 @@ class ResultsTest
                 Arguments.of(MapResult.class, DefaultMapResult.class)
         );
     }
-}
\ No newline at end of file
+
+    private static final class CustomResult extends DefaultCommonResult<ResultCode>
+    {
+        private static final long serialVersionUID = 1L;
+
+        CustomResult(final ResultCode resultCode, final String message, final String debugMessage)
+        {
+            super(resultCode, message, debugMessage);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.jasonnming.results.result.support;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.result.basic.CommonResult;
+import com.github.jasonnming.results.result.basic.ResultCode;
+import com.github.jasonnming.results.result.basic.WithMessage;
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.MapResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class SharedResultsTest
+{
+    @Test
+    @DisplayName("Results without data and with default messages are shared")
+    void test_shared()
+    {
+        final CommonResult result = Results.commonResult(TestResultCode.SUCCESS);
+        Assertions.assertSame(result, Results.commonResult(TestResultCode.SUCCESS));
+        Assertions.assertSame(result, Results.commonResult(TestResultCode.SUCCESS, TestResultCode.SUCCESS.getMessage(), TestResultCode.SUCCESS.getDebugMessage()));
+        Assertions.assertSame(result, Results.of(com.github.jasonnming.results.result.basic.CommonResult.class, TestResultCode.SUCCESS));
+        Assertions.assertEquals(TestResultCode.SUCCESS.getMessage(), result.getMessage());
+
+        Assertions.assertSame(Results.listResult(TestResultCode.SUCCESS), Results.of(ListResult.class, TestResultCode.SUCCESS, null, null, null));
+        Assertions.assertNotSame(result, Results.listResult(TestResultCode.SUCCESS));
+
+        // Non-default messages are never shared.
+        final CommonResult custom = Results.commonResult(TestResultCode.SUCCESS, "foo");
+        Assertions.assertNotSame(custom, Results.commonResult(TestResultCode.SUCCESS, "foo"));
+        Assertions.assertEquals("foo", custom.getMessage());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Results.commonResult(null));
+    }
+
+    @Test
+    @DisplayName("Results are shared by the identity of result codes")
+    void test_identity()
+    {
+        final DefaultResultCode foo = new DefaultResultCode("SHARED_RESULTS_TEST", "foo");
+        final DefaultResultCode bar = new DefaultResultCode("SHARED_RESULTS_TEST", "bar");
+        Assertions.assertEquals(foo, bar);
+
+        Assertions.assertSame(Results.commonResult(foo), Results.commonResult(foo));
+        Assertions.assertEquals("bar", Results.commonResult(bar).getMessage());
+        Assertions.assertSame(foo, Results.commonResult(foo).getResultCode());
+    }
+
+    @Test
+    @DisplayName("Results are not shared once the default messages of the result code change")
+    void test_contextualMessage()
+    {
+        final AtomicReference<String> locale = new AtomicReference<>("zh");
+        final ResultCode resultCode = new ContextualResultCode(locale);
+
+        final CommonResult zh = Results.commonResult(resultCode);
+        Assertions.assertSame(zh, Results.commonResult(resultCode));
+
+        locale.set("en");
+        final CommonResult en = Results.commonResult(resultCode);
+        Assertions.assertEquals("message in en", en.getMessage());
+        Assertions.assertEquals("message in zh", zh.getMessage());
+
+        locale.set("zh");
+        Assertions.assertSame(zh, Results.commonResult(resultCode));
+    }
+
+    @Test
+    @DisplayName("SharedResults is bounded")
+    void test_bounded()
+    {
+        final SharedResults sharedResults = new SharedResults((resultCode, message, debugMessage, data) -> new DefaultCommonResult<>(resultCode, message, debugMessage), 1);
+        Assertions.assertSame(sharedResults.<CommonResult>get(TestResultCode.SUCCESS), sharedResults.<CommonResult>get(TestResultCode.SUCCESS));
+        Assertions.assertNotSame(sharedResults.<CommonResult>get(TestResultCode.ILLEGAL_ARGUMENT), sharedResults.<CommonResult>get(TestResultCode.ILLEGAL_ARGUMENT));
+        Assertions.assertEquals(1, sharedResults.size(TestResultCode.class));
+        Assertions.assertEquals(0, sharedResults.size(DefaultResultCode.class));
+    }
+
+    @Test
+    @DisplayName("Results.emptyXxxResult(TResultCode)")
+    void test_empty()
+    {
+        final ListResult<TestResultCode, String> list = Results.emptyListResult(TestResultCode.ILLEGAL_ARGUMENT);
+        Assertions.assertSame(list, Results.emptyListResult(TestResultCode.ILLEGAL_ARGUMENT));
+        Assertions.assertTrue(list.getData().isEmpty());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.getData().add("foo"));
+
+        Assertions.assertTrue(Results.emptySetResult(TestResultCode.ILLEGAL_ARGUMENT).getData().isEmpty());
+
+        final MapResult<TestResultCode, String, String> map = Results.emptyMapResult(TestResultCode.ILLEGAL_ARGUMENT);
+        Assertions.assertSame(map, Results.emptyMapResult(TestResultCode.ILLEGAL_ARGUMENT));
+        Assertions.assertTrue(map.getData().isEmpty());
+    }
+
+    private static final class ContextualResultCode implements ResultCode, WithMessage
+    {
+        private final AtomicReference<String> locale;
+
+        private ContextualResultCode(final AtomicReference<String> locale)
+        {
+            this.locale = locale;
+        }
+
+        @Override
+        public String getCode()
+        {
+            return "CONTEXTUAL";
+        }
+
+        @Override
+        public String getMessage()
+        {
+            return "message in " + this.locale.get();
+        }
+    }
+}
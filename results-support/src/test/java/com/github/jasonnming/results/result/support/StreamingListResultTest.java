@@ -0,0 +1,158 @@
+package com.github.jasonnming.results.result.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.jasonnming.results.result.generic.ListResult;
+import com.github.jasonnming.results.result.generic.PagedListResult;
+import com.github.jasonnming.results.result.generic.StreamingListResult;
+import com.github.jasonnming.results.result.test.TestResultCode;
+
+/**
+ * @author MiNG
+ * @version 1.0.0
+ * @since 1.0.0 (2026-10-18)
+ */
+class StreamingListResultTest
+{
+    private static ListResult<?, ?> roundTrip(final ListResult<?, ?> result) throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(result);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            return (ListResult<?, ?>)in.readObject();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TElement> StreamingListResult<TestResultCode, TElement> streaming(final ListResult<TestResultCode, TElement> result)
+    {
+        return (StreamingListResult<TestResultCode, TElement>)result;
+    }
+
+    @Test
+    @DisplayName("Streaming data is read once from the source, which is then closed")
+    void test_stream()
+    {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StreamingListResult<TestResultCode, Integer> result = streaming(Results.builder(TestResultCode.SUCCESS)
+                .dataStream(IntStream.range(0, 1000).boxed().onClose(() -> closed.set(true)))
+                .build());
+        Assertions.assertFalse(closed.get());
+
+        final List<Integer> data = new ArrayList<>();
+        result.iterator().forEachRemaining(data::add);
+        Assertions.assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), data);
+        Assertions.assertTrue(closed.get());
+        Assertions.assertThrows(IllegalStateException.class, result::iterator);
+        Assertions.assertThrows(IllegalStateException.class, result::getData);
+
+        final StreamingListResult<TestResultCode, String> stream = streaming(Results.builder(TestResultCode.SUCCESS).dataStream(Stream.of("a", "b")).build());
+        // The size of a SIZED source is exact.
+        Assertions.assertEquals(2L, stream.sizeHint());
+        Assertions.assertEquals(-1L, streaming(Results.builder(TestResultCode.SUCCESS).dataStream(Collections.emptyIterator(), -5).build()).sizeHint());
+        Assertions.assertEquals(Arrays.asList("a", "b"), stream.stream().collect(Collectors.toList()));
+        Assertions.assertThrows(IllegalStateException.class, stream::stream);
+    }
+
+    @Test
+    @DisplayName("getData() drains the source into a list of the exact size")
+    void test_getData()
+    {
+        final StreamingListResult<TestResultCode, Integer> unsized = streaming(Results.builder(TestResultCode.SUCCESS)
+                .dataStream(Stream.of(1, 2, 3).filter(x -> x > 1))
+                .build());
+        Assertions.assertEquals(-1L, unsized.sizeHint());
+        final List<Integer> data = unsized.getData();
+        Assertions.assertEquals(2L, unsized.sizeHint());
+        Assertions.assertEquals(2, data.size());
+        Assertions.assertEquals(Arrays.asList(2, 3), data);
+        Assertions.assertSame(data, unsized.getData());
+        // The drained data can still be read through the streaming methods.
+        Assertions.assertEquals(Arrays.asList(2, 3), unsized.stream().collect(Collectors.toList()));
+
+        final PagedListResult<TestResultCode, Integer> paged = Results.builder(TestResultCode.SUCCESS)
+                .dataStream(Arrays.asList(1, 2, 3).iterator(), 10)
+                .page(1, 10)
+                .build();
+        Assertions.assertTrue(paged instanceof StreamingListResult);
+        Assertions.assertEquals(10L, ((StreamingListResult<?, ?>)paged).sizeHint());
+        Assertions.assertEquals(3, paged.getData().size());
+        Assertions.assertEquals(1L, paged.getPage());
+
+        final List<Object> unknown = Results.builder(TestResultCode.SUCCESS).dataStream(Arrays.<Object>asList(4, 5).iterator(), -1).build().getData();
+        Assertions.assertEquals(Arrays.asList(4, 5), unknown);
+        Assertions.assertEquals(Arrays.asList(4, 5), Arrays.asList(unknown.toArray()));
+
+        final ListResult<TestResultCode, Object> none = Results.builder(TestResultCode.SUCCESS).dataStream(null).build();
+        Assertions.assertFalse(none instanceof StreamingListResult);
+        Assertions.assertNull(none.getData());
+    }
+
+    @Test
+    @DisplayName("The source is closed when reading fails or by close()")
+    void test_close()
+    {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StreamingListResult<TestResultCode, Integer> failing = streaming(Results.builder(TestResultCode.SUCCESS)
+                .dataStream(Stream.of(1, 0).map(x -> 1 / x).onClose(() -> closed.set(true)))
+                .build());
+        final Iterator<Integer> iterator = failing.iterator();
+        Assertions.assertEquals(Integer.valueOf(1), iterator.next());
+        Assertions.assertThrows(ArithmeticException.class, iterator::next);
+        Assertions.assertTrue(closed.get());
+
+        closed.set(false);
+        final StreamingListResult<TestResultCode, Integer> unconsumed = streaming(Results.builder(TestResultCode.SUCCESS)
+                .dataStream(Stream.of(1, 2).onClose(() -> closed.set(true)))
+                .build());
+        Results.closeData(unconsumed);
+        Assertions.assertTrue(closed.get());
+        Assertions.assertThrows(IllegalStateException.class, unconsumed::getData);
+        unconsumed.close();
+        Results.closeData(Results.listResult(TestResultCode.SUCCESS, Arrays.asList(1, 2)));
+        Results.closeData(null);
+    }
+
+    @Test
+    @DisplayName("Streaming data is written in chunks by Java serialization")
+    void test_serialization() throws Exception
+    {
+        final ListResult<TestResultCode, String> streaming = Results.builder(TestResultCode.SUCCESS).dataStream(Stream.of("foo", "bar")).build();
+        final ListResult<?, ?> result = roundTrip(streaming);
+        Assertions.assertEquals(DefaultListResult.class, result.getClass());
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), result.getData());
+        // The source is read by its iterator rather than drained into a list.
+        Assertions.assertThrows(IllegalStateException.class, streaming::getData);
+
+        final ListResult<?, ?> paged = roundTrip(Results.builder(TestResultCode.SUCCESS).dataStream(Arrays.asList("a", "b", "c").iterator(), 10).page(1, 10).build());
+        Assertions.assertEquals(DefaultPagedListResult.class, paged.getClass());
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), paged.getData());
+        Assertions.assertEquals(Arrays.asList("b", "c"),
+                roundTrip(Results.builder(TestResultCode.SUCCESS).dataStream(Stream.of("a", "b", "c").filter(x -> !x.equals("a"))).build()).getData());
+
+        // Across several chunks, and with an empty source.
+        final List<Integer> large = IntStream.range(0, 2500).mapToObj(x -> x % 7 == 0 ? null : x).collect(Collectors.toList());
+        Assertions.assertEquals(large, roundTrip(Results.builder(TestResultCode.SUCCESS).dataStream(large.iterator(), -1).build()).getData());
+        Assertions.assertEquals(Collections.emptyList(), roundTrip(Results.builder(TestResultCode.SUCCESS).dataStream(Stream.empty()).build()).getData());
+    }
+}